@@ -76,6 +76,7 @@ dependencies {
         api("org.bouncycastle:bcprov-jdk18on:1.85")
         api("org.gaul:s3proxy:3.3.0")
         api("org.graalvm.nativeimage:svm:25.0.3")
+        api("org.hdrhistogram:HdrHistogram:2.2.2")
         api("org.hiero.block-node:protobuf-sources:$blockNodeVersion")
         api("org.hyperledger.besu:secp256k1:0.8.2")
         api("org.hyperledger.besu:besu-datatypes:$besuVersion")
@@ -0,0 +1,60 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain.token;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The total supply of a token after each transaction that changed it, so the supply at any timestamp is the latest row
+ * at or before it.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // For builder
+@Builder(toBuilder = true)
+@Data
+@Entity
+@IdClass(TokenSupplyHistory.Id.class)
+@NoArgsConstructor
+public class TokenSupplyHistory implements Persistable<TokenSupplyHistory.Id> {
+
+    @jakarta.persistence.Id
+    private long consensusTimestamp;
+
+    @jakarta.persistence.Id
+    private long tokenId;
+
+    private long totalSupply;
+
+    @JsonIgnore
+    @Override
+    public Id getId() {
+        Id id = new Id();
+        id.setConsensusTimestamp(consensusTimestamp);
+        id.setTokenId(tokenId);
+        return id;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return true; // Since we never update and use a natural ID, avoid Hibernate querying before insert
+    }
+
+    @Data
+    public static class Id implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 5371062487352903371L;
+
+        private long consensusTimestamp;
+        private long tokenId;
+    }
+}
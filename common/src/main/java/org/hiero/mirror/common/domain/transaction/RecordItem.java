@@ -23,7 +23,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import lombok.AccessLevel;
@@ -36,7 +35,6 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.Value;
 import lombok.experimental.NonFinal;
-import org.apache.commons.codec.binary.Hex;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.StreamItem;
 import org.hiero.mirror.common.domain.contract.ContractTransaction;
@@ -76,14 +74,23 @@ public class RecordItem implements StreamItem {
     private final RecordItem parent;
     private final EntityId payerAccountId;
     private final RecordItem previous;
-    private final SignatureMap signatureMap;
     private final boolean successful;
     private final Transaction transaction;
-    private final TransactionBody transactionBody;
     private final int transactionIndex;
     private final TransactionRecord transactionRecord;
     private final int transactionType;
 
+    // Parsed from the transaction on first access since many items are filtered out before they're needed
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    private SignatureMap signatureMap;
+
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    private TransactionBody transactionBody;
+
     @Setter
     @EqualsAndHashCode.Exclude
     @NonFinal
@@ -192,6 +199,46 @@ public class RecordItem implements StreamItem {
                 .build());
     }
 
+    /**
+     * Gets the signature map of the transaction, parsing it on first access. Parsing is idempotent, so concurrent first
+     * accesses at worst parse it twice.
+     *
+     * @return the signature map
+     */
+    @SuppressWarnings("deprecation")
+    public SignatureMap getSignatureMap() {
+        if (signatureMap == null) {
+            try {
+                var signedTransactionBytes = transaction.getSignedTransactionBytes();
+                signatureMap = !signedTransactionBytes.isEmpty()
+                        ? SignedTransaction.parseFrom(signedTransactionBytes).getSigMap()
+                        : transaction.getSigMap();
+            } catch (InvalidProtocolBufferException e) {
+                throw new ProtobufException(BAD_TRANSACTION_BYTES_MESSAGE, e);
+            }
+        }
+
+        return signatureMap;
+    }
+
+    /**
+     * Gets the body of the transaction, parsing it on first access. Parsing is idempotent, so concurrent first accesses
+     * at worst parse it twice.
+     *
+     * @return the transaction body
+     */
+    public TransactionBody getTransactionBody() {
+        if (transactionBody == null) {
+            try {
+                transactionBody = TransactionBody.parseFrom(TransactionHeader.getBodyBytes(transaction));
+            } catch (InvalidProtocolBufferException e) {
+                throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE, e);
+            }
+        }
+
+        return transactionBody;
+    }
+
     public Map<Long, EntityTransaction> getEntityTransactions() {
         if (entityTransactions == null) {
             entityTransactions = new HashMap<>();
@@ -251,7 +298,7 @@ public class RecordItem implements StreamItem {
 
     // Whether we have a FileUpdate transaction that is paid by the system account 0.0.50
     private boolean isSystemFileUpdate() {
-        return transactionBody.hasFileUpdate()
+        return getTransactionBody().hasFileUpdate()
                 && EntityId.of(
                                 CommonProperties.getInstance().getShard(),
                                 CommonProperties.getInstance().getRealm(),
@@ -322,13 +369,13 @@ public class RecordItem implements StreamItem {
                 transactionRecord = transactionRecordBuilder.build();
             }
 
-            parseTransaction();
+            var header = parseTransaction();
             this.consensusTimestamp = DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
             this.parent = parseParent();
             this.hookParent = parsePossiblyHookContractRelatedParent();
-            this.payerAccountId = EntityId.of(transactionBody.getTransactionID().getAccountID());
+            this.payerAccountId = header.payerAccountId();
             this.successful = parseSuccess();
-            this.transactionType = parseTransactionType(transactionBody);
+            this.transactionType = header.transactionType();
             return buildInternal();
         }
 
@@ -420,8 +467,9 @@ public class RecordItem implements StreamItem {
         }
 
         /**
-         * Parses the transaction into separate TransactionBody and SignatureMap objects. Necessary since the
-         * Transaction payload has changed incompatibly multiple times over its lifetime.
+         * Parses the header fields of the transaction needed up front. Necessary since the Transaction payload has
+         * changed incompatibly multiple times over its lifetime. When the body is serialized, only its header is
+         * decoded here and the body and signatures are parsed on first access.
          * <p>
          * Not possible to check the existence of bodyBytes or signedTransactionBytes fields since there are no
          * 'hasBodyBytes()' or 'hasSignedTransactionBytes()` methods. If unset, they return empty ByteString which
@@ -429,55 +477,27 @@ public class RecordItem implements StreamItem {
          * (non-empty) TransactionBody.
          */
         @SuppressWarnings("deprecation")
-        private void parseTransaction() {
-            if (transactionBody == null || signatureMap == null) {
-                try {
-                    if (!transaction.getSignedTransactionBytes().equals(ByteString.EMPTY)) {
-                        var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                        this.transactionBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
-                        this.signatureMap = signedTransaction.getSigMap();
-                    } else if (!transaction.getBodyBytes().equals(ByteString.EMPTY)) {
-                        this.transactionBody = TransactionBody.parseFrom(transaction.getBodyBytes());
-                        this.signatureMap = transaction.getSigMap();
-                    } else if (transaction.hasBody()) {
-                        this.transactionBody = transaction.getBody();
-                        this.signatureMap = transaction.getSigMap();
-                    }
-                } catch (InvalidProtocolBufferException e) {
-                    throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE, e);
-                }
-            }
-
-            if (transactionBody == null || signatureMap == null) {
-                throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE);
+        private TransactionHeader parseTransaction() {
+            if (transactionBody != null && signatureMap != null) {
+                return TransactionHeader.of(transactionBody);
             }
-        }
 
-        /**
-         * Because body.getDataCase() can return null for unknown transaction types, we instead get oneof generically
-         *
-         * @return The protobuf ID that represents the transaction type
-         */
-        private int parseTransactionType(TransactionBody body) {
-            TransactionBody.DataCase dataCase = body.getDataCase();
-
-            if (dataCase == null || dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
-                Set<Integer> unknownFields = body.getUnknownFields().asMap().keySet();
-
-                if (unknownFields.size() != 1) {
-                    log.error(
-                            "Unable to guess correct transaction type since there's not exactly one unknown field {}: {}",
-                            unknownFields,
-                            Hex.encodeHexString(body.toByteArray()));
-                    return TransactionBody.DataCase.DATA_NOT_SET.getNumber();
+            try {
+                if (!transaction.getSignedTransactionBytes().equals(ByteString.EMPTY)
+                        || !transaction.getBodyBytes().equals(ByteString.EMPTY)) {
+                    this.transactionBody = null;
+                    this.signatureMap = null;
+                    return TransactionHeader.parse(TransactionHeader.getBodyBytes(transaction));
+                } else if (transaction.hasBody()) {
+                    this.transactionBody = transaction.getBody();
+                    this.signatureMap = transaction.getSigMap();
+                    return TransactionHeader.of(transactionBody);
                 }
-
-                int genericTransactionType = unknownFields.iterator().next();
-                log.warn("Encountered unknown transaction type: {}", genericTransactionType);
-                return genericTransactionType;
+            } catch (InvalidProtocolBufferException e) {
+                throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE, e);
             }
 
-            return dataCase.getNumber();
+            throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE);
         }
     }
 }
@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain.transaction;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import org.apache.commons.codec.binary.Hex;
+import org.hiero.mirror.common.domain.entity.EntityId;
+
+/**
+ * The fields of a transaction body needed to route and filter a transaction before its body is fully parsed. Decoding
+ * them from the serialized body only walks its top level fields and skips the nested transaction data.
+ */
+@CustomLog
+record TransactionHeader(EntityId payerAccountId, int transactionType) {
+
+    private static final int BODY_BYTES_TAG =
+            SignedTransaction.BODYBYTES_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int TRANSACTION_ID_TAG =
+            TransactionBody.TRANSACTIONID_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    static TransactionHeader of(TransactionBody body) {
+        var dataCase = body.getDataCase();
+        var payerAccountId = EntityId.of(body.getTransactionID().getAccountID());
+
+        if (dataCase == null || dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
+            var unknownFields = body.getUnknownFields().asMap().keySet();
+            return new TransactionHeader(payerAccountId, guessTransactionType(unknownFields, body::toByteArray));
+        }
+
+        return new TransactionHeader(payerAccountId, dataCase.getNumber());
+    }
+
+    static TransactionHeader parse(ByteString bodyBytes) throws InvalidProtocolBufferException {
+        try {
+            var input = bodyBytes.newCodedInput();
+            var unknownFields = new HashSet<Integer>();
+            var transactionType = TransactionBody.DataCase.DATA_NOT_SET;
+            TransactionID transactionId = null;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                int number = WireFormat.getTagFieldNumber(tag);
+                var dataCase = TransactionBody.DataCase.forNumber(number);
+
+                if (tag == TRANSACTION_ID_TAG) {
+                    // Repeated occurrences of a message field are merged
+                    var parsed = TransactionID.parseFrom(input.readBytes());
+                    transactionId = transactionId == null
+                            ? parsed
+                            : transactionId.toBuilder().mergeFrom(parsed).build();
+                    continue;
+                } else if (dataCase != null) {
+                    transactionType = dataCase; // The last member of a oneof wins
+                } else if (TransactionBody.getDescriptor().findFieldByNumber(number) == null) {
+                    unknownFields.add(number);
+                }
+
+                if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+
+            var accountId = transactionId != null ? transactionId.getAccountID() : AccountID.getDefaultInstance();
+            var payerAccountId = EntityId.of(accountId);
+
+            if (transactionType == TransactionBody.DataCase.DATA_NOT_SET) {
+                return new TransactionHeader(
+                        payerAccountId, guessTransactionType(unknownFields, bodyBytes::toByteArray));
+            }
+
+            return new TransactionHeader(payerAccountId, transactionType.getNumber());
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+    }
+
+    /**
+     * Gets the serialized transaction body without parsing it or the signatures alongside it. Not possible to check
+     * the existence of the bytes fields, so an unset field returns an empty ByteString.
+     */
+    @SuppressWarnings("deprecation")
+    static ByteString getBodyBytes(Transaction transaction) throws InvalidProtocolBufferException {
+        var signedTransactionBytes = transaction.getSignedTransactionBytes();
+        if (signedTransactionBytes.isEmpty()) {
+            return transaction.getBodyBytes();
+        }
+
+        try {
+            var input = signedTransactionBytes.newCodedInput();
+            var bodyBytes = ByteString.EMPTY;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == BODY_BYTES_TAG) {
+                    bodyBytes = input.readBytes(); // The last occurrence of a scalar field wins
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+
+            return bodyBytes;
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+    }
+
+    /**
+     * Because body.getDataCase() can return null for unknown transaction types, we instead get oneof generically
+     *
+     * @return The protobuf ID that represents the transaction type
+     */
+    private static int guessTransactionType(Collection<Integer> unknownFields, Supplier<byte[]> bodyBytes) {
+        if (unknownFields.size() != 1) {
+            log.error(
+                    "Unable to guess correct transaction type since there's not exactly one unknown field {}: {}",
+                    unknownFields,
+                    Hex.encodeHexString(bodyBytes.get()));
+            return TransactionBody.DataCase.DATA_NOT_SET.getNumber();
+        }
+
+        int genericTransactionType = unknownFields.iterator().next();
+        log.warn("Encountered unknown transaction type: {}", genericTransactionType);
+        return genericTransactionType;
+    }
+}
@@ -114,6 +114,7 @@ import org.hiero.mirror.common.domain.token.TokenFreezeStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenHistory;
 import org.hiero.mirror.common.domain.token.TokenKycStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenPauseStatusEnum;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenSupplyTypeEnum;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
@@ -1111,6 +1112,14 @@ public class DomainBuilder {
         return new DomainWrapperImpl<>(builder, builder::build);
     }
 
+    public DomainWrapper<TokenSupplyHistory, TokenSupplyHistory.TokenSupplyHistoryBuilder> tokenSupplyHistory() {
+        var builder = TokenSupplyHistory.builder()
+                .consensusTimestamp(timestamp())
+                .tokenId(id())
+                .totalSupply(number());
+        return new DomainWrapperImpl<>(builder, builder::build);
+    }
+
     public DomainWrapper<TokenTransfer, TokenTransfer.TokenTransferBuilder> tokenTransfer() {
         var builder = TokenTransfer.builder()
                 .amount(100L)
@@ -420,6 +420,38 @@ class RecordItemTest {
         assertRecordItem(transaction, recordItem);
     }
 
+    @Test
+    void testWithSignedTransactionParsesBodyOnAccess() {
+        // given a body with a valid header but malformed transaction data
+        var payerAccountId = AccountID.newBuilder().setAccountNum(1001L).build();
+        var header = TransactionBody.newBuilder()
+                .setTransactionID(TransactionID.newBuilder().setAccountID(payerAccountId))
+                .build();
+        var malformedData = new byte[] {(byte) (TransactionBody.CRYPTOTRANSFER_FIELD_NUMBER << 3 | 2), 2, -1, -1};
+        var signedTransaction = SignedTransaction.newBuilder()
+                .setBodyBytes(header.toByteString().concat(ByteString.copyFrom(malformedData)))
+                .setSigMap(SIGNATURE_MAP)
+                .build();
+        var transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(signedTransaction.toByteString())
+                .build();
+
+        // when
+        var recordItem = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionRecord(TRANSACTION_RECORD)
+                .transaction(transaction)
+                .build();
+
+        // then
+        assertThat(recordItem.getPayerAccountId()).isEqualTo(EntityId.of(payerAccountId));
+        assertThat(recordItem.getTransactionType()).isEqualTo(TransactionType.CRYPTOTRANSFER.getProtoId());
+        assertThat(recordItem.getSignatureMap()).isEqualTo(SIGNATURE_MAP);
+        assertThatThrownBy(recordItem::getTransactionBody)
+                .isInstanceOf(ProtobufException.class)
+                .hasMessage(RecordItem.BAD_TRANSACTION_BODY_BYTES_MESSAGE);
+    }
+
     @Test
     void testWithParentItems() {
         var transactionRecord = TransactionRecord.newBuilder()
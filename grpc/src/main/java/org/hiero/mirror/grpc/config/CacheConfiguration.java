@@ -6,6 +6,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.Set;
 import org.hiero.mirror.grpc.GrpcProperties;
 import org.hiero.mirror.grpc.service.AddressBookProperties;
+import org.hiero.mirror.grpc.service.AddressBookSnapshotLoader;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.Primary;
 public class CacheConfiguration {
 
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
+    public static final String ADDRESS_BOOK_SNAPSHOT_CACHE = "addressBookSnapshotCache";
     public static final String NODE_STAKE_CACHE = "nodeStakeCache";
     public static final String ENTITY_CACHE = "entityCache";
     public static final String CACHE_NAME = "default";
@@ -33,6 +35,20 @@ public class CacheConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(ADDRESS_BOOK_SNAPSHOT_CACHE)
+    CacheManager addressBookSnapshotCache(
+            AddressBookProperties addressBookProperties, AddressBookSnapshotLoader addressBookSnapshotLoader) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheLoader(addressBookSnapshotLoader);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(addressBookProperties.getSnapshotExpiry())
+                .maximumSize(2L) // One per address book file
+                .refreshAfterWrite(addressBookProperties.getSnapshotRefresh())
+                .recordStats());
+        return caffeineCacheManager;
+    }
+
     @Bean(NODE_STAKE_CACHE)
     CacheManager nodeStakeCache(AddressBookProperties addressBookProperties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
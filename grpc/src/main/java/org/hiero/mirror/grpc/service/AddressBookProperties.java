@@ -29,10 +29,23 @@ public class AddressBookProperties {
     @Min(0)
     private long nodeStakeCacheSize = 5L;
 
+    /**
+     * @deprecated Entries are streamed from the cached snapshot without paging the database, so the delay between pages
+     * no longer applies. Kept so existing configuration still binds.
+     */
+    @Deprecated
     @DurationMin(millis = 100L)
     @NotNull
     private Duration pageDelay = Duration.ofMillis(250L);
 
     @Min(1)
     private int pageSize = 10;
+
+    @DurationMin(minutes = 1L)
+    @NotNull
+    private Duration snapshotExpiry = Duration.ofHours(1);
+
+    @DurationMin(millis = 500L)
+    @NotNull
+    private Duration snapshotRefresh = Duration.ofSeconds(5);
 }
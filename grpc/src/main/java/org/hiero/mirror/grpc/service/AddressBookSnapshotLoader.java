@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.addressbook.AddressBookEntry;
+import org.hiero.mirror.grpc.repository.AddressBookEntryRepository;
+import org.hiero.mirror.grpc.repository.AddressBookRepository;
+import org.hiero.mirror.grpc.repository.NodeStakeRepository;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Loads a fully initialized snapshot of the latest address book for an address book file ID. The snapshot is cached
+ * and periodically reloaded in the background, and a reload only queries the address book entries if the latest
+ * address book or node stake timestamp changed.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class AddressBookSnapshotLoader implements CacheLoader<Object, Object> {
+
+    private static final long NODE_STAKE_EMPTY_TABLE_TIMESTAMP = 0L;
+
+    private final AddressBookProperties addressBookProperties;
+    private final AddressBookRepository addressBookRepository;
+    private final AddressBookEntryRepository addressBookEntryRepository;
+    private final NodeStakeRepository nodeStakeRepository;
+
+    @Qualifier("readOnly")
+    private final TransactionOperations transactionOperations;
+
+    @Override
+    public @Nullable AddressBookSnapshot load(Object fileId) {
+        return reload(fileId, null);
+    }
+
+    @Override
+    public @Nullable AddressBookSnapshot reload(Object fileId, @Nullable Object oldValue) {
+        return transactionOperations.execute(t -> {
+            var addressBookTimestamp = addressBookRepository.findLatestTimestamp((Long) fileId);
+            if (addressBookTimestamp.isEmpty()) {
+                return null;
+            }
+
+            long nodeStakeTimestamp =
+                    nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
+            if (oldValue instanceof AddressBookSnapshot snapshot
+                    && snapshot.addressBookTimestamp() == addressBookTimestamp.get()
+                    && snapshot.nodeStakeTimestamp() == nodeStakeTimestamp) {
+                return snapshot;
+            }
+
+            return loadSnapshot(addressBookTimestamp.get(), nodeStakeTimestamp);
+        });
+    }
+
+    private AddressBookSnapshot loadSnapshot(long addressBookTimestamp, long nodeStakeTimestamp) {
+        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
+        var pageSize = addressBookProperties.getPageSize();
+        var nodes = new ArrayList<AddressBookEntry>();
+        long nextNodeId = 0L;
+        int endpoints = 0;
+        List<AddressBookEntry> page;
+
+        do {
+            page = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
+                    addressBookTimestamp, nextNodeId, pageSize);
+
+            for (var node : page) {
+                // Copy since the snapshot is shared by all callers and the repository pages are cached
+                var copy = node.toBuilder()
+                        .serviceEndpoints(Set.copyOf(node.getServiceEndpoints()))
+                        .stake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L))
+                        .build();
+                endpoints += copy.getServiceEndpoints().size();
+                nextNodeId = node.getNodeId() + 1;
+                nodes.add(copy);
+            }
+        } while (page.size() >= pageSize);
+
+        log.info(
+                "Loaded {} address book entries and {} endpoints for timestamp {} and node stake timestamp {}",
+                nodes.size(),
+                endpoints,
+                addressBookTimestamp,
+                nodeStakeTimestamp);
+        return new AddressBookSnapshot(addressBookTimestamp, nodeStakeTimestamp, List.copyOf(nodes));
+    }
+
+    public record AddressBookSnapshot(
+            long addressBookTimestamp, long nodeStakeTimestamp, List<AddressBookEntry> nodes) {}
+}
@@ -2,32 +2,26 @@
 
 package org.hiero.mirror.grpc.service;
 
+import static org.hiero.mirror.grpc.config.CacheConfiguration.ADDRESS_BOOK_SNAPSHOT_CACHE;
+import static org.hiero.mirror.grpc.config.CacheConfiguration.CACHE_NAME;
+
 import jakarta.inject.Named;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.AccessLevel;
 import lombok.CustomLog;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.addressbook.AddressBookEntry;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.grpc.domain.AddressBookFilter;
 import org.hiero.mirror.grpc.exception.EntityNotFoundException;
-import org.hiero.mirror.grpc.repository.AddressBookEntryRepository;
-import org.hiero.mirror.grpc.repository.AddressBookRepository;
-import org.hiero.mirror.grpc.repository.NodeStakeRepository;
+import org.hiero.mirror.grpc.service.AddressBookSnapshotLoader.AddressBookSnapshot;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.cache.CacheManager;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
-import reactor.util.repeat.RepeatSpec;
 
 @CustomLog
 @Named
@@ -36,16 +30,11 @@ import reactor.util.repeat.RepeatSpec;
 public class NetworkServiceImpl implements NetworkService {
 
     static final String INVALID_FILE_ID = "Not a valid address book file";
-    private static final long NODE_STAKE_EMPTY_TABLE_TIMESTAMP = 0L;
 
-    private final AddressBookProperties addressBookProperties;
-    private final AddressBookRepository addressBookRepository;
-    private final AddressBookEntryRepository addressBookEntryRepository;
-    private final NodeStakeRepository nodeStakeRepository;
-    private final SystemEntity systemEntity;
+    @Qualifier(ADDRESS_BOOK_SNAPSHOT_CACHE)
+    private final CacheManager cacheManager;
 
-    @Qualifier("readOnly")
-    private final TransactionOperations transactionOperations;
+    private final SystemEntity systemEntity;
 
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
     private final Set<EntityId> validFileIds =
@@ -58,80 +47,20 @@ public class NetworkServiceImpl implements NetworkService {
             throw new IllegalArgumentException(INVALID_FILE_ID);
         }
 
-        long addressBookTimestamp = addressBookRepository
-                .findLatestTimestamp(fileId.getId())
-                .orElseThrow(() -> new EntityNotFoundException(fileId));
-        long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
-        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
-        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
+        // The snapshot is loaded once and refreshed in the background so concurrent callers don't query the database
+        var snapshot = cacheManager.getCache(CACHE_NAME).get(fileId.getId(), AddressBookSnapshot.class);
+        if (snapshot == null) {
+            throw new EntityNotFoundException(fileId);
+        }
 
-        return Flux.defer(() -> page(context))
-                .repeatWhen(RepeatSpec.create(c -> !context.isComplete(), Long.MAX_VALUE)
-                        .jitter(0.5)
-                        .withFixedDelay(addressBookProperties.getPageDelay())
-                        .withScheduler(Schedulers.boundedElastic()))
+        var count = new AtomicLong(0L);
+        return Flux.fromIterable(snapshot.nodes())
                 .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
-                .doOnNext(context::onNext)
+                .doOnNext(n -> count.incrementAndGet())
                 .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
-                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
-    }
-
-    private Flux<AddressBookEntry> page(AddressBookContext context) {
-        return transactionOperations.execute(t -> {
-            var addressBookTimestamp = context.getAddressBookTimestamp();
-            var nodeStakeMap = context.getNodeStakeMap();
-            var nextNodeId = context.getNextNodeId();
-            var pageSize = addressBookProperties.getPageSize();
-            var nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
-                    addressBookTimestamp, nextNodeId, pageSize);
-            var endpoints = new AtomicInteger(0);
-
-            nodes.forEach(node -> {
-                // Override node stake
-                node.setStake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L));
-                // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init exceptions
-                endpoints.addAndGet(node.getServiceEndpoints().size());
-            });
-
-            if (nodes.size() < pageSize) {
-                context.completed();
-            }
-
-            log.info(
-                    "Retrieved {} address book entries and {} endpoints for timestamp {} and node ID {}",
-                    nodes.size(),
-                    endpoints,
-                    addressBookTimestamp,
-                    nextNodeId);
-            return Flux.fromIterable(nodes);
-        });
-    }
-
-    @Value
-    private static class AddressBookContext {
-
-        private final AtomicBoolean complete = new AtomicBoolean(false);
-        private final AtomicLong count = new AtomicLong(0L);
-        private final AtomicReference<AddressBookEntry> last = new AtomicReference<>();
-        private final long addressBookTimestamp;
-        private final Map<Long, Long> nodeStakeMap;
-
-        void onNext(AddressBookEntry entry) {
-            count.incrementAndGet();
-            last.set(entry);
-        }
-
-        long getNextNodeId() {
-            AddressBookEntry entry = last.get();
-            return entry != null ? entry.getNodeId() + 1 : 0L;
-        }
-
-        boolean isComplete() {
-            return complete.get();
-        }
-
-        void completed() {
-            complete.set(true);
-        }
+                .doOnComplete(() -> log.info(
+                        "Retrieved {} nodes from the address book with timestamp {}",
+                        count,
+                        snapshot.addressBookTimestamp()));
     }
 }
@@ -19,6 +19,7 @@ import org.hiero.mirror.grpc.domain.AddressBookFilter;
 import org.hiero.mirror.grpc.exception.EntityNotFoundException;
 import org.hiero.mirror.grpc.repository.AddressBookEntryRepository;
 import org.hiero.mirror.grpc.repository.NodeStakeRepository;
+import org.hiero.mirror.grpc.service.AddressBookSnapshotLoader.AddressBookSnapshot;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ class NetworkServiceTest extends GrpcIntegrationTest {
 
     private final AddressBookEntryRepository addressBookEntryRepository;
     private final AddressBookProperties addressBookProperties;
+    private final AddressBookSnapshotLoader addressBookSnapshotLoader;
     private final DomainBuilder domainBuilder;
     private final NetworkService networkService;
     private final NodeStakeRepository nodeStakeRepository;
@@ -207,6 +209,59 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry);
     }
 
+    @Test
+    void snapshotReloadUnchanged() {
+        // given
+        var addressBook = addressBook();
+        var addressBookEntry = addressBookEntry();
+        var fileId = addressBook.getFileId().getId();
+        var snapshot = addressBookSnapshotLoader.load(fileId);
+
+        // when
+        addressBookEntryRepository.deleteAll();
+        var reloaded = addressBookSnapshotLoader.reload(fileId, snapshot);
+
+        // then
+        assertThat(reloaded).isSameAs(snapshot);
+        assertThat(reloaded.nodes()).containsExactly(addressBookEntry);
+    }
+
+    @Test
+    void snapshotReloadChanged() {
+        // given
+        var addressBook = addressBook();
+        addressBookEntry();
+        var fileId = addressBook.getFileId().getId();
+        var snapshot = addressBookSnapshotLoader.load(fileId);
+        var nodeStakeTableStake = 100L;
+        var addressBook2 = domainBuilder
+                .addressBook()
+                .customize(a -> a.fileId(addressBook.getFileId()).startConsensusTimestamp(CONSENSUS_TIMESTAMP + 1))
+                .persist();
+        var addressBookEntry2 = domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(addressBook2.getStartConsensusTimestamp()))
+                .persist();
+        nodeStake(addressBookEntry2.getNodeId(), nodeStakeTableStake);
+        addressBookEntry2.setStake(nodeStakeTableStake);
+
+        // when
+        var reloaded = addressBookSnapshotLoader.reload(fileId, snapshot);
+
+        // then
+        assertThat(reloaded)
+                .isNotSameAs(snapshot)
+                .returns(addressBook2.getStartConsensusTimestamp(), AddressBookSnapshot::addressBookTimestamp)
+                .returns(NODE_STAKE_CONSENSUS_TIMESTAMP, AddressBookSnapshot::nodeStakeTimestamp);
+        assertThat(reloaded.nodes()).containsExactly(addressBookEntry2);
+    }
+
+    @Test
+    void snapshotNotFound() {
+        assertThat(addressBookSnapshotLoader.load(systemEntity.addressBookFile102().getId()))
+                .isNull();
+    }
+
     private List<AddressBookEntry> getNodes(AddressBookFilter filter) {
         final var nodes = networkService.getNodes(filter).collectList().block(Duration.ofMillis(1000L));
         return nodes != null ? nodes : List.of();
@@ -2,6 +2,9 @@
 
 package org.hiero.mirror.importer.config;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -18,6 +21,19 @@ public class CacheProperties {
     @NotBlank
     private String alias = "maximumSize=100000,expireAfterAccess=30m,recordStats";
 
+    // Only safe when every alias and EVM address write goes through EntityIdService.notify()
+    private boolean aliasFilter = false;
+
+    @Min(1)
+    private long aliasFilterExpectedInsertions = 10_000_000L;
+
+    @DecimalMax("0.5")
+    @DecimalMin(value = "0", inclusive = false)
+    private double aliasFilterFalsePositiveRate = 0.01;
+
+    @Min(0)
+    private int aliasWarmupSize = 100_000;
+
     private boolean enabled = true;
 
     @NotBlank
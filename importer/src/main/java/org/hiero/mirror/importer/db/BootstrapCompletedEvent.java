@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.db;
+
+import java.io.Serial;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once every bootstrap staging table has been attached and the bootstrapped tables are complete.
+ */
+public class BootstrapCompletedEvent extends ApplicationEvent {
+
+    @Serial
+    private static final long serialVersionUID = -3186645519312957274L;
+
+    /**
+     * Create a new {@code BootstrapCompletedEvent}.
+     *
+     * @param source the object on which the event initially occurred or with which the event is associated (never
+     *               {@code null})
+     */
+    public BootstrapCompletedEvent(Object source) {
+        super(source);
+    }
+}
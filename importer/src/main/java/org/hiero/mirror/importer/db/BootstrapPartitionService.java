@@ -0,0 +1,425 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.db;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import lombok.CustomLog;
+import org.hiero.mirror.importer.config.Owner;
+import org.hiero.mirror.importer.exception.InvalidConfigurationException;
+import org.hiero.mirror.importer.exception.InvalidDatasetException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bootstraps time partitions for a bulk historical import. Instead of writing to the fully indexed partitions, rows are
+ * copied into a staging table per partition that has no indexes or constraints and can optionally be unlogged. Once
+ * the import moves past a partition, its staging table is completed in the background: it's made logged, the parent's
+ * indexes are built in parallel, and then it's swapped in place of the original partition in a single transaction.
+ * <p>
+ * All progress is derived from the database catalog so the process can resume after a restart: a staging table that
+ * still exists has not been attached, and every completion step is idempotent. The staging table of the latest
+ * partition of each table stays open for loading after a restart, while older ones are completed. Staging tables are
+ * only visible to queries once attached, so jobs reading the bootstrapped tables are deferred while any are pending and
+ * resumed on a {@link BootstrapCompletedEvent}. This is only supported with the v1 schema where only the balance tables
+ * are range partitioned by time.
+ */
+@CustomLog
+@Named
+@Profile("!v2")
+public class BootstrapPartitionService {
+
+    static final String STAGING_SUFFIX = "_bootstrap";
+
+    private static final String ADD_CHECK_SQL =
+            "alter table %1$s add constraint %1$s_check check (%2$s >= %3$d and %2$s < %4$d)";
+    private static final String ADD_CONSTRAINT_SQL = "alter table %1$s add constraint %2$s %3$s using index %2$s";
+    private static final String CONSTRAINT_EXISTS_SQL =
+            "select exists(select 1 from pg_constraint where conrelid = ?::regclass and conname = ?)";
+    private static final String CREATE_STAGING_SQL = "create %stable if not exists %s (like %s including defaults)";
+    private static final String COMMENT_STAGING_SQL =
+            "comment on table %s is '%d'"; // The load time to detect unlogged tables truncated by crash recovery
+    private static final String FIND_INDEXES_SQL = """
+            select i.relname as name, pg_get_indexdef(i.oid) as definition, c.contype as constraint_type
+            from pg_index x
+            join pg_class i on i.oid = x.indexrelid
+            left join pg_constraint c on c.conindid = x.indexrelid and c.conrelid = x.indrelid
+            where x.indrelid = ?::regclass
+            order by i.relname
+            """;
+    private static final String FIND_STAGING_SQL = """
+            select p.name, p.parent, p.from_timestamp, p.to_timestamp, s.relname as staging,
+              s.relpersistence = 'u' as unlogged,
+              coalesce(obj_description(s.oid, 'pg_class'), '0')::bigint as loaded,
+              (extract(epoch from pg_postmaster_start_time()) * 1000)::bigint as started
+            from mirror_node_time_partitions p
+            join pg_class s on s.relname = p.name || '_bootstrap' and s.relkind = 'r'
+            where s.relnamespace = current_schema()::regnamespace
+            order by p.parent, p.from_timestamp
+            """;
+    private static final String IS_EMPTY_SQL = "select not exists(select 1 from %s)";
+    private static final Pattern INDEX_PATTERN = Pattern.compile("^CREATE (UNIQUE )?INDEX \\S+ ON (ONLY )?\\S+ ");
+    private static final String PARTITION_KEY_SQL = "select pg_get_partkeydef(to_regclass(?))";
+    private static final Pattern PARTITION_KEY_PATTERN = Pattern.compile("^RANGE \\((\\w+)\\)$");
+    private static final String RELOPTIONS_SQL =
+            "select array_to_string(reloptions, ', ') from pg_class where oid = ?::regclass";
+    private static final RowMapper<StagingPartition> ROW_MAPPER = (rs, rowNum) -> new StagingPartition(
+            TimePartition.builder()
+                    .name(rs.getString("name"))
+                    .parent(rs.getString("parent"))
+                    .timestampRange(Range.closedOpen(rs.getLong("from_timestamp"), rs.getLong("to_timestamp")))
+                    .build(),
+            rs.getString("staging"),
+            rs.getBoolean("unlogged"),
+            rs.getLong("loaded"),
+            rs.getLong("started"));
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BootstrapProperties bootstrapProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TimePartitionService timePartitionService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ExecutorService indexExecutor;
+    private final Map<String, StagingPartition> open = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public BootstrapPartitionService(
+            ApplicationEventPublisher applicationEventPublisher,
+            BootstrapProperties bootstrapProperties,
+            @Owner JdbcTemplate jdbcTemplate,
+            TimePartitionService timePartitionService) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.bootstrapProperties = bootstrapProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.timePartitionService = timePartitionService;
+        this.indexExecutor = Executors.newFixedThreadPool(bootstrapProperties.getIndexThreads());
+    }
+
+    public boolean isEnabled(String table) {
+        return bootstrapProperties.isEnabled(table);
+    }
+
+    /**
+     * Whether any staging table has yet to be attached, in which case the bootstrapped tables are missing its rows.
+     *
+     * @return true if there are staging tables pending completion
+     */
+    public boolean isPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Gets the staging table to copy the rows with the given timestamp into, creating it if necessary. If the timestamp
+     * is past the partition currently being loaded, that partition is completed once the current transaction commits.
+     *
+     * @param parent    The time partitioned table
+     * @param timestamp The partition column value of the rows
+     * @return The staging table name
+     */
+    public String getStagingTable(String parent, long timestamp) {
+        var current = open.get(parent);
+        if (current == null || !current.partition().getTimestampRange().contains(timestamp)) {
+            var partitions = timePartitionService.getOverlappingTimePartitions(parent, timestamp, timestamp);
+            if (partitions.isEmpty()) {
+                throw new InvalidDatasetException(
+                        String.format("No %s partition found for timestamp %d", parent, timestamp));
+            }
+
+            current = open(partitions.getFirst());
+        }
+
+        return current.isMarked() ? current.staging() : mark(current).staging();
+    }
+
+    /**
+     * Gets the column a table is range partitioned by.
+     *
+     * @param table The table to bootstrap
+     * @return The partition column name
+     * @throws InvalidConfigurationException if the table isn't range partitioned by a single column
+     */
+    public String getPartitionColumn(String table) {
+        var partitionKey = jdbcTemplate.queryForObject(PARTITION_KEY_SQL, String.class, table);
+        var matcher = PARTITION_KEY_PATTERN.matcher(partitionKey != null ? partitionKey : "");
+        if (!matcher.matches()) {
+            throw new InvalidConfigurationException(String.format(
+                    "Unable to bootstrap table %s since it isn't range partitioned by time", table));
+        }
+
+        return matcher.group(1);
+    }
+
+    /**
+     * Validates the tables to bootstrap, then completes the staging tables left over from a previous run except the
+     * latest of each table still being bootstrapped which is reopened for loading. Runs on startup before any rows can
+     * be persisted.
+     */
+    @PostConstruct
+    public synchronized void recover() {
+        if (bootstrapProperties.isEnabled()) {
+            bootstrapProperties.getTables().forEach(this::getPartitionColumn);
+        }
+
+        var stagingPartitions = jdbcTemplate.query(FIND_STAGING_SQL, ROW_MAPPER);
+        var latest = new HashMap<String, StagingPartition>();
+
+        for (var staging : stagingPartitions) {
+            verify(staging);
+            // Ordered by the partition timestamp range so the latest wins
+            latest.put(staging.partition().getParent(), staging);
+        }
+
+        for (var staging : stagingPartitions) {
+            var parent = staging.partition().getParent();
+            pending.add(staging.staging());
+
+            if (isEnabled(parent) && latest.get(parent) == staging) {
+                open.putIfAbsent(parent, staging);
+                log.info("Resuming bootstrap of partition {}", staging.partition().getName());
+            } else {
+                open.values().removeIf(s -> s.staging().equals(staging.staging()));
+                executor.execute(() -> complete(staging));
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        indexExecutor.shutdown();
+    }
+
+    private synchronized StagingPartition open(TimePartition partition) {
+        var parent = partition.getParent();
+        var current = open.get(parent);
+        if (current != null && current.partition().equals(partition)) {
+            return current;
+        }
+
+        var staging = partition.getName() + STAGING_SUFFIX;
+        boolean unlogged = bootstrapProperties.isUnlogged();
+        pending.add(staging);
+        jdbcTemplate.execute(String.format(CREATE_STAGING_SQL, unlogged ? "unlogged " : "", staging, parent));
+        log.info("Created {} staging table {} for partition {}", unlogged ? "unlogged" : "logged", staging, partition);
+
+        var stagingPartition = new StagingPartition(partition, staging, unlogged, 0L, 0L);
+        open.put(parent, stagingPartition);
+
+        if (current != null
+                && current.partition().getTimestampRange().lowerEndpoint()
+                        < partition.getTimestampRange().lowerEndpoint()) {
+            completeAfterCommit(current);
+        }
+
+        return stagingPartition;
+    }
+
+    // Marks an unlogged staging table as loaded in the logged catalog before its first rows are copied, so a truncation
+    // by crash recovery can be told apart from a staging table that was legitimately left empty
+    private synchronized StagingPartition mark(StagingPartition staging) {
+        var parent = staging.partition().getParent();
+        var current = open.get(parent);
+        if (current != null && current.staging().equals(staging.staging()) && current.isMarked()) {
+            return current;
+        }
+
+        long loaded = System.currentTimeMillis();
+        jdbcTemplate.execute(String.format(COMMENT_STAGING_SQL, staging.staging(), loaded));
+        var marked = new StagingPartition(
+                staging.partition(), staging.staging(), staging.unlogged(), loaded, staging.started());
+        open.replace(parent, staging, marked);
+        return marked;
+    }
+
+    private void completeAfterCommit(StagingPartition staging) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> complete(staging));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                executor.execute(() -> complete(staging));
+            }
+        });
+    }
+
+    private void complete(StagingPartition staging) {
+        var partition = staging.partition();
+        var table = staging.staging();
+
+        try {
+            var stopwatch = Stopwatch.createStarted();
+            log.info("Completing bootstrap of partition {}", partition.getName());
+
+            if (staging.unlogged()) {
+                jdbcTemplate.execute(String.format("alter table %s set logged", table));
+            }
+
+            createIndexes(partition.getParent(), table);
+            addCheckConstraint(partition, table);
+            attach(partition, table);
+            log.info("Attached bootstrapped partition {} in {}", partition.getName(), stopwatch);
+
+            pending.remove(table);
+            if (pending.isEmpty()) {
+                log.info("Completed bootstrap of all staged partitions");
+                applicationEventPublisher.publishEvent(new BootstrapCompletedEvent(this));
+            }
+        } catch (Exception e) {
+            log.error("Unable to complete bootstrap of partition {}. It will be retried on restart", partition, e);
+        }
+    }
+
+    private void createIndexes(String parent, String table) {
+        var indexes = jdbcTemplate.query(
+                FIND_INDEXES_SQL,
+                (rs, rowNum) -> new Index(
+                        rs.getString("name"), rs.getString("definition"), rs.getString("constraint_type")),
+                parent);
+        var futures = new ArrayList<CompletableFuture<Void>>(indexes.size());
+
+        for (int i = 0; i < indexes.size(); i++) {
+            var index = indexes.get(i);
+            // Name the indexes backing a constraint after it so they aren't renamed when the constraint is added
+            var name = index.isConstraint() ? table + "_" + index.constraintName() : table + "_" + i;
+            var matcher = INDEX_PATTERN.matcher(index.definition());
+
+            if (!matcher.find()) {
+                throw new IllegalStateException("Unable to parse index definition: " + index.definition());
+            }
+
+            var unique = matcher.group(1) != null ? "UNIQUE " : "";
+            var sql = "CREATE " + unique + "INDEX IF NOT EXISTS " + name + " ON " + table + " "
+                    + index.definition().substring(matcher.end());
+
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        var stopwatch = Stopwatch.createStarted();
+                        jdbcTemplate.execute(sql);
+                        log.info("Created index {} in {}", name, stopwatch);
+
+                        if (index.isConstraint()
+                                && !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                                        CONSTRAINT_EXISTS_SQL, Boolean.class, table, name))) {
+                            var type = "p".equals(index.constraintType()) ? "primary key" : "unique";
+                            jdbcTemplate.execute(String.format(ADD_CONSTRAINT_SQL, table, name, type));
+                        }
+                    },
+                    indexExecutor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    // Lets the partition be attached without scanning it to validate its range
+    private void addCheckConstraint(TimePartition partition, String table) {
+        var name = table + "_check";
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(CONSTRAINT_EXISTS_SQL, Boolean.class, table, name))) {
+            return;
+        }
+
+        var column = getPartitionColumn(partition.getParent());
+        var range = partition.getTimestampRange();
+        jdbcTemplate.execute(
+                String.format(ADD_CHECK_SQL, table, column, range.lowerEndpoint(), range.upperEndpoint()));
+    }
+
+    private void attach(TimePartition partition, String table) {
+        var name = partition.getName();
+        var parent = partition.getParent();
+        var range = partition.getTimestampRange();
+        var options = jdbcTemplate.queryForObject(RELOPTIONS_SQL, String.class, name);
+        var statements = new ArrayList<String>();
+
+        if (options != null && !options.isEmpty()) {
+            statements.add(String.format("alter table %s set (%s)", table, options));
+        }
+
+        // Keep any rows written directly to the original partition, e.g. by the historical balance snapshots
+        statements.add(String.format("insert into %s select * from %s", table, name));
+        statements.add(String.format("alter table %s detach partition %s", parent, name));
+        statements.add(String.format("drop table %s", name));
+        statements.add(String.format("alter table %s rename to %s", table, name));
+        statements.add(String.format(
+                "alter table %s attach partition %s for values from ('%d') to ('%d')",
+                parent, name, range.lowerEndpoint(), range.upperEndpoint()));
+        statements.add(String.format("alter table %s drop constraint %s_check", name, table));
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> executeInTransaction(connection, statements));
+    }
+
+    private Void executeInTransaction(Connection connection, List<String> statements) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (var statement = connection.createStatement()) {
+            for (var sql : statements) {
+                statement.execute(sql);
+            }
+
+            connection.commit();
+            return null;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // Crash recovery truncates unlogged tables, which would silently lose the rows of files already marked as parsed
+    private void verify(StagingPartition staging) {
+        if (!staging.unlogged() || staging.loaded() == 0L || staging.started() < staging.loaded()) {
+            return;
+        }
+
+        var sql = String.format(IS_EMPTY_SQL, staging.staging());
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class))) {
+            throw new InvalidDatasetException(String.format(
+                    "Unlogged staging table %s was loaded but is empty after the database restarted and may have been"
+                            + " truncated by crash recovery. Re-import the data starting from partition %s",
+                    staging.staging(), staging.partition()));
+        }
+    }
+
+    private record Index(String name, String definition, String constraintType) {
+
+        boolean isConstraint() {
+            return "p".equals(constraintType) || "u".equals(constraintType);
+        }
+
+        String constraintName() {
+            return "p".equals(constraintType) ? "pkey" : name;
+        }
+    }
+
+    record StagingPartition(TimePartition partition, String staging, boolean unlogged, long loaded, long started) {
+
+        // Logged staging tables survive crash recovery so they don't need a marker
+        boolean isMarked() {
+            return !unlogged || loaded > 0L;
+        }
+    }
+}
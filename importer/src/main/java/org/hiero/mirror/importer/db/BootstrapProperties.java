@@ -0,0 +1,34 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.db;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties("hiero.mirror.importer.db.bootstrap")
+@Data
+@Validated
+public class BootstrapProperties {
+
+    private boolean enabled = false;
+
+    @Min(1)
+    @Max(64)
+    private int indexThreads = 4;
+
+    @NotNull
+    private Set<String> tables = new LinkedHashSet<>(List.of("account_balance", "token_balance"));
+
+    private boolean unlogged = false;
+
+    public boolean isEnabled(String table) {
+        return enabled && tables.contains(table);
+    }
+}
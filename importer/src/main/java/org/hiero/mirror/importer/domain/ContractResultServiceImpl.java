@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.domain;
 
 import static org.hiero.mirror.common.domain.transaction.RecordItem.HOOK_CONTRACT_NUM;
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.COMPONENT_CONTRACT_RESULT;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.services.stream.proto.ContractAction;
@@ -31,6 +32,7 @@ import org.hiero.mirror.common.exception.InvalidEntityException;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.ImporterProperties;
 import org.hiero.mirror.importer.migration.SidecarContractMigration;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.transactionhandler.EvmHookStorageHandler;
@@ -50,6 +52,7 @@ final class ContractResultServiceImpl implements ContractResultService {
     private final EntityIdService entityIdService;
     private final EntityListener entityListener;
     private final ImporterProperties importerProperties;
+    private final RecordParserProfiler recordParserProfiler;
     private final SidecarContractMigration sidecarContractMigration;
     private final TransactionHandlerFactory transactionHandlerFactory;
     private final EvmHookStorageHandler evmHookStorageHandler;
@@ -66,7 +69,9 @@ final class ContractResultServiceImpl implements ContractResultService {
                 ? transactionRecord.getContractCreateResult()
                 : transactionRecord.getContractCallResult();
 
+        long start = recordParserProfiler.start();
         final var sidecarProcessingResult = processSidecarRecords(recordItem);
+        recordParserProfiler.stop(COMPONENT_CONTRACT_RESULT, "processSidecarRecords", start);
 
         // handle non create/call transactions
         boolean contractCallOrCreate = isContractCreateOrCall(transaction);
@@ -87,8 +92,10 @@ final class ContractResultServiceImpl implements ContractResultService {
 
         recordItem.addEntityId(contractId);
 
+        start = recordParserProfiler.start();
         processContractResult(
                 recordItem, contractId, functionResult, transaction, transactionHandler, sidecarProcessingResult);
+        recordParserProfiler.stop(COMPONENT_CONTRACT_RESULT, "processContractResult", start);
     }
 
     private void addDefaultEthereumTransactionContractResult(RecordItem recordItem, Transaction transaction) {
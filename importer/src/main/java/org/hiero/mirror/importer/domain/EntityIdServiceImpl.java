@@ -9,6 +9,9 @@ import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_ALIAS;
 import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static org.hiero.mirror.importer.util.Utility.aliasToEvmAddress;
 
+import com.google.common.base.Stopwatch;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessage;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -17,6 +20,8 @@ import jakarta.inject.Named;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import lombok.CustomLog;
 import org.apache.commons.codec.binary.Hex;
@@ -25,25 +30,115 @@ import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
 import org.hiero.mirror.common.exception.InvalidEntityException;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.importer.config.CacheProperties;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.util.Utility;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.support.TransactionOperations;
 
 @CustomLog
 @Named
 public class EntityIdServiceImpl implements EntityIdService {
 
     private static final Optional<EntityId> EMPTY = Optional.of(EntityId.EMPTY);
+    private static final int WARMUP_FETCH_SIZE = 10_000;
+    private static final String WARMUP_SQL = """
+            select alias, evm_address, id
+            from entity
+            where (alias is not null or evm_address is not null) and deleted is not true
+            order by id desc
+            """;
 
     private final Cache cache;
+    private final CacheProperties cacheProperties;
     private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
+    private final TransactionOperations transactionOperations;
 
-    public EntityIdServiceImpl(@Qualifier(CACHE_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+    // A negative lookup filter of all aliases and EVM addresses known to exist. It is only consulted after it's been
+    // warmed up with all entities in the database, and is kept up to date afterward via notify
+    private final BloomFilter<byte[]> filter;
+    private final AtomicBoolean filterReady = new AtomicBoolean(false);
+
+    public EntityIdServiceImpl(
+            @Qualifier(CACHE_ALIAS) CacheManager cacheManager,
+            CacheProperties cacheProperties,
+            EntityRepository entityRepository,
+            JdbcOperations jdbcOperations,
+            TransactionOperations transactionOperations) {
         this.cache = cacheManager.getCache(CACHE_NAME);
+        this.cacheProperties = cacheProperties;
         this.entityRepository = entityRepository;
+        this.jdbcOperations = jdbcOperations;
+        this.transactionOperations = transactionOperations;
+        this.filter = cacheProperties.isAliasFilter()
+                ? BloomFilter.create(
+                        Funnels.byteArrayFunnel(),
+                        cacheProperties.getAliasFilterExpectedInsertions(),
+                        cacheProperties.getAliasFilterFalsePositiveRate())
+                : null;
+    }
+
+    /**
+     * Streams the most recent aliases and EVM addresses from the database into the cache and, when the negative lookup
+     * filter is enabled, all of them into the filter. Entities created concurrently are added to the filter via notify,
+     * so the filter is complete once the warm-up finishes.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        int cacheSize = cacheProperties.getAliasWarmupSize();
+        if (filter == null && cacheSize == 0) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var count = new AtomicLong();
+        // Without the filter only the rows warming the cache are needed
+        var sql = filter != null ? WARMUP_SQL : WARMUP_SQL + "limit " + cacheSize;
+
+        try {
+            transactionOperations.executeWithoutResult(t -> jdbcOperations.query(
+                    con -> {
+                        var statement = con.prepareStatement(sql);
+                        statement.setFetchSize(WARMUP_FETCH_SIZE);
+                        return statement;
+                    },
+                    rs -> {
+                        var alias = rs.getBytes(1);
+                        var evmAddress = rs.getBytes(2);
+                        var entityId = Optional.of(EntityId.of(rs.getLong(3)));
+                        boolean warmCache = count.getAndIncrement() < cacheSize;
+
+                        putFilter(alias);
+                        putFilter(evmAddress);
+
+                        if (warmCache) {
+                            if (alias != null) {
+                                cache.putIfAbsent(fromBytes(alias), entityId);
+                            }
+
+                            if (evmAddress != null) {
+                                cache.putIfAbsent(fromBytes(evmAddress), entityId);
+                            }
+                        }
+                    }));
+
+            if (filter != null) {
+                filterReady.set(true);
+            }
+
+            log.info("Warmed up alias and EVM address lookups with {} entities in {}", count.get(), stopwatch);
+        } catch (Exception e) {
+            log.error("Failed to warm up alias and EVM address lookups after {} entities in {}", count, stopwatch, e);
+        }
     }
 
     @Override
@@ -148,6 +243,9 @@ public class EntityIdServiceImpl implements EntityIdService {
         var entityId = Optional.ofNullable(entity.toEntityId());
         EntityType type = entity.getType();
 
+        putFilter(entity.getAlias());
+        putFilter(entity.getEvmAddress());
+
         switch (type) {
             case ACCOUNT -> {
                 cache.put(alias, entityId);
@@ -168,7 +266,9 @@ public class EntityIdServiceImpl implements EntityIdService {
 
     private Optional<EntityId> findByEvmAddress(byte[] evmAddress, boolean throwRecoverableError) {
         var id = Optional.ofNullable(DomainUtils.fromEvmAddress(evmAddress))
-                .or(() -> entityRepository.findByEvmAddress(evmAddress).map(EntityId::of));
+                .or(() -> mightExist(evmAddress)
+                        ? entityRepository.findByEvmAddress(evmAddress).map(EntityId::of)
+                        : Optional.empty());
 
         if (id.isEmpty() && throwRecoverableError) {
             Utility.handleRecoverableError("Entity not found for EVM address {}", Hex.encodeHexString(evmAddress));
@@ -178,7 +278,17 @@ public class EntityIdServiceImpl implements EntityIdService {
     }
 
     private Optional<EntityId> findByAlias(byte[] alias) {
-        return entityRepository.findByAlias(alias).map(EntityId::of);
+        return mightExist(alias) ? entityRepository.findByAlias(alias).map(EntityId::of) : Optional.empty();
+    }
+
+    private boolean mightExist(byte[] aliasOrEvmAddress) {
+        return !filterReady.get() || filter.mightContain(aliasOrEvmAddress);
+    }
+
+    private void putFilter(byte[] aliasOrEvmAddress) {
+        if (filter != null && aliasOrEvmAddress != null) {
+            filter.put(aliasOrEvmAddress);
+        }
     }
 
     // Try to fall back to the 20-byte evm address recovered from the ECDSA secp256k1 alias
@@ -15,6 +15,7 @@ import lombok.CustomLog;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
+import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -89,6 +90,26 @@ public class StreamFileData {
         return new ByteArrayInputStream(getDecompressedBytes());
     }
 
+    /**
+     * Gets an input stream that decompresses the bytes as they're read, so unlike {@link #getInputStream()} the whole
+     * decompressed file is never held in memory. Each call decompresses the file anew.
+     */
+    public InputStream getDecompressingInputStream() {
+        var compressor = streamFilename.getCompressor();
+        var inputStream = new ByteArrayInputStream(getBytes());
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            var filename = streamFilename.getFilename();
+            log.error("Failed to decompress stream file {}", filename);
+            throw new InvalidStreamFileException(filename, e);
+        }
+    }
+
     public String getFilename() {
         return streamFilename.getFilename();
     }
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.hiero.mirror.importer.parser.AbstractParserProperties.BatchProperties;
+
+/**
+ * Tracks the maximum number of items to batch before flushing. When adaptive, the limit is adjusted toward the target
+ * flush duration using additive increase and multiplicative decrease: a flush that filled the batch faster than the
+ * target grows the limit by the minimum items, while a flush slower than the target or that failed halves it. The limit
+ * stays within the configured minimum and maximum items.
+ */
+@CustomLog
+final class AdaptiveBatchLimit {
+
+    static final String METRIC = "hiero.mirror.importer.parse.batch.items";
+
+    private final AtomicLong limit;
+    private final BatchProperties properties;
+
+    AdaptiveBatchLimit(BatchProperties properties, MeterRegistry meterRegistry, String type) {
+        this.limit = new AtomicLong(properties.getMaxItems());
+        this.properties = properties;
+        Gauge.builder(METRIC, this, AdaptiveBatchLimit::get)
+                .description("The maximum number of items to batch before flushing")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    long get() {
+        long maxItems = properties.getMaxItems();
+        return properties.isAdaptive() ? Math.min(limit.get(), maxItems) : maxItems;
+    }
+
+    /**
+     * Adjusts the limit based upon the outcome of a flush.
+     *
+     * @param items   The number of items flushed
+     * @param elapsed The duration of the flush
+     * @param success Whether the flush succeeded
+     */
+    void onFlush(long items, Duration elapsed, boolean success) {
+        if (!properties.isAdaptive()) {
+            return;
+        }
+
+        long current = get();
+        long maxItems = properties.getMaxItems();
+        long minItems = Math.min(properties.getMinItems(), maxItems);
+        long next = current;
+
+        if (!success || elapsed.compareTo(properties.getTargetDuration()) > 0) {
+            next = Math.max(current / 2, minItems);
+        } else if (items >= current) {
+            // Only grow the limit if it was what ended the batch
+            next = Math.min(current + minItems, maxItems);
+        }
+
+        if (next != current) {
+            limit.set(next);
+            log.debug(
+                    "Changed batch limit from {} to {} items after flushing {} items in {}",
+                    current,
+                    next,
+                    items,
+                    elapsed);
+        }
+    }
+}
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.importer.downloader;
 
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.io.Closeable;
 import java.time.Duration;
@@ -37,9 +39,12 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
     private final StreamFileSubscriber recordStreamFileSubscriber;
     private final ExecutorService executorService;
 
-    BatchStreamFileNotifier(AccountBalanceFileParser accountBalanceFileParser, RecordFileParser recordFileParser) {
-        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser);
-        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser);
+    BatchStreamFileNotifier(
+            AccountBalanceFileParser accountBalanceFileParser,
+            MeterRegistry meterRegistry,
+            RecordFileParser recordFileParser) {
+        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser, meterRegistry);
+        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser, meterRegistry);
         executorService = Executors.newFixedThreadPool(2);
         executorService.execute(balanceStreamFileSubscriber);
         executorService.execute(recordStreamFileSubscriber);
@@ -65,6 +70,7 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
 
     private class StreamFileSubscriber implements Runnable {
 
+        private final AdaptiveBatchLimit batchLimit;
         private final Collection<StreamFile<?>> buffer;
         private final AtomicLong files;
         private final AtomicLong items;
@@ -74,7 +80,12 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
         private final StreamFileParser<StreamFile<?>> streamFileParser;
 
         @SuppressWarnings("unchecked")
-        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser) {
+        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser, MeterRegistry meterRegistry) {
+            var parserProperties = streamFileParser.getProperties();
+            this.batchLimit = new AdaptiveBatchLimit(
+                    parserProperties.getBatch(),
+                    meterRegistry,
+                    parserProperties.getStreamType().toString());
             this.buffer = new ArrayList<>(); // Un-synchronized since only one thread reads and writes from it
             this.files = new AtomicLong(0L);
             this.items = new AtomicLong(0L);
@@ -110,7 +121,8 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             if (streamFile == null) {
                 // Handle the corner case where we don't receive a new file for some time to trigger a flush
                 if (!buffer.isEmpty() && exceedsInterval()) {
-                    streamFileParser.parse(new ArrayList<>(buffer));
+                    var streamFiles = new ArrayList<>(buffer);
+                    parse(() -> streamFileParser.parse(streamFiles));
                     reset();
                 }
                 return;
@@ -123,10 +135,11 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
 
             // Flush the buffer, optimizing for the single item scenario
             if (buffer.isEmpty()) {
-                streamFileParser.parse(streamFile);
+                parse(() -> streamFileParser.parse(streamFile));
             } else {
                 buffer.add(streamFile);
-                streamFileParser.parse(new ArrayList<>(buffer));
+                var streamFiles = new ArrayList<>(buffer);
+                parse(() -> streamFileParser.parse(streamFiles));
             }
 
             reset();
@@ -148,7 +161,7 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             }
 
             // Flush the buffer when the item count exceeds the maximum expected number of items
-            if (count >= properties.getMaxItems()) {
+            if (count >= batchLimit.get()) {
                 return true;
             }
 
@@ -161,6 +174,19 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             return exceedsInterval();
         }
 
+        private void parse(Runnable parser) {
+            long count = items.get();
+            var stopwatch = Stopwatch.createStarted();
+            boolean success = false;
+
+            try {
+                parser.run();
+                success = true;
+            } finally {
+                batchLimit.onFlush(count, stopwatch.elapsed(), success);
+            }
+        }
+
         // Flush the buffer if enough time has elapsed from the last flush
         private boolean exceedsInterval() {
             var elapsed = Duration.between(lastFlush.get(), Instant.now());
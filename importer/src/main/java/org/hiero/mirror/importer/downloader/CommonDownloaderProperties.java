@@ -37,6 +37,8 @@ public class CommonDownloaderProperties {
 
     private String accessKey;
 
+    private boolean adaptiveListing = false;
+
     private Boolean allowAnonymousAccess;
 
     private int batchSize = 25;
@@ -58,6 +60,9 @@ public class CommonDownloaderProperties {
 
     private String gcpProjectId;
 
+    @NotNull
+    private Duration maxListingBackoff = Duration.ofSeconds(10L);
+
     @Min(2L)
     private long maxSize = 50L * 1024L * 1024L; // 50 MiB
 
@@ -86,6 +86,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     protected final AtomicReference<Optional<StreamFile<I>>> lastStreamFile = new AtomicReference<>(Optional.empty());
 
     private final ConsensusNodeService consensusNodeService;
+    private final SignatureListingTracker signatureListingTracker;
     private final StreamType streamType;
 
     // Metrics
@@ -118,6 +119,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         this.streamFileProvider = streamFileProvider;
         this.streamFileReader = streamFileReader;
         this.streamFileNotifier = streamFileNotifier;
+        this.signatureListingTracker = new SignatureListingTracker(downloaderProperties);
         this.streamType = downloaderProperties.getStreamType();
 
         // Metrics
@@ -151,7 +153,18 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         }
 
         try {
-            var sigFilesMap = downloadAndParseSigFiles();
+            var startAfterFilename = getStartAfterFilename();
+            var nodes = signatureListingTracker.getNodes(
+                    partialCollection(consensusNodeService.getNodes()), startAfterFilename, System.nanoTime());
+
+            if (nodes.isEmpty()) {
+                log.debug(
+                        "Skipping listing of signature files after file {} until more are expected",
+                        startAfterFilename);
+                return;
+            }
+
+            var sigFilesMap = downloadAndParseSigFiles(nodes, startAfterFilename);
 
             // Following is a cost optimization to not unnecessarily list the public demo bucket once complete
             if (sigFilesMap.isEmpty()
@@ -198,14 +211,15 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * Download and parse all signature files with a timestamp later than the last valid file. Put signature files into
      * a multi-map sorted and grouped by the timestamp.
      *
+     * @param nodes              the nodes to list signature files for
+     * @param startAfterFilename the filename to list signature files after
      * @return a multi-map of signature file objects from different nodes, grouped by filename
      */
-    private Multimap<StreamFilename, StreamFileSignature> downloadAndParseSigFiles() {
+    private Multimap<StreamFilename, StreamFileSignature> downloadAndParseSigFiles(
+            Collection<ConsensusNode> nodes, StreamFilename startAfterFilename) {
         // Limit to 1 signature file if downloader is disabled
         long listLimit = downloaderProperties.isEnabled() ? Long.MAX_VALUE : 1;
         var stopwatch = Stopwatch.createStarted();
-        var nodes = partialCollection(consensusNodeService.getNodes());
-        var startAfterFilename = getStartAfterFilename();
         log.debug("Asking for new signature files created after file: {}", startAfterFilename);
 
         final var signatures = Objects.requireNonNull(Flux.fromIterable(nodes)
@@ -224,6 +238,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 .subscribeOn(Schedulers.parallel())
                 .block());
 
+        signatureListingTracker.onListed(nodes, startAfterFilename, signatures, System.nanoTime());
         long total = signatures.size();
         if (total > 0) {
             var rate = (int) (1000000.0 * total / stopwatch.elapsed(TimeUnit.MICROSECONDS));
@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import com.google.common.collect.Multimap;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.CustomLog;
+import org.hiero.mirror.importer.addressbook.ConsensusNode;
+import org.hiero.mirror.importer.domain.StreamFileSignature;
+import org.hiero.mirror.importer.domain.StreamFilename;
+
+/**
+ * Tracks the signature file listing of each node after the current cursor, the last stream file. When adaptive listing
+ * is enabled, a node whose listings after the cursor found no new signature files isn't listed again until its backoff
+ * expires. The backoff starts at the download frequency and doubles with each consecutive empty listing, but is capped
+ * at half of the observed interval between stream files so a new file is never picked up later than that. As soon as
+ * any node lists a new signature file all backoffs are reset, since the other nodes are needed to reach consensus.
+ */
+@CustomLog
+final class SignatureListingTracker {
+
+    private static final double DECAY = 0.2;
+    private static final int MAX_SHIFT = 20;
+
+    private final DownloaderProperties downloaderProperties;
+    private final Map<Long, NodeListing> listings = new ConcurrentHashMap<>();
+    private volatile long interval;
+
+    SignatureListingTracker(DownloaderProperties downloaderProperties) {
+        this.downloaderProperties = downloaderProperties;
+    }
+
+    /**
+     * Gets the nodes to list signature files for.
+     *
+     * @param nodes  The candidate nodes
+     * @param cursor The filename to list signature files after
+     * @param now    The current value of the nanosecond clock
+     * @return the nodes whose backoff after the cursor has expired
+     */
+    Collection<ConsensusNode> getNodes(Collection<ConsensusNode> nodes, StreamFilename cursor, long now) {
+        if (!isEnabled()) {
+            return nodes;
+        }
+
+        return nodes.stream()
+                .filter(node -> {
+                    var listing = listings.get(node.getNodeId());
+                    return listing == null || !listing.cursor().equals(cursor) || now - listing.retryAt() >= 0;
+                })
+                .toList();
+    }
+
+    /**
+     * Records the outcome of listing signature files for the nodes after the cursor.
+     *
+     * @param nodes      The nodes that were listed
+     * @param cursor     The filename signature files were listed after
+     * @param signatures The signature files found, grouped by filename
+     * @param now        The current value of the nanosecond clock
+     */
+    void onListed(
+            Collection<ConsensusNode> nodes,
+            StreamFilename cursor,
+            Multimap<StreamFilename, StreamFileSignature> signatures,
+            long now) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (!signatures.isEmpty()) {
+            updateInterval(cursor, signatures.keySet());
+            listings.clear();
+            return;
+        }
+
+        for (var node : nodes) {
+            var listing = listings.compute(node.getNodeId(), (nodeId, previous) -> {
+                int empty = previous != null && previous.cursor().equals(cursor) ? previous.empty() + 1 : 1;
+                return new NodeListing(cursor, empty, now + getBackoff(empty));
+            });
+            log.debug("Backing off listing of node {} after {} empty listings", node, listing.empty());
+        }
+    }
+
+    private long getBackoff(int empty) {
+        long frequency = downloaderProperties.getFrequency().toNanos();
+        long maxBackoff = downloaderProperties.getCommon().getMaxListingBackoff().toNanos();
+        long max = Math.min(maxBackoff, interval / 2);
+        return Math.min(frequency << Math.min(empty - 1, MAX_SHIFT), max);
+    }
+
+    private boolean isEnabled() {
+        return downloaderProperties.getCommon().isAdaptiveListing();
+    }
+
+    private void updateInterval(StreamFilename cursor, Collection<StreamFilename> filenames) {
+        var previous = cursor != StreamFilename.EPOCH ? cursor.getInstant() : null;
+        long total = 0L;
+        int count = 0;
+
+        for (var filename : filenames) {
+            var instant = filename.getInstant();
+            if (previous != null && instant.isAfter(previous)) {
+                total += Duration.between(previous, instant).toNanos();
+                count++;
+            }
+            previous = instant;
+        }
+
+        if (count > 0) {
+            long average = total / count;
+            interval = interval == 0L ? average : (long) (DECAY * average + (1.0 - DECAY) * interval);
+        }
+    }
+
+    private record NodeListing(StreamFilename cursor, int empty, long retryAt) {}
+}
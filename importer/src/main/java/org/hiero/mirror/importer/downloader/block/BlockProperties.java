@@ -50,6 +50,10 @@ public final class BlockProperties {
     @Valid
     private StreamProperties stream = new StreamProperties();
 
+    @NotNull
+    @Valid
+    private TssProperties tss = new TssProperties();
+
     private boolean writeFiles = false;
 
     public String getBucketName() {
@@ -9,10 +9,16 @@ import io.micrometer.core.instrument.Meter.MeterProvider;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.io.Closeable;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
 import org.apache.commons.io.FilenameUtils;
@@ -39,7 +45,7 @@ import org.jspecify.annotations.NullMarked;
 @CustomLog
 @Named
 @NullMarked
-final class BlockStreamVerifier {
+final class BlockStreamVerifier implements Closeable {
 
     private static final String BLOCK_NODE_TAG = "block_node";
     private static final String HASH_TYPE_PREVIOUS = "Previous";
@@ -54,6 +60,7 @@ final class BlockStreamVerifier {
     private final NodeSignatureVerifier nodeSignatureVerifier;
     private final StreamFileNotifier streamFileNotifier;
     private final TssVerifier tssVerifier;
+    private final ExecutorService tssExecutor = Executors.newSingleThreadExecutor();
 
     private final MeterProvider<Timer> streamCloseMetricProvider;
     private final MeterProvider<Timer> streamLatencyMeterProvider;
@@ -96,6 +103,11 @@ final class BlockStreamVerifier {
                 .withRegistry(meterRegistry);
     }
 
+    @Override
+    public void close() {
+        tssExecutor.close();
+    }
+
     public void verify(final BlockFile blockFile) {
         final var startTime = Instant.now();
         final boolean wrapped = blockFile.hasRecordFile();
@@ -104,15 +116,28 @@ final class BlockStreamVerifier {
         try {
             verifyBlockNumber(blockFile);
             verifyHashChain(blockFile);
-            verifySignature(blockFile);
+
+            // The TSS signature verification runs while the block is transformed, and the block is only published
+            // once it succeeds
+            final var signatureVerification = verifySignature(blockFile);
+            final Optional<RecordFile> lastRecordFile;
+            final RecordFile recordFile;
+            try {
+                lastRecordFile = cutoverService.getLastRecordFile();
+                recordFile = blockFileTransformer.transform(blockFile);
+            } finally {
+                // Wait even if the transform fails, since the verification must finish before the next block can
+                // update the ledger it verifies against
+                awaitQuietly(signatureVerification);
+            }
+
+            await(signatureVerification);
 
             final var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
             streamLatencyMeterProvider
                     .withTags(BLOCK_NODE_TAG, blockFile.getNode(), WRAPPED_TAG, String.valueOf(wrapped))
                     .record(Duration.between(consensusEnd, Instant.now()));
 
-            final var lastRecordFile = cutoverService.getLastRecordFile();
-            final var recordFile = blockFileTransformer.transform(blockFile);
             streamFileNotifier.verified(recordFile);
 
             lastRecordFile.map(RecordFile::getConsensusStart).ifPresent(lastConsensusStart -> {
@@ -137,6 +162,26 @@ final class BlockStreamVerifier {
         }
     }
 
+    private static void await(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private static void awaitQuietly(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (final CompletionException _) {
+            // Surfaced by await once the block is transformed, otherwise the transform failure takes precedence
+        }
+    }
+
     private byte[] getRootHash(final long blockNumber, final BlockProof blockProof, final byte[] hash) {
         if (blockProof.hasSignedBlockProof()) {
             return hash;
@@ -234,15 +279,16 @@ final class BlockStreamVerifier {
         }
     }
 
-    private void verifySignature(final BlockFile blockFile) {
+    private CompletableFuture<Void> verifySignature(final BlockFile blockFile) {
         if (!blockFile.hasRecordFile()) {
-            verifyTssSignature(blockFile);
-        } else {
-            verifyWrappedRecordBlockSignature(blockFile);
+            return verifyTssSignature(blockFile);
         }
+
+        verifyWrappedRecordBlockSignature(blockFile);
+        return CompletableFuture.completedFuture(null);
     }
 
-    private void verifyTssSignature(final BlockFile blockFile) {
+    private CompletableFuture<Void> verifyTssSignature(final BlockFile blockFile) {
         updateLedger(blockFile);
 
         final var blockProof = blockFile.getBlockProof();
@@ -265,7 +311,8 @@ final class BlockStreamVerifier {
             logTssSignatureSize = false;
         }
 
-        tssVerifier.verify(blockFile.getIndex(), hash, signature);
+        final long blockNumber = blockFile.getIndex();
+        return CompletableFuture.runAsync(() -> tssVerifier.verify(blockNumber, hash, signature), tssExecutor);
     }
 
     private void verifyWrappedRecordBlockSignature(final BlockFile blockFile) {
@@ -0,0 +1,15 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader.block;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public final class TssProperties {
+
+    @Min(0)
+    private long cacheSize = 100_000;
+}
@@ -2,16 +2,23 @@
 
 package org.hiero.mirror.importer.downloader.block.tss;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.cryptography.tss.TSS;
 import com.hedera.cryptography.wraps.WRAPSVerificationKey;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.binary.Hex;
 import org.hiero.mirror.common.domain.tss.Ledger;
+import org.hiero.mirror.importer.downloader.block.BlockProperties;
 import org.hiero.mirror.importer.exception.SignatureVerificationException;
 import org.hiero.mirror.importer.repository.LedgerRepository;
 import org.jspecify.annotations.NullMarked;
@@ -20,17 +27,33 @@ import org.jspecify.annotations.Nullable;
 @CustomLog
 @Named
 @NullMarked
-@RequiredArgsConstructor
 final class TssVerifierImpl implements TssVerifier {
 
     private static final Ledger EMPTY = new Ledger();
 
     private final AtomicReference<Optional<Ledger>> ledger = new AtomicReference<>(Optional.empty());
     private final LedgerRepository ledgerRepository;
+    private final MeterProvider<Timer> verificationMetricProvider;
+
+    // The messages already verified with the ledger id, so re-ingested blocks skip the verification
+    private final Cache<VerifiedMessage, Boolean> verifiedMessages;
 
     private volatile @Nullable Ledger ledgerConfig;
     private volatile @Nullable Ledger ledgerOnChain;
 
+    TssVerifierImpl(
+            final BlockProperties blockProperties,
+            final LedgerRepository ledgerRepository,
+            final MeterRegistry meterRegistry) {
+        this.ledgerRepository = ledgerRepository;
+        this.verifiedMessages = Caffeine.newBuilder()
+                .maximumSize(blockProperties.getTss().getCacheSize())
+                .build();
+        this.verificationMetricProvider = Timer.builder("hiero.mirror.importer.tss.verification")
+                .description("The duration in seconds it took to verify the TSS signature of a block")
+                .withRegistry(meterRegistry);
+    }
+
     @Override
     public void setLedger(final Ledger ledger, final boolean fromConfig) {
         if (fromConfig) {
@@ -46,7 +69,17 @@ final class TssVerifierImpl implements TssVerifier {
     @Override
     public void verify(final long blockNumber, final byte[] message, final byte[] signature) {
         final var ledgerId = getLedger().getLedgerId();
-        if (!TSS.verifyTSS(ledgerId, signature, message)) {
+        final var verifiedMessage = new VerifiedMessage(ByteBuffer.wrap(ledgerId), ByteBuffer.wrap(message.clone()));
+        if (verifiedMessages.getIfPresent(verifiedMessage) != null) {
+            verificationMetricProvider.withTags("cached", "true", "success", "true").record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        final var sample = Timer.start();
+        final boolean success = TSS.verifyTSS(ledgerId, signature, message);
+        sample.stop(verificationMetricProvider.withTags("cached", "false", "success", String.valueOf(success)));
+
+        if (!success) {
             if (log.isDebugEnabled()) {
                 log.debug(
                         "Failed to verify TSS signature for block {}: ledgerId={}, message={}, signature={}",
@@ -58,6 +91,8 @@ final class TssVerifierImpl implements TssVerifier {
 
             throw new SignatureVerificationException("TSS signature verification failed for block " + blockNumber);
         }
+
+        verifiedMessages.put(verifiedMessage, Boolean.TRUE);
     }
 
     private Ledger getLedger() {
@@ -94,4 +129,6 @@ final class TssVerifierImpl implements TssVerifier {
         TSS.setAddressBook(schnorrPublicKeys, weights, nodeIds);
         WRAPSVerificationKey.setCurrentKey(ledger.getHistoryProofVerificationKey());
     }
+
+    private record VerifiedMessage(ByteBuffer ledgerId, ByteBuffer message) {}
 }
@@ -85,6 +85,8 @@ public final class S3StreamFileProvider extends AbstractStreamFileProvider {
         var pathResult = paths.computeIfAbsent(key, k -> new PathResult());
         var prefix = getPrefix(key, pathResult.getPathType());
         var startAfter = prefix + lastFilename.getFilenameAfter();
+        var previousListing = pathResult.getListing();
+        var listing = new ConcurrentHashMap<ListingKey, StreamFileData>();
 
         var listRequest = ListObjectsV2Request.builder()
                 .bucket(downloaderProperties.getBucketName())
@@ -103,9 +105,8 @@ public final class S3StreamFileProvider extends AbstractStreamFileProvider {
                 })
                 .flatMapIterable(ListObjectsV2Response::contents)
                 .filter(r -> r.size() <= downloaderProperties.getMaxSize())
-                .map(this::toStreamFilename)
-                .filter(s -> s != EPOCH && s.getFileType() == SIGNATURE)
-                .flatMapSequential(this::get)
+                .flatMapSequential(s3Object -> getSignature(s3Object, previousListing, listing))
+                .doFinally(s -> pathResult.setListing(listing))
                 .doOnSubscribe(s -> log.debug(
                         "Searching for the next {} files after {}/{}",
                         batchSize,
@@ -133,6 +134,30 @@ public final class S3StreamFileProvider extends AbstractStreamFileProvider {
                 .doOnSuccess(s -> log.debug("Finished downloading {}", s3Key));
     }
 
+    /**
+     * Gets the signature file of the listed object, reusing the one downloaded by the previous listing of the node if
+     * the object is unchanged. Signature files that haven't reached consensus yet are listed again by each poll, so
+     * this avoids downloading them repeatedly.
+     */
+    private Mono<StreamFileData> getSignature(
+            S3Object s3Object,
+            Map<ListingKey, StreamFileData> previousListing,
+            Map<ListingKey, StreamFileData> listing) {
+        var streamFilename = toStreamFilename(s3Object);
+        if (streamFilename == EPOCH || streamFilename.getFileType() != SIGNATURE) {
+            return Mono.empty();
+        }
+
+        if (s3Object.eTag() == null) {
+            return get(streamFilename);
+        }
+
+        var key = new ListingKey(s3Object.key(), s3Object.eTag());
+        var cached = previousListing.get(key);
+        var signature = cached != null ? Mono.just(cached) : get(streamFilename);
+        return signature.doOnNext(s -> listing.put(key, s));
+    }
+
     private String getAccountIdPrefix(PathKey key) {
         var streamType = key.type();
         var nodeAccount = key.node().getNodeAccountId().toString();
@@ -180,6 +205,8 @@ public final class S3StreamFileProvider extends AbstractStreamFileProvider {
         }
     }
 
+    private record ListingKey(String key, String eTag) {}
+
     record PathKey(ConsensusNode node, StreamType type) {}
 
     @Data
@@ -188,6 +215,8 @@ public final class S3StreamFileProvider extends AbstractStreamFileProvider {
         @Nullable
         private volatile Instant expiration;
 
+        private volatile Map<ListingKey, StreamFileData> listing = Map.of();
+
         private volatile PathType pathType = downloaderProperties.getPathType();
 
         private PathResult() {
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.downloader.record;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import lombok.Data;
@@ -22,6 +23,9 @@ public class RecordDownloaderProperties implements DownloaderProperties {
 
     private final CommonDownloaderProperties common;
 
+    @Min(1)
+    private int decodeParallelism = 1;
+
     private boolean enabled = true;
 
     @NotNull
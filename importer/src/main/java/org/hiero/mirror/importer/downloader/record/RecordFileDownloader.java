@@ -2,15 +2,14 @@
 
 package org.hiero.mirror.importer.downloader.record;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
@@ -35,6 +34,7 @@ import org.hiero.mirror.importer.util.Utility;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
@@ -113,34 +113,41 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
             return;
         }
 
+        // Sidecar files are read concurrently, and each file's records are added to the index as soon as it's read
         var acceptedTypes = sidecarProperties.getTypeOrdinals();
-        var records = Flux.fromIterable(recordFile.getSidecars())
+        var index = new SidecarRecordIndex();
+        Flux.fromIterable(recordFile.getSidecars())
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
                 .flatMap(sidecar -> getSidecar(recordFilename, sidecar))
-                .flatMapIterable(SidecarFile::getRecords)
-                .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
+                .doOnNext(sidecar -> index.addAll(
+                        acceptedTypes.isEmpty()
+                                ? sidecar.getRecords()
+                                : filterSidecarRecords(sidecar, acceptedTypes)))
+                .then()
                 .block();
 
-        if (records == null) {
+        if (index.isEmpty()) {
             return;
         }
 
         recordFile.getItems().forEach(recordItem -> {
-            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-            if (records.containsKey(timestamp)) {
-                recordItem.setSidecarRecords(records.get(timestamp));
+            var sidecarRecords = index.get(recordItem.getConsensusTimestamp());
+            if (!sidecarRecords.isEmpty()) {
+                recordItem.setSidecarRecords(sidecarRecords);
             }
         });
     }
 
+    private List<TransactionSidecarRecord> filterSidecarRecords(SidecarFile sidecar, Set<Integer> acceptedTypes) {
+        return sidecar.getRecords().stream()
+                .filter(t -> acceptedTypes.contains(getSidecarType(t)))
+                .toList();
+    }
+
     private Mono<SidecarFile> getSidecar(StreamFilename recordFilename, SidecarFile sidecar) {
         var sidecarFilename = StreamFilename.from(recordFilename, sidecar.getName());
-        return streamFileProvider.get(sidecarFilename).map(streamFileData -> {
+        return streamFileProvider.get(sidecarFilename).publishOn(Schedulers.parallel()).map(streamFileData -> {
             sidecarFileReader.read(sidecar, streamFileData);
 
             if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
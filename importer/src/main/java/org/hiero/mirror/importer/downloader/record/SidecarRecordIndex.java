@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader.record;
+
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hiero.mirror.common.util.DomainUtils;
+
+/**
+ * An open addressing index of sidecar records keyed by the consensus timestamp in nanoseconds. It avoids allocating a
+ * protobuf Timestamp key per record and relying on protobuf equals/hashCode when matching sidecar records to record
+ * items. Adding records is thread-safe so sidecar files can be indexed as they are read concurrently.
+ */
+final class SidecarRecordIndex {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private List<TransactionSidecarRecord>[] values;
+    private int mask;
+    private int size;
+
+    SidecarRecordIndex() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    synchronized void addAll(List<TransactionSidecarRecord> records) {
+        for (var sidecarRecord : records) {
+            add(sidecarRecord);
+        }
+    }
+
+    synchronized List<TransactionSidecarRecord> get(long consensusTimestamp) {
+        int index = indexOf(consensusTimestamp);
+        var records = values[index];
+        return records != null ? records : Collections.emptyList();
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private void add(TransactionSidecarRecord sidecarRecord) {
+        long key = DomainUtils.timestampInNanosMax(sidecarRecord.getConsensusTimestamp());
+        int index = indexOf(key);
+        var records = values[index];
+        if (records == null) {
+            records = new ArrayList<>(2);
+            keys[index] = key;
+            values[index] = records;
+            if (++size > keys.length * LOAD_FACTOR) {
+                records.add(sidecarRecord);
+                rehash(keys.length << 1);
+                return;
+            }
+        }
+
+        records.add(sidecarRecord);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new List[capacity];
+        mask = capacity - 1;
+    }
+
+    // An empty slot is identified by a null value, so any long including 0 is a valid key
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.migration;
+
+import jakarta.inject.Named;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Getter;
+import org.flywaydb.core.api.MigrationVersion;
+import org.hiero.mirror.importer.ImporterProperties;
+import org.hiero.mirror.importer.config.Owner;
+import org.hiero.mirror.importer.db.DBProperties;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Backfills account_token_count from token_account and nft, in ranges of account ids from the highest downwards. The
+ * importer applies signed changes to the counts as it ingests, so each range locks account_token_count against the
+ * importer's concurrent writes and replaces the counts of its accounts with the ones recounted in the same transaction.
+ */
+@Named
+final class AccountTokenCountMigration extends AsyncJavaMigration<Long> {
+
+    static final long DEFAULT_BATCH_SIZE = 10_000L;
+
+    private static final String BATCH_SIZE_PROPERTIES_KEY = "batchSize";
+
+    private static final String DELETE_ACCOUNT_TOKEN_COUNT_SQL = """
+            delete from account_token_count where account_id >= :lowerBound and account_id < :upperBound
+            """;
+
+    private static final String INSERT_ACCOUNT_TOKEN_COUNT_SQL = """
+            with token_account_count as (
+              select account_id,
+                     count(*) as associated_count,
+                     count(*) filter (where balance > 0) as positive_balance_count
+              from token_account
+              where account_id >= :lowerBound and account_id < :upperBound and associated is true
+              group by account_id
+            ), nft_count as (
+              select n.account_id, count(*) as nft_count
+              from nft n
+              join entity e on e.id = n.token_id
+              where n.account_id >= :lowerBound and n.account_id < :upperBound and n.deleted is false
+                and e.deleted is not true
+              group by n.account_id
+            )
+            insert into account_token_count (account_id, associated_count, nft_count, positive_balance_count)
+            select coalesce(t.account_id, n.account_id),
+                   coalesce(t.associated_count, 0),
+                   coalesce(n.nft_count, 0),
+                   coalesce(t.positive_balance_count, 0)
+            from token_account_count t
+            full outer join nft_count n on n.account_id = t.account_id
+            """;
+
+    private static final String LOCK_ACCOUNT_TOKEN_COUNT_SQL =
+            "lock table account_token_count in share row exclusive mode";
+
+    private static final String SELECT_LOWER_BOUND_SQL = """
+            select least((select min(account_id) from token_account), (select min(account_id) from nft))
+            """;
+
+    private static final String SELECT_UPPER_BOUND_SQL = """
+            select greatest((select max(account_id) from token_account), (select max(account_id) from nft)) + 1
+            """;
+
+    private final long batchSize;
+    private final boolean v2;
+
+    private long lowerBoundFloor;
+    private long initialUpperBound = -1L;
+
+    @Getter(lazy = true)
+    private final TransactionOperations transactionOperations = transactionOperations();
+
+    AccountTokenCountMigration(
+            DBProperties dbProperties,
+            Environment environment,
+            ImporterProperties importerProperties,
+            @Owner ObjectProvider<JdbcOperations> jdbcOperationsProvider) {
+        super(importerProperties.getMigration(), jdbcOperationsProvider, dbProperties.getSchema());
+        this.batchSize = Long.parseLong(migrationProperties
+                .getParams()
+                .getOrDefault(BATCH_SIZE_PROPERTIES_KEY, String.valueOf(DEFAULT_BATCH_SIZE)));
+        this.v2 = environment.acceptsProfiles(Profiles.of("v2"));
+    }
+
+    @Override
+    public String getDescription() {
+        // web3 only trusts the counts once the migration with this description records its success checksum
+        return "Backfill account_token_count from token_account and nft";
+    }
+
+    @Override
+    protected Long getInitial() {
+        return initialUpperBound;
+    }
+
+    @Override
+    protected MigrationVersion getMinimumVersion() {
+        // The version where account_token_count was added
+        return v2 ? MigrationVersion.fromVersion("2.32.0") : MigrationVersion.fromVersion("1.127.0");
+    }
+
+    @NonNull
+    @Override
+    protected Optional<Long> migratePartial(Long upperBound) {
+        long lowerBound = Math.max(lowerBoundFloor, upperBound - batchSize);
+        var params = new MapSqlParameterSource()
+                .addValue("lowerBound", lowerBound)
+                .addValue("upperBound", upperBound);
+
+        // Block the importer from applying changes to the counts until the recounted ones are committed
+        getJdbcOperations().execute(LOCK_ACCOUNT_TOKEN_COUNT_SQL);
+        getNamedParameterJdbcOperations().update(DELETE_ACCOUNT_TOKEN_COUNT_SQL, params);
+        int count = getNamedParameterJdbcOperations().update(INSERT_ACCOUNT_TOKEN_COUNT_SQL, params);
+        log.debug("Backfilled account_token_count for {} accounts in [{}, {})", count, lowerBound, upperBound);
+
+        return lowerBound > lowerBoundFloor ? Optional.of(lowerBound) : Optional.empty();
+    }
+
+    @Override
+    protected boolean performSynchronousSteps() {
+        var upperBound = getJdbcOperations().queryForObject(SELECT_UPPER_BOUND_SQL, Long.class);
+        if (upperBound == null) {
+            log.info("Skip the migration since there are no token accounts or nfts");
+            return false;
+        }
+
+        var lowerBound = getJdbcOperations().queryForObject(SELECT_LOWER_BOUND_SQL, Long.class);
+        lowerBoundFloor = Objects.requireNonNull(lowerBound);
+        initialUpperBound = upperBound;
+        log.info("Backfilling account_token_count for account ids in [{}, {})", lowerBoundFloor, initialUpperBound);
+        return true;
+    }
+
+    private TransactionOperations transactionOperations() {
+        var jdbcTemplate = (JdbcTemplate) getJdbcOperations();
+        var transactionManager = new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -53,7 +53,7 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
             order by installed_rank desc limit 1
             """;
 
-    private static final ReentrantLock MIGRATION_LOCK = new ReentrantLock(true);
+    static final ReentrantLock MIGRATION_LOCK = new ReentrantLock(true);
 
     private static final String UPDATE_CHECKSUM_SQL = """
             with last as (
@@ -262,7 +262,7 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
                 .subscribe();
     }
 
-    private MapSqlParameterSource getSqlParamSource() {
+    final MapSqlParameterSource getSqlParamSource() {
         return new MapSqlParameterSource().addValue("description", getDescription());
     }
 
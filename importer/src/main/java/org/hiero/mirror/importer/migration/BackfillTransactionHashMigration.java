@@ -8,13 +8,19 @@ import static org.hiero.mirror.common.domain.transaction.TransactionType.ETHEREU
 import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.flywaydb.core.api.MigrationVersion;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.ImporterProperties;
 import org.hiero.mirror.importer.config.Owner;
+import org.hiero.mirror.importer.db.TimePartition;
 import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.springframework.beans.factory.ObjectProvider;
@@ -131,19 +137,23 @@ public class BackfillTransactionHashMigration extends RepeatableMigration {
         }
 
         var transactionTemplate = getTransactionTemplate();
-        var count = transactionTemplate.execute(s -> {
-            if (context.truncate) {
-                getJdbcOperations().execute(TRUNCATE_SQL);
-            }
-
-            if (context.tempTable) {
-                getJdbcOperations().execute(CREATE_TEMP_TABLE_SQL);
-            }
-
-            return backfillFromTable(
-                            context, context.backfillEthereumTransactionHashSql, ETHEREUM_TRANSACTION_TABLE_NAME)
-                    + backfillFromTable(context, context.backfillTransactionHashSql, TRANSACTION_TABLE_NAME);
-        });
+        var count = migrationProperties.getParallelism() > 1
+                ? backfillInParallel(context, transactionTemplate)
+                : transactionTemplate.execute(s -> {
+                    if (context.truncate) {
+                        getJdbcOperations().execute(TRUNCATE_SQL);
+                    }
+
+                    if (context.tempTable) {
+                        getJdbcOperations().execute(CREATE_TEMP_TABLE_SQL);
+                    }
+
+                    return backfillFromTable(
+                                    context,
+                                    context.backfillEthereumTransactionHashSql,
+                                    ETHEREUM_TRANSACTION_TABLE_NAME)
+                            + backfillFromTable(context, context.backfillTransactionHashSql, TRANSACTION_TABLE_NAME);
+                });
 
         log.info(
                 "Backfilled transaction hash for {} transactions at or after {} in {}",
@@ -167,30 +177,77 @@ public class BackfillTransactionHashMigration extends RepeatableMigration {
             return 0;
         }
 
-        var params = new MapSqlParameterSource()
+        var params = getParams(context);
+        int count = 0;
+        for (var table : getTables(context, tableName)) {
+            count += backfillOneTable(params, sqlTemplate, table, context.tempTable);
+        }
+
+        return count;
+    }
+
+    /*
+     * Backfills each table partition concurrently in its own transaction. Unlike the sequential mode, the backfill isn't
+     * atomic, so a failed run should be retried with a strategy that truncates transaction_hash.
+     */
+    private int backfillInParallel(MigrationContext context, TransactionTemplate transactionTemplate) {
+        if (context.truncate) {
+            transactionTemplate.executeWithoutResult(s -> getJdbcOperations().execute(TRUNCATE_SQL));
+        }
+
+        var params = getParams(context);
+        var futures = new ArrayList<CompletableFuture<Integer>>();
+        try (var executor = Executors.newFixedThreadPool(migrationProperties.getParallelism())) {
+            for (var source : List.of(
+                    Pair.of(context.backfillEthereumTransactionHashSql, ETHEREUM_TRANSACTION_TABLE_NAME),
+                    Pair.of(context.backfillTransactionHashSql, TRANSACTION_TABLE_NAME))) {
+                var sqlTemplate = source.getLeft();
+                if (StringUtils.isEmpty(sqlTemplate)) {
+                    continue;
+                }
+
+                for (var table : getTables(context, source.getRight())) {
+                    futures.add(CompletableFuture.supplyAsync(
+                            () -> transactionTemplate.execute(s -> {
+                                if (context.tempTable) {
+                                    getJdbcOperations().execute(CREATE_TEMP_TABLE_SQL);
+                                }
+
+                                return backfillOneTable(params, sqlTemplate, table, context.tempTable);
+                            }),
+                            executor));
+                }
+            }
+
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .mapToInt(Integer::intValue)
+                    .sum();
+        }
+    }
+
+    private SqlParameterSource getParams(MigrationContext context) {
+        return new MapSqlParameterSource()
                 .addValue(END_TIMESTAMP_KEY, context.endTimestamp)
                 .addValue(START_TIMESTAMP_KEY, context.startTimestamp);
-        var partitions = timePartitionServiceProvider.getObject().getTimePartitions(tableName);
+    }
 
+    private List<String> getTables(MigrationContext context, String tableName) {
+        var partitions = timePartitionServiceProvider.getObject().getTimePartitions(tableName);
         if (partitions.isEmpty()) {
-            return backfillOneTable(params, sqlTemplate, tableName, context.tempTable);
+            return List.of(tableName);
         }
 
-        int count = 0;
-        partitions = partitions.stream()
+        return partitions.stream()
                 .filter(p -> {
                     long fromInclusive = p.getTimestampRange().lowerEndpoint();
                     long toExclusive = p.getTimestampRange().upperEndpoint();
                     // Only include a partition when it overlaps with [start, end)
                     return context.startTimestamp < toExclusive && context.endTimestamp > fromInclusive;
                 })
+                .map(TimePartition::getName)
                 .toList()
                 .reversed();
-        for (var partition : partitions) {
-            count += backfillOneTable(params, sqlTemplate, partition.getName(), context.tempTable);
-        }
-
-        return count;
     }
 
     private int backfillOneTable(SqlParameterSource params, String sqlTemplate, String tableName, boolean tempTable) {
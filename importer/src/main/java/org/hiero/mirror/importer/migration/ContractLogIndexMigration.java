@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.Map;
@@ -27,7 +28,7 @@ import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Named
-final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
+final class ContractLogIndexMigration extends RangeAsyncJavaMigration {
 
     static final long INTERVAL = Duration.ofDays(7).toNanos();
 
@@ -49,6 +50,11 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
                     drop table if exists processed_record_file_temp;
             """;
 
+    private static final String SELECT_KEYSPACE = """
+                    select min(consensus_end) as lower_bound, max(consensus_end) + 1 as upper_bound
+                    from record_file;
+            """;
+
     private static final String SELECT_RECORD_FILES_MIN_AND_MAX_TIMESTAMP = """
                     select consensus_start as min_consensus_timestamp, max_consensus_timestamp
                     from record_file
@@ -154,15 +160,24 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
                     insert into contract_log
                     select * from contract_log_migration;
 
-                    -- Save the timestamp from where to resume the migration if necessary.
-                    insert into processed_record_file_temp(consensus_end)
-                    values(:consensusStart);
+                    %s
 
                     commit;
             """;
 
+    // Save the timestamp from where to resume the sequential migration if necessary.
+    private static final String SAVE_PROCESSED_RECORD_FILE = """
+                    insert into processed_record_file_temp(consensus_end)
+                    values(:consensusStart);
+            """;
+
     private static final String V2_PROPERTY_MAX_INTERMEDIATE_RESULTS = "set citus.max_intermediate_result_size = -1;";
 
+    private static final RowMapper<Range<Long>> KEYSPACE_ROW_MAPPER = (rs, rowNum) -> {
+        long lowerBound = rs.getLong("lower_bound");
+        return rs.wasNull() ? null : Range.closedOpen(lowerBound, rs.getLong("upper_bound"));
+    };
+
     private static final RowMapper<RecordFileSlice> ROW_MAPPER = new DataClassRowMapper<>(RecordFileSlice.class);
 
     @Getter(lazy = true)
@@ -197,16 +212,25 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
         return endTimestamp;
     }
 
+    @Override
+    protected Optional<Range<Long>> getKeyspace() {
+        return Optional.ofNullable(
+                queryForObjectOrNull(SELECT_KEYSPACE, new MapSqlParameterSource(), KEYSPACE_ROW_MAPPER));
+    }
+
+    @Override
+    protected void migrateAsync() {
+        super.migrateAsync();
+        // The sequential checkpoint is stale once the migration completes in parallel mode
+        getJdbcOperations().execute(DROP_TEMPORARY_RECORD_FILE_TABLE);
+    }
+
     @NonNull
     @Override
     protected Optional<Long> migratePartial(Long consensusEndTimestamp) {
         // Get record files for an interval of time.
         var consensusStartTimestamp = consensusEndTimestamp - INTERVAL;
-        var recordFileSliceParams = new MapSqlParameterSource()
-                .addValue("consensusEndUpperBound", consensusEndTimestamp)
-                .addValue("consensusEndLowerBound", consensusStartTimestamp);
-        final var recordFileSlice =
-                queryForObjectOrNull(SELECT_RECORD_FILES_MIN_AND_MAX_TIMESTAMP, recordFileSliceParams, ROW_MAPPER);
+        final var recordFileSlice = getRecordFileSlice(consensusStartTimestamp, consensusEndTimestamp);
         if (recordFileSlice == null) {
             log.info(
                     "No more record files remaining to process. Last consensus end timestamp: {}."
@@ -216,6 +240,44 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
             return Optional.empty();
         }
 
+        updateContractLogIndexes(recordFileSlice, SAVE_PROCESSED_RECORD_FILE);
+        return Optional.of(consensusStartTimestamp);
+    }
+
+    @NonNull
+    @Override
+    protected Optional<Long> migrateRangePartial(long lowerBound, long upperBound) {
+        // The range is [lowerBound, upperBound) of record file consensus end while the slice is (lower, upper]
+        final long sliceLowerBound = Math.max(lowerBound, upperBound - INTERVAL);
+        final var recordFileSlice = getRecordFileSlice(sliceLowerBound - 1, upperBound - 1);
+        if (recordFileSlice != null) {
+            updateContractLogIndexes(recordFileSlice, StringUtils.EMPTY);
+        }
+
+        return sliceLowerBound > lowerBound ? Optional.of(sliceLowerBound) : Optional.empty();
+    }
+
+    @Override
+    protected boolean performSynchronousSteps() {
+        final var persistProperties = entityProperties.getPersist();
+        return persistProperties.isContracts() && persistProperties.isContractResults();
+    }
+
+    private RecordFileSlice getRecordFileSlice(long consensusEndLowerBound, long consensusEndUpperBound) {
+        var params = new MapSqlParameterSource()
+                .addValue("consensusEndUpperBound", consensusEndUpperBound)
+                .addValue("consensusEndLowerBound", consensusEndLowerBound);
+        return queryForObjectOrNull(SELECT_RECORD_FILES_MIN_AND_MAX_TIMESTAMP, params, ROW_MAPPER);
+    }
+
+    private String getVersionedContractUpdateQuery(String checkpointSql) {
+        return String.format(
+                UPDATE_CONTRACT_LOG_INDEXES,
+                v2 ? V2_PROPERTY_MAX_INTERMEDIATE_RESULTS : StringUtils.EMPTY,
+                checkpointSql);
+    }
+
+    private void updateContractLogIndexes(RecordFileSlice recordFileSlice, String checkpointSql) {
         // The record file slice contains only one element.
         final long sliceStartTimestamp = recordFileSlice.minConsensusTimestamp();
         final long sliceEndTimestamp = recordFileSlice.maxConsensusTimestamp();
@@ -228,20 +290,7 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
         final var params = Map.of(
                 "lastConsensusEnd", sliceEndTimestamp,
                 "consensusStart", sliceStartTimestamp);
-        getNamedParameterJdbcOperations().update(getVersionedContractUpdateQuery(), params);
-
-        return Optional.of(consensusStartTimestamp);
-    }
-
-    @Override
-    protected boolean performSynchronousSteps() {
-        final var persistProperties = entityProperties.getPersist();
-        return persistProperties.isContracts() && persistProperties.isContractResults();
-    }
-
-    private String getVersionedContractUpdateQuery() {
-        return String.format(
-                UPDATE_CONTRACT_LOG_INDEXES, v2 ? V2_PROPERTY_MAX_INTERMEDIATE_RESULTS : StringUtils.EMPTY);
+        getNamedParameterJdbcOperations().update(getVersionedContractUpdateQuery(checkpointSql), params);
     }
 
     private TransactionOperations transactionOperations() {
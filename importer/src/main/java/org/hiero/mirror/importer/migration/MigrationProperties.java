@@ -2,7 +2,9 @@
 
 package org.hiero.mirror.importer.migration;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.Map;
 import lombok.Data;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
@@ -14,6 +16,12 @@ public class MigrationProperties {
 
     private boolean enabled = true;
 
+    @Min(1)
+    private int parallelism = 1;
+
     @NotNull
     private Map<String, String> params = new CaseInsensitiveMap<>();
+
+    @NotNull
+    private Duration throttleThreshold = Duration.ofSeconds(30);
 }
@@ -0,0 +1,190 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.migration;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * An asynchronous migration over a keyspace of longs that can be split into disjoint [lower, upper) ranges and migrated
+ * concurrently when the configured parallelism is greater than one. Each range is migrated from its upper bound
+ * downwards and its progress is checkpointed in the async_migration_range_progress table in the same transaction as
+ * each chunk, so a restart resumes every range where it left off. With a parallelism of one the migration runs
+ * sequentially from {@link #getInitial()} via {@link #migratePartial(Object)}.
+ */
+@NullMarked
+abstract class RangeAsyncJavaMigration extends AsyncJavaMigration<Long> {
+
+    private static final String DELETE_RANGE_PROGRESS_SQL = """
+            delete from async_migration_range_progress
+            where description = :description and lower_bound = :lowerBound
+            """;
+
+    private static final String DELETE_ALL_RANGE_PROGRESS_SQL = """
+            delete from async_migration_range_progress
+            where description = :description
+            """;
+
+    private static final String INSERT_RANGE_PROGRESS_SQL = """
+            insert into async_migration_range_progress (description, lower_bound, upper_bound)
+            values (:description, :lowerBound, :upperBound)
+            """;
+
+    private static final String SELECT_RANGE_PROGRESS_SQL = """
+            select lower_bound, upper_bound from async_migration_range_progress
+            where description = :description
+            order by lower_bound desc
+            """;
+
+    private static final String UPDATE_RANGE_PROGRESS_SQL = """
+            update async_migration_range_progress
+            set upper_bound = :upperBound
+            where description = :description and lower_bound = :lowerBound
+            """;
+
+    protected RangeAsyncJavaMigration(
+            Map<String, MigrationProperties> migrationPropertiesMap,
+            ObjectProvider<JdbcOperations> jdbcOperationsProvider,
+            String schema) {
+        super(migrationPropertiesMap, jdbcOperationsProvider, schema);
+    }
+
+    /**
+     * Gets the keyspace to split into disjoint ranges for parallel migration. It's only requested when the configured
+     * parallelism is greater than one and no range progress is saved from a previous run.
+     *
+     * @return The [lower, upper) keyspace to migrate, or empty if there is nothing to migrate in parallel
+     */
+    protected abstract Optional<Range<Long>> getKeyspace();
+
+    /**
+     * Migrates the next chunk of a range in parallel mode. The returned value is checkpointed in the same transaction as
+     * the exclusive upper bound to resume the range from.
+     *
+     * @param lowerBound The inclusive lower bound of the range
+     * @param upperBound The exclusive upper bound of the remaining portion of the range
+     * @return The new exclusive upper bound, or empty if the range is complete
+     */
+    protected abstract Optional<Long> migrateRangePartial(long lowerBound, long upperBound);
+
+    @Override
+    protected void migrateAsync() {
+        MIGRATION_LOCK.lock();
+        try {
+            var ranges = migrationProperties.getParallelism() > 1 ? getRanges() : List.<Range<Long>>of();
+            if (ranges.isEmpty()) {
+                super.migrateAsync();
+            } else {
+                migrateRanges(ranges);
+            }
+
+            // Clean up any progress left by an earlier run with a different parallelism
+            getNamedParameterJdbcOperations().update(DELETE_ALL_RANGE_PROGRESS_SQL, getSqlParamSource());
+        } finally {
+            MIGRATION_LOCK.unlock();
+        }
+    }
+
+    private List<Range<Long>> getRanges() {
+        var ranges = new ArrayList<>(getNamedParameterJdbcOperations()
+                .query(
+                        SELECT_RANGE_PROGRESS_SQL,
+                        getSqlParamSource(),
+                        (rs, rowNum) -> Range.closedOpen(rs.getLong("lower_bound"), rs.getLong("upper_bound"))));
+
+        if (!ranges.isEmpty()) {
+            log.info("Resuming {} ranges from the last checkpoint", ranges.size());
+            return ranges;
+        }
+
+        var keyspace = getKeyspace().orElse(null);
+        if (keyspace == null || keyspace.isEmpty()) {
+            return ranges;
+        }
+
+        long lower = keyspace.lowerEndpoint();
+        long upper = keyspace.upperEndpoint();
+        long size = Math.max(1L, Math.ceilDiv(upper - lower, migrationProperties.getParallelism()));
+        for (long rangeUpper = upper; rangeUpper > lower; rangeUpper -= size) {
+            long rangeLower = Math.max(lower, rangeUpper - size);
+            var params = getSqlParamSource().addValue("lowerBound", rangeLower).addValue("upperBound", rangeUpper);
+            getNamedParameterJdbcOperations().update(INSERT_RANGE_PROGRESS_SQL, params);
+            ranges.add(Range.closedOpen(rangeLower, rangeUpper));
+        }
+
+        return ranges;
+    }
+
+    private void migrateRanges(List<Range<Long>> ranges) {
+        var stopwatch = Stopwatch.createStarted();
+        var count = new AtomicLong();
+        var failed = new AtomicBoolean(false);
+        log.info("Starting asynchronous migration of {} ranges", ranges.size());
+
+        try (var executor = Executors.newFixedThreadPool(migrationProperties.getParallelism())) {
+            var futures = ranges.stream()
+                    .map(range -> CompletableFuture.runAsync(() -> migrateRange(range, count, failed), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+            log.info(
+                    "Successfully completed asynchronous migration with {} iterations in {}", count.get(), stopwatch);
+        } catch (Exception e) {
+            log.error("Error executing asynchronous migration after {} iterations in {}", count.get(), stopwatch);
+            throw e;
+        }
+    }
+
+    private void migrateRange(Range<Long> range, AtomicLong count, AtomicBoolean failed) {
+        long lowerBound = range.lowerEndpoint();
+        var upperBound = Optional.of(range.upperEndpoint());
+        var throttleThreshold = migrationProperties.getThrottleThreshold();
+
+        try {
+            while (upperBound.isPresent() && !failed.get()) {
+                var stopwatch = Stopwatch.createStarted();
+                long previous = upperBound.get();
+                upperBound = Objects.requireNonNullElse(
+                        getTransactionOperations().execute(t -> {
+                            var next = migrateRangePartial(lowerBound, previous);
+                            var params = getSqlParamSource().addValue("lowerBound", lowerBound);
+                            if (next.isPresent()) {
+                                params.addValue("upperBound", next.get());
+                                getNamedParameterJdbcOperations().update(UPDATE_RANGE_PROGRESS_SQL, params);
+                            } else {
+                                getNamedParameterJdbcOperations().update(DELETE_RANGE_PROGRESS_SQL, params);
+                            }
+                            return next;
+                        }),
+                        Optional.empty());
+                count.incrementAndGet();
+
+                // Chunk latency is used as a proxy of database load. Back off by the same amount of time when it's
+                // too slow so the migration doesn't starve ingestion
+                var elapsed = stopwatch.elapsed();
+                if (elapsed.compareTo(throttleThreshold) > 0) {
+                    log.info("Throttling range {} for {} after a slow iteration", range, elapsed);
+                    Uninterruptibles.sleepUninterruptibly(elapsed);
+                }
+            }
+
+            log.info("Completed range {} with last upper bound: {}", range, upperBound.orElse(lowerBound));
+        } catch (Exception e) {
+            failed.set(true);
+            log.error("Error migrating range {}", range, e);
+            throw e;
+        }
+    }
+}
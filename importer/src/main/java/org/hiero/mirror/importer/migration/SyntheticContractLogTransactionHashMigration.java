@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import jakarta.inject.Named;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
@@ -26,7 +27,7 @@ import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Named
-final class SyntheticContractLogTransactionHashMigration extends AsyncJavaMigration<Long> {
+final class SyntheticContractLogTransactionHashMigration extends RangeAsyncJavaMigration {
 
     static final String DEFAULT_BATCH_INTERVAL = "12h";
 
@@ -188,10 +189,44 @@ final class SyntheticContractLogTransactionHashMigration extends AsyncJavaMigrat
         return initialUpperBound;
     }
 
+    @Override
+    protected Optional<Range<Long>> getKeyspace() {
+        return lowerBoundFloor < initialUpperBound
+                ? Optional.of(Range.closedOpen(lowerBoundFloor, initialUpperBound))
+                : Optional.empty();
+    }
+
+    @Override
+    protected void migrateAsync() {
+        super.migrateAsync();
+        // The sequential checkpoint is stale once the backfill completes in parallel mode
+        getJdbcOperations().execute(DROP_PROGRESS_TABLE);
+    }
+
     @NonNull
     @Override
     protected Optional<Long> migratePartial(Long upperBound) {
         final var lowerBound = upperBound - batchInterval;
+        backfill(lowerBound, upperBound);
+
+        if (lowerBound <= lowerBoundFloor) {
+            getJdbcOperations().execute(DROP_PROGRESS_TABLE);
+            return Optional.empty();
+        }
+
+        getNamedParameterJdbcOperations().update(CHECKPOINT_SQL, new MapSqlParameterSource("upperBound", lowerBound));
+        return Optional.of(lowerBound);
+    }
+
+    @NonNull
+    @Override
+    protected Optional<Long> migrateRangePartial(long rangeLowerBound, long upperBound) {
+        final var lowerBound = Math.max(rangeLowerBound, upperBound - batchInterval);
+        backfill(lowerBound, upperBound);
+        return lowerBound > rangeLowerBound ? Optional.of(lowerBound) : Optional.empty();
+    }
+
+    private void backfill(long lowerBound, long upperBound) {
         final var params = new MapSqlParameterSource()
                 .addValue("lowerBound", lowerBound)
                 .addValue("upperBound", upperBound)
@@ -209,14 +244,6 @@ final class SyntheticContractLogTransactionHashMigration extends AsyncJavaMigrat
                     lowerBound,
                     upperBound);
         }
-
-        if (lowerBound <= lowerBoundFloor) {
-            getJdbcOperations().execute(DROP_PROGRESS_TABLE);
-            return Optional.empty();
-        }
-
-        getNamedParameterJdbcOperations().update(CHECKPOINT_SQL, new MapSqlParameterSource("upperBound", lowerBound));
-        return Optional.of(lowerBound);
     }
 
     private TransactionOperations transactionOperations() {
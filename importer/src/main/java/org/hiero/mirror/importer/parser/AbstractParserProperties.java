@@ -43,6 +43,8 @@ public abstract class AbstractParserProperties implements ParserProperties {
     @Validated
     public static class BatchProperties {
 
+        private boolean adaptive = false;
+
         @NotNull
         @DurationMin(millis = 100L)
         private Duration flushInterval = Duration.ofSeconds(2L);
@@ -53,9 +55,16 @@ public abstract class AbstractParserProperties implements ParserProperties {
         @Min(1)
         private long maxItems = 60_000L;
 
+        @Min(1)
+        private long minItems = 1_000L;
+
         @Min(1)
         private int queueCapacity = 10;
 
+        @NotNull
+        @DurationMin(millis = 100L)
+        private Duration targetDuration = Duration.ofSeconds(5L);
+
         @NotNull
         @DurationMin(millis = 100L)
         private Duration window = Duration.ofMinutes(5L);
@@ -49,6 +49,9 @@ public class CommonParserProperties {
     @NotNull
     private Collection<@Valid TransactionFilter> include = new ArrayList<>();
 
+    @Min(0)
+    private int inlineUpsertThreshold = 0; // max batch size to upsert in a single statement without the temp table
+
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
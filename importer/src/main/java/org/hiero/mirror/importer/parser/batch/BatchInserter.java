@@ -38,12 +38,14 @@ import org.springframework.jdbc.datasource.DataSourceUtils;
 @CustomLog
 public class BatchInserter implements BatchPersister {
 
+    protected final CsvMapper csvMapper;
+    protected final CsvSchema csvSchema;
     protected final DataSource dataSource;
     protected final Timer latencyMetric;
     protected final MeterRegistry meterRegistry;
+    protected final Counter rowsMetric;
     protected final String tableName;
 
-    private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
     private final CommonParserProperties properties;
@@ -66,18 +68,18 @@ public class BatchInserter implements BatchPersister {
         this.properties = properties;
         this.meterRegistry = meterRegistry;
         this.tableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, tableName);
-        var mapper = new CsvMapper();
+        csvMapper = new CsvMapper();
         SimpleModule module = new SimpleModule();
         module.addSerializer(byte[][].class, ByteArrayArrayToHexSerializer.INSTANCE);
         module.addSerializer(byte[].class, ByteArrayToHexSerializer.INSTANCE);
         module.addSerializer(EntityIdSerializer.INSTANCE);
         module.addSerializer(ListToStringSerializer.INSTANCE);
         module.addSerializer(RangeToStringSerializer.INSTANCE);
-        mapper.registerModule(module);
-        mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
-        var schema = mapper.schemaFor(entityClass);
-        writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+        csvMapper.registerModule(module);
+        csvMapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
+        csvSchema = csvMapper.schemaFor(entityClass);
+        writer = csvMapper.writer(csvSchema);
+        String columnsCsv = Lists.newArrayList(csvSchema.iterator()).stream()
                 .map(CsvSchema.Column::getName)
                 .distinct()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
@@ -2,31 +2,45 @@
 
 package org.hiero.mirror.importer.parser.batch;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.base.CaseFormat;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import org.springframework.util.CollectionUtils;
 
 /**
- * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table
+ * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table.
+ * Small batches skip the temp table and are upserted in a single statement that reads the rows from an array parameter
+ * of the temp table's row type, avoiding the fixed cost of the truncate and COPY round trips.
  */
 @CustomLog
 public class BatchUpserter extends BatchInserter {
 
     private final String finalTableName;
+    private final String inlineUpsertSql;
+    private final int inlineUpsertParameters;
+    private final CommonParserProperties properties;
     private final String tempTableCleanupSql;
     private final String upsertSql;
     private final Timer upsertMetric;
 
+    private volatile ObjectWriter inlineWriter;
+
     public BatchUpserter(
             Class<?> entityClass,
             DataSource dataSource,
@@ -34,10 +48,16 @@ public class BatchUpserter extends BatchInserter {
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
         super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        this.properties = properties;
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
         log.trace("Table: {}, Entity: {}, upsertSql:\n{}", finalTableName, entityClass, upsertSql);
+
+        inlineUpsertSql = upsertQueryGenerator.getInlineUpsertQuery();
+        inlineUpsertParameters =
+                StringUtils.countMatches(inlineUpsertSql, UpsertQueryGenerator.INLINE_ROWS_PARAMETER);
+
         upsertMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
                 .tag("table", finalTableName)
@@ -52,6 +72,11 @@ public class BatchUpserter extends BatchInserter {
         }
 
         try {
+            if (inlineUpsertSql != null && items.size() <= properties.getInlineUpsertThreshold()) {
+                upsertInline(items, connection);
+                return;
+            }
+
             // create temp table to copy into
             cleanupTempTable(connection);
 
@@ -74,6 +99,52 @@ public class BatchUpserter extends BatchInserter {
         log.trace("Cleaned temp table {}", tableName);
     }
 
+    /*
+     * Composite literals are parsed like the CSV rows used by COPY except a backslash is an escape character and an
+     * unquoted ')' ends the record, so all strings are quoted and backslashes are escaped. Nulls stay unquoted.
+     */
+    private String[] toRecords(Collection<?> items, Connection connection) throws IOException, SQLException {
+        var writer = getInlineWriter(connection);
+        var records = new String[items.size()];
+        int index = 0;
+
+        for (var item : items) {
+            var row = StringUtils.chomp(writer.writeValueAsString(item));
+            records[index++] = "(" + row.replace("\\", "\\\\") + ")";
+        }
+
+        return records;
+    }
+
+    // The composite type requires all fields in the table's column order, which can differ from the entity's
+    private ObjectWriter getInlineWriter(Connection connection) throws SQLException {
+        var writer = inlineWriter;
+        if (writer != null) {
+            return writer;
+        }
+
+        var columns = new HashMap<String, CsvSchema.Column>();
+        csvSchema.forEach(c -> columns.put(CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, c.getName()), c));
+        var builder = csvSchema.rebuild().clearColumns();
+
+        try (var preparedStatement = connection.prepareStatement("select * from " + tableName + " limit 0")) {
+            var metadata = preparedStatement.getMetaData();
+            for (int i = 1; i <= metadata.getColumnCount(); i++) {
+                var name = metadata.getColumnName(i);
+                var column = columns.get(name);
+                if (column != null) {
+                    builder.addColumn(column.getName(), column.getType());
+                } else {
+                    builder.addColumn(name); // Not mapped by the entity so always written as null
+                }
+            }
+        }
+
+        writer = csvMapper.writer(builder.build()).with(CsvGenerator.Feature.ALWAYS_QUOTE_STRINGS);
+        inlineWriter = writer;
+        return writer;
+    }
+
     private void upsert(Connection connection) throws SQLException {
         var startTime = System.nanoTime();
 
@@ -84,4 +155,21 @@ public class BatchUpserter extends BatchInserter {
             upsertMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         }
     }
+
+    private void upsertInline(Collection<?> items, Connection connection) throws IOException, SQLException {
+        var startTime = System.nanoTime();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(inlineUpsertSql)) {
+            var records = connection.createArrayOf("text", toRecords(items, connection));
+            for (int i = 1; i <= inlineUpsertParameters; i++) {
+                preparedStatement.setArray(i, records);
+            }
+
+            preparedStatement.execute();
+            rowsMetric.increment(items.size());
+            log.debug("Upserted {} rows inline to table {}", items.size(), finalTableName);
+        } finally {
+            upsertMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
 }
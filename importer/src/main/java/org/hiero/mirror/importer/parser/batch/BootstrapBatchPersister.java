@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import com.google.common.base.CaseFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import javax.sql.DataSource;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
+import org.hiero.mirror.importer.exception.InvalidConfigurationException;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Copies rows of a time partitioned table into the unindexed staging table of their partition while the table is being
+ * bootstrapped. The partition key of each row is read from the entity property named after the table's partition
+ * column, or from that of its composite id.
+ */
+final class BootstrapBatchPersister implements BatchPersister {
+
+    private final Map<String, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
+    private final BootstrapPartitionService bootstrapPartitionService;
+    private final DataSource dataSource;
+    private final Class<?> entityClass;
+    private final MeterRegistry meterRegistry;
+    private final ToLongFunction<Object> partitionKey;
+    private final CommonParserProperties properties;
+    private final String tableName;
+
+    BootstrapBatchPersister(
+            Class<?> entityClass,
+            String tableName,
+            String partitionColumn,
+            BootstrapPartitionService bootstrapPartitionService,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties) {
+        this.bootstrapPartitionService = bootstrapPartitionService;
+        this.dataSource = dataSource;
+        this.entityClass = entityClass;
+        this.meterRegistry = meterRegistry;
+        this.partitionKey = partitionKey(entityClass, partitionColumn);
+        this.properties = properties;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public void persist(Collection<? extends Object> items) {
+        var itemsByTable = new LinkedHashMap<String, List<Object>>();
+
+        for (var item : items) {
+            var stagingTable =
+                    bootstrapPartitionService.getStagingTable(tableName, partitionKey.applyAsLong(item));
+            itemsByTable.computeIfAbsent(stagingTable, k -> new ArrayList<>()).add(item);
+        }
+
+        itemsByTable.forEach((stagingTable, stagingItems) -> batchPersisters
+                .computeIfAbsent(
+                        stagingTable,
+                        t -> new BatchInserter(entityClass, dataSource, meterRegistry, properties, t))
+                .persist(stagingItems));
+    }
+
+    private static ToLongFunction<Object> partitionKey(Class<?> entityClass, String partitionColumn) {
+        var getter = "get" + CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.UPPER_CAMEL, partitionColumn);
+        var method = findGetter(entityClass, getter);
+        if (method != null) {
+            return o -> toLong(ReflectionUtils.invokeMethod(method, o));
+        }
+
+        var idMethod = findGetter(entityClass, "getId");
+        var idKeyMethod = idMethod != null ? findGetter(idMethod.getReturnType(), getter) : null;
+        if (idKeyMethod != null) {
+            return o -> toLong(ReflectionUtils.invokeMethod(idKeyMethod, ReflectionUtils.invokeMethod(idMethod, o)));
+        }
+
+        throw new InvalidConfigurationException(String.format(
+                "Unable to bootstrap %s since it has no property for partition column %s",
+                entityClass.getSimpleName(),
+                partitionColumn));
+    }
+
+    // Skips the bridge methods of generic interfaces, e.g. Persistable.getId() returning an Object
+    private static Method findGetter(Class<?> type, String name) {
+        var methods = ReflectionUtils.getUniqueDeclaredMethods(
+                type, m -> !m.isBridge() && m.getParameterCount() == 0 && m.getName().equals(name));
+        return methods.length > 0 ? methods[0] : null;
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+
+        throw new IllegalStateException("Partition key must be a number: " + value);
+    }
+}
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.batch;
 
+import com.google.common.base.CaseFormat;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import jakarta.persistence.Entity;
@@ -12,6 +13,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import org.hiero.mirror.common.domain.Upsertable;
 import org.hiero.mirror.common.domain.transaction.TransactionHash;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
+import org.hiero.mirror.importer.exception.InvalidConfigurationException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
@@ -23,6 +26,7 @@ import org.springframework.core.annotation.AnnotationUtils;
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
+    private final Optional<BootstrapPartitionService> bootstrapPartitionService;
     private final DataSource dataSource;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
@@ -33,7 +37,9 @@ public class CompositeBatchPersister implements BatchPersister {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
-            Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
+            Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister,
+            Optional<BootstrapPartitionService> bootstrapPartitionService) {
+        this.bootstrapPartitionService = bootstrapPartitionService;
         this.dataSource = dataSource;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
@@ -67,13 +73,25 @@ public class CompositeBatchPersister implements BatchPersister {
 
         var entityClass = getEntityClass(domainClass);
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
+        var tableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, entityClass.getSimpleName());
+        var bootstrap = bootstrapPartitionService.filter(s -> s.isEnabled(tableName));
+
+        if (bootstrap.isPresent() && upsertable != null) {
+            throw new InvalidConfigurationException("Unable to bootstrap upsertable table " + tableName);
+        }
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
             return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
-        } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
         }
+
+        if (bootstrap.isPresent()) {
+            var partitionColumn = bootstrap.get().getPartitionColumn(tableName);
+            return new BootstrapBatchPersister(
+                    entityClass, tableName, partitionColumn, bootstrap.get(), dataSource, meterRegistry, properties);
+        }
+
+        return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
     }
 
     // Finds which parent class has the Entity annotation to get an accurate table name
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.importer.parser.contractlog;
 
+import java.util.List;
+
 /**
  * This service is used to centralize the conversion logic from record stream
  * items to separate
@@ -9,4 +11,10 @@ package org.hiero.mirror.importer.parser.contractlog;
  */
 public interface SyntheticContractLogService {
     void create(SyntheticContractLog log);
+
+    /**
+     * Creates the contract logs for synthetic events that all belong to the same record item, resolving the fields
+     * shared by the record item once for the whole batch.
+     */
+    void createAll(List<? extends SyntheticContractLog> logs);
 }
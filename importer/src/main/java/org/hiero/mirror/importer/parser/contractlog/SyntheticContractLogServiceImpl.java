@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.parser.contractlog;
 
 import jakarta.inject.Named;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
 import org.hiero.mirror.common.domain.contract.ContractLog;
@@ -28,29 +29,36 @@ public class SyntheticContractLogServiceImpl implements SyntheticContractLogServ
 
     @Override
     public void create(SyntheticContractLog log) {
-        if (!entityProperties.getPersist().isSyntheticContractLogs()) {
+        createAll(List.of(log));
+    }
+
+    @Override
+    public void createAll(List<? extends SyntheticContractLog> logs) {
+        if (logs.isEmpty() || !entityProperties.getPersist().isSyntheticContractLogs()) {
             return;
         }
 
-        var recordItem = log.getRecordItem();
-        var contractRelatedParentRecordItem = recordItem.getContractRelatedParent();
+        var recordItem = logs.get(0).getRecordItem();
+        boolean contractOrigin = isContract(recordItem);
 
         // We will either backfill any EVM-related fungible token transfers that don't have synthetic events produced by
-        // CN
-        // or create synthetic logs for HAPI-related transfer events
-        if (shouldSkipLogCreation(log)) {
+        // CN or create synthetic logs for HAPI-related transfer events
+        if (shouldSkipLogCreation(recordItem, contractOrigin)) {
             return;
         }
 
+        var contractRelatedParentRecordItem = recordItem.getContractRelatedParent();
+        var bloom = contractOrigin ? CONTRACT_LOG_MARKER : empty;
+        var payerAccountId = recordItem.getPayerAccountId();
         long consensusTimestamp;
-        int logIndex;
-        Integer transactionIndex;
-        EntityId contractId;
-        EntityId rootContractId;
+        Integer transactionIndex = null;
+        EntityId contractId = null;
+        EntityId rootContractId = null;
         byte[] transactionHash;
+        ContractResult contractResult = null;
+
         if (contractRelatedParentRecordItem != null) {
             consensusTimestamp = contractRelatedParentRecordItem.getConsensusTimestamp();
-            logIndex = contractRelatedParentRecordItem.getAndIncrementLogIndex();
             transactionIndex = contractRelatedParentRecordItem.getEvmTransactionIndex();
             transactionHash = contractRelatedParentRecordItem.getTransactionHash();
 
@@ -64,42 +72,52 @@ public class SyntheticContractLogServiceImpl implements SyntheticContractLogServ
             }
 
             rootContractId = EntityId.of(parentTransactionRecord.getReceipt().getContractID());
+
+            // The current recordItem should always be set, so that we know which RecordItem/ContractResult bloom to
+            // update. This field is set to be only used to calculate bloom aggregation for the RecordItem/ContractResult.
+            contractResult = parserContext.get(ContractResult.class, consensusTimestamp);
         } else {
             consensusTimestamp = recordItem.getConsensusTimestamp();
-            logIndex = recordItem.getAndIncrementLogIndex();
-            transactionIndex = recordItem.claimEvmTransactionIndex();
             transactionHash = recordItem.getTransactionHash();
-            contractId = log.getEntityId();
-            rootContractId = log.getEntityId();
         }
 
-        ContractLog contractLog = new ContractLog();
-
-        contractLog.setBloom(isContract(recordItem) ? CONTRACT_LOG_MARKER : empty);
-        contractLog.setConsensusTimestamp(consensusTimestamp);
-        contractLog.setContractId(contractId);
-        contractLog.setData(log.getData() != null ? log.getData() : empty);
-        contractLog.setIndex(logIndex);
-        contractLog.setRootContractId(rootContractId);
-        contractLog.setPayerAccountId(recordItem.getPayerAccountId());
-        contractLog.setTopic0(log.getTopic0());
-        contractLog.setTopic1(log.getTopic1());
-        contractLog.setTopic2(log.getTopic2());
-        contractLog.setTopic3(log.getTopic3());
-        contractLog.setTransactionIndex(transactionIndex);
-        contractLog.setTransactionHash(transactionHash);
-        contractLog.setSynthetic(log instanceof TransferContractLog);
-
-        // The current recordItem should always be set, so that we know which RecordItem/ContractResult bloom to update.
-        // This field is set to be only used to calculate bloom aggregation for the RecordItem/ContractResult.
+        for (var log : logs) {
+            boolean synthetic = log instanceof TransferContractLog;
+            if (contractOrigin && !synthetic) {
+                // Only TransferContractLog synthetic log creation is supported for an operation with contract origin
+                continue;
+            }
 
-        if (contractRelatedParentRecordItem != null) {
-            final var contractResult =
-                    parserContext.get(ContractResult.class, contractRelatedParentRecordItem.getConsensusTimestamp());
+            ContractLog contractLog = new ContractLog();
+
+            if (contractRelatedParentRecordItem != null) {
+                contractLog.setContractId(contractId);
+                contractLog.setIndex(contractRelatedParentRecordItem.getAndIncrementLogIndex());
+                contractLog.setRootContractId(rootContractId);
+            } else {
+                if (transactionIndex == null) {
+                    transactionIndex = recordItem.claimEvmTransactionIndex();
+                }
+
+                contractLog.setContractId(log.getEntityId());
+                contractLog.setIndex(recordItem.getAndIncrementLogIndex());
+                contractLog.setRootContractId(log.getEntityId());
+            }
+
+            contractLog.setBloom(bloom);
+            contractLog.setConsensusTimestamp(consensusTimestamp);
             contractLog.setContractResult(contractResult);
+            contractLog.setData(log.getData() != null ? log.getData() : empty);
+            contractLog.setPayerAccountId(payerAccountId);
+            contractLog.setTopic0(log.getTopic0());
+            contractLog.setTopic1(log.getTopic1());
+            contractLog.setTopic2(log.getTopic2());
+            contractLog.setTopic3(log.getTopic3());
+            contractLog.setTransactionIndex(transactionIndex);
+            contractLog.setTransactionHash(transactionHash);
+            contractLog.setSynthetic(synthetic);
+            entityListener.onContractLog(contractLog);
         }
-
-        entityListener.onContractLog(contractLog);
     }
 
     private boolean isContract(RecordItem recordItem) {
@@ -107,15 +125,7 @@ public class SyntheticContractLogServiceImpl implements SyntheticContractLogServ
                 || recordItem.getTransactionRecord().hasContractCreateResult();
     }
 
-    private boolean shouldSkipLogCreation(SyntheticContractLog syntheticLog) {
-        final var contractOrigin = isContract(syntheticLog.getRecordItem());
-        if (contractOrigin && !(syntheticLog instanceof TransferContractLog)) {
-            // Only TransferContractLog synthetic log creation is supported for an operation with contract origin
-            return true;
-        }
-
-        final var recordItem = syntheticLog.getRecordItem();
-
+    private boolean shouldSkipLogCreation(RecordItem recordItem, boolean contractOrigin) {
         final var tokenTransfersCount = recordItem.getTransactionRecord().getTokenTransferListsCount();
         if (tokenTransfersCount > 2 && !entityProperties.getPersist().isSyntheticContractLogsMulti()) {
             // We have a multi-party fungible transfer scenario and synthetic event creation for
@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Measures the processing cost of the stages of the record item pipeline, e.g. the transaction handlers, the entity
+ * listener callbacks and the contract result stages. Timings are only recorded for one out of every sample rate record
+ * items, while the record file listeners and the parser context object counts are recorded for every flush. Profiling
+ * can be enabled and disabled at runtime since the properties are checked for each record item.
+ * <p>
+ * A start timestamp is obtained before a stage and passed back when it stops, which avoids allocating a lambda per stage
+ * when the record item isn't sampled. Record items are processed by a single thread, so the sampling state isn't
+ * synchronized.
+ */
+@Named
+@RequiredArgsConstructor
+public class RecordParserProfiler {
+
+    public static final String COMPONENT_CONTRACT_RESULT = "contract_result";
+    public static final String COMPONENT_ENTITY_LISTENER = "entity_listener";
+    public static final String COMPONENT_FILE_LISTENER = "file_listener";
+    public static final String COMPONENT_TRANSACTION_HANDLER = "transaction_handler";
+
+    static final String METRIC_DURATION = "hiero.mirror.importer.parse.profile.duration";
+    static final String METRIC_OBJECTS = "hiero.mirror.importer.parse.context.objects";
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordParserProperties parserProperties;
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private long items;
+    private boolean sampled;
+
+    /**
+     * Counts the objects of a domain class in the parser context that are flushed to the database.
+     *
+     * @param objects The objects of a single domain class
+     */
+    public void count(Collection<?> objects) {
+        if (!isEnabled() || objects.isEmpty()) {
+            return;
+        }
+
+        var domainClass = objects.iterator().next().getClass();
+        counters.computeIfAbsent(domainClass, this::newCounter).increment(objects.size());
+    }
+
+    /**
+     * Decides whether the stages of the next record item are sampled. Must be called once before each record item.
+     */
+    public void onItem() {
+        var profilerProperties = parserProperties.getProfiler();
+        sampled = profilerProperties.isEnabled() && items++ % profilerProperties.getSampleRate() == 0;
+    }
+
+    /**
+     * Starts timing a stage of the current record item.
+     *
+     * @return The start timestamp to pass to {@link #stop(String, String, long)}
+     */
+    public long start() {
+        return sampled ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    /**
+     * Starts timing a stage that happens once per flush, regardless of sampling.
+     *
+     * @return The start timestamp to pass to {@link #stop(String, String, long)}
+     */
+    public long startFlush() {
+        return isEnabled() ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    public void stop(String component, String name, long start) {
+        if (start != NOT_SAMPLED) {
+            var timer = timers.computeIfAbsent(new TimerKey(component, name), this::newTimer);
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops timing a stage implemented by a delegate, named after the delegate's class and the method. The name is only
+     * built if the stage was sampled.
+     */
+    public void stop(String component, Object delegate, String method, long start) {
+        if (start != NOT_SAMPLED) {
+            var name = ClassUtils.getUserClass(delegate).getSimpleName() + "." + method;
+            stop(component, name, start);
+        }
+    }
+
+    private boolean isEnabled() {
+        return parserProperties.getProfiler().isEnabled();
+    }
+
+    private Counter newCounter(Class<?> domainClass) {
+        return Counter.builder(METRIC_OBJECTS)
+                .description("The number of objects of each domain class flushed from the parser context")
+                .tag("class", domainClass.getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private Timer newTimer(TimerKey key) {
+        return Timer.builder(METRIC_DURATION)
+                .description("The time it took to process a sampled stage of the record item pipeline")
+                .tag("component", key.component())
+                .tag("name", key.name())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String component, String name) {}
+}
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.importer.parser.record.entity;
 
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.COMPONENT_ENTITY_LISTENER;
+
 import jakarta.inject.Named;
 import java.util.Collection;
 import java.util.List;
@@ -32,6 +34,7 @@ import org.hiero.mirror.common.domain.token.Nft;
 import org.hiero.mirror.common.domain.token.Token;
 import org.hiero.mirror.common.domain.token.TokenAccount;
 import org.hiero.mirror.common.domain.token.TokenAirdrop;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.topic.Topic;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
@@ -46,6 +49,7 @@ import org.hiero.mirror.common.domain.transaction.Transaction;
 import org.hiero.mirror.common.domain.transaction.TransactionSignature;
 import org.hiero.mirror.common.domain.tss.Ledger;
 import org.hiero.mirror.importer.exception.ImporterException;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.context.annotation.Primary;
 
@@ -58,78 +62,81 @@ final class CompositeEntityListener implements EntityListener {
 
     private final List<EntityListener> entityListeners;
     private final EntityProperties entityProperties;
+    private final RecordParserProfiler recordParserProfiler;
 
-    private <T> void onEach(BiConsumer<EntityListener, T> consumer, T t) {
+    private <T> void onEach(BiConsumer<EntityListener, T> consumer, String method, T t) {
         for (final var entityListener : entityListeners) {
             if (entityListener.isEnabled()) {
+                long start = recordParserProfiler.start();
                 consumer.accept(entityListener, t);
+                recordParserProfiler.stop(COMPONENT_ENTITY_LISTENER, entityListener, method, start);
             }
         }
     }
 
     @Override
     public void onAssessedCustomFee(AssessedCustomFee assessedCustomFee) throws ImporterException {
-        onEach(EntityListener::onAssessedCustomFee, assessedCustomFee);
+        onEach(EntityListener::onAssessedCustomFee, "onAssessedCustomFee", assessedCustomFee);
     }
 
     @Override
     public void onContract(Contract contract) throws ImporterException {
-        onEach(EntityListener::onContract, contract);
+        onEach(EntityListener::onContract, "onContract", contract);
     }
 
     @Override
     public void onContractAction(ContractAction contractAction) throws ImporterException {
-        onEach(EntityListener::onContractAction, contractAction);
+        onEach(EntityListener::onContractAction, "onContractAction", contractAction);
     }
 
     @Override
     public void onContractLog(ContractLog contractLog) throws ImporterException {
-        onEach(EntityListener::onContractLog, contractLog);
+        onEach(EntityListener::onContractLog, "onContractLog", contractLog);
     }
 
     @Override
     public void onContractResult(ContractResult contractResult) throws ImporterException {
-        onEach(EntityListener::onContractResult, contractResult);
+        onEach(EntityListener::onContractResult, "onContractResult", contractResult);
     }
 
     @Override
     public void onContractStateChange(ContractStateChange contractStateChange) throws ImporterException {
-        onEach(EntityListener::onContractStateChange, contractStateChange);
+        onEach(EntityListener::onContractStateChange, "onContractStateChange", contractStateChange);
     }
 
     @Override
     public void onContractTransactions(Collection<ContractTransaction> contractTransactions) {
-        onEach(EntityListener::onContractTransactions, contractTransactions);
+        onEach(EntityListener::onContractTransactions, "onContractTransactions", contractTransactions);
     }
 
     @Override
     public void onCryptoAllowance(CryptoAllowance cryptoAllowance) throws ImporterException {
-        onEach(EntityListener::onCryptoAllowance, cryptoAllowance);
+        onEach(EntityListener::onCryptoAllowance, "onCryptoAllowance", cryptoAllowance);
     }
 
     @Override
     public void onCryptoTransfer(CryptoTransfer cryptoTransfer) throws ImporterException {
-        onEach(EntityListener::onCryptoTransfer, cryptoTransfer);
+        onEach(EntityListener::onCryptoTransfer, "onCryptoTransfer", cryptoTransfer);
     }
 
     @Override
     public void onCustomFee(CustomFee customFee) throws ImporterException {
-        onEach(EntityListener::onCustomFee, customFee);
+        onEach(EntityListener::onCustomFee, "onCustomFee", customFee);
     }
 
     @Override
     public void onEntity(Entity entity) throws ImporterException {
-        onEach(EntityListener::onEntity, entity);
+        onEach(EntityListener::onEntity, "onEntity", entity);
     }
 
     @Override
     public void onEntityTransactions(Collection<EntityTransaction> entityTransactions) throws ImporterException {
-        onEach(EntityListener::onEntityTransactions, entityTransactions);
+        onEach(EntityListener::onEntityTransactions, "onEntityTransactions", entityTransactions);
     }
 
     @Override
     public void onEthereumTransaction(EthereumTransaction ethereumTransaction) {
-        onEach(EntityListener::onEthereumTransaction, ethereumTransaction);
+        onEach(EntityListener::onEthereumTransaction, "onEthereumTransaction", ethereumTransaction);
     }
 
     @Override
@@ -138,121 +145,131 @@ final class CompositeEntityListener implements EntityListener {
             return;
         }
 
-        onEach(EntityListener::onFileData, fileData);
+        onEach(EntityListener::onFileData, "onFileData", fileData);
     }
 
     @Override
     public void onHook(Hook hook) throws ImporterException {
-        onEach(EntityListener::onHook, hook);
+        onEach(EntityListener::onHook, "onHook", hook);
     }
 
     @Override
     public void onHookStorageChange(HookStorageChange storageChange) throws ImporterException {
-        onEach(EntityListener::onHookStorageChange, storageChange);
+        onEach(EntityListener::onHookStorageChange, "onHookStorageChange", storageChange);
     }
 
     @Override
     public void onLedger(final Ledger ledger) throws ImporterException {
-        onEach(EntityListener::onLedger, ledger);
+        onEach(EntityListener::onLedger, "onLedger", ledger);
     }
 
     @Override
     public void onLiveHash(LiveHash liveHash) throws ImporterException {
-        onEach(EntityListener::onLiveHash, liveHash);
+        onEach(EntityListener::onLiveHash, "onLiveHash", liveHash);
     }
 
     @Override
     public void onNetworkFreeze(NetworkFreeze networkFreeze) {
-        onEach(EntityListener::onNetworkFreeze, networkFreeze);
+        onEach(EntityListener::onNetworkFreeze, "onNetworkFreeze", networkFreeze);
     }
 
     @Override
     public void onNetworkStake(NetworkStake networkStake) throws ImporterException {
-        onEach(EntityListener::onNetworkStake, networkStake);
+        onEach(EntityListener::onNetworkStake, "onNetworkStake", networkStake);
     }
 
     @Override
     public void onNft(Nft nft) throws ImporterException {
-        onEach(EntityListener::onNft, nft);
+        onEach(EntityListener::onNft, "onNft", nft);
     }
 
     @Override
     public void onNftAllowance(NftAllowance nftAllowance) throws ImporterException {
-        onEach(EntityListener::onNftAllowance, nftAllowance);
+        onEach(EntityListener::onNftAllowance, "onNftAllowance", nftAllowance);
     }
 
     @Override
     public void onNode(Node node) throws ImporterException {
-        onEach(EntityListener::onNode, node);
+        onEach(EntityListener::onNode, "onNode", node);
     }
 
     @Override
     public void onNodeStake(NodeStake nodeStake) throws ImporterException {
-        onEach(EntityListener::onNodeStake, nodeStake);
+        onEach(EntityListener::onNodeStake, "onNodeStake", nodeStake);
     }
 
     @Override
     public void onPrng(Prng prng) {
-        onEach(EntityListener::onPrng, prng);
+        onEach(EntityListener::onPrng, "onPrng", prng);
     }
 
     @Override
     public void onRegisteredNode(RegisteredNode registeredNode) throws ImporterException {
-        onEach(EntityListener::onRegisteredNode, registeredNode);
+        onEach(EntityListener::onRegisteredNode, "onRegisteredNode", registeredNode);
     }
 
     @Override
     public void onSchedule(Schedule schedule) throws ImporterException {
-        onEach(EntityListener::onSchedule, schedule);
+        onEach(EntityListener::onSchedule, "onSchedule", schedule);
     }
 
     @Override
     public void onStakingRewardTransfer(StakingRewardTransfer stakingRewardTransfer) {
-        onEach(EntityListener::onStakingRewardTransfer, stakingRewardTransfer);
+        onEach(EntityListener::onStakingRewardTransfer, "onStakingRewardTransfer", stakingRewardTransfer);
     }
 
     @Override
     public void onToken(Token token) throws ImporterException {
-        onEach(EntityListener::onToken, token);
+        onEach(EntityListener::onToken, "onToken", token);
     }
 
     @Override
     public void onTokenAccount(TokenAccount tokenAccount) throws ImporterException {
-        onEach(EntityListener::onTokenAccount, tokenAccount);
+        onEach(EntityListener::onTokenAccount, "onTokenAccount", tokenAccount);
     }
 
     @Override
     public void onTokenAirdrop(TokenAirdrop tokenAirdrop) throws ImporterException {
-        onEach(EntityListener::onTokenAirdrop, tokenAirdrop);
+        onEach(EntityListener::onTokenAirdrop, "onTokenAirdrop", tokenAirdrop);
     }
 
     @Override
     public void onTokenAllowance(TokenAllowance tokenAllowance) throws ImporterException {
-        onEach(EntityListener::onTokenAllowance, tokenAllowance);
+        onEach(EntityListener::onTokenAllowance, "onTokenAllowance", tokenAllowance);
+    }
+
+    @Override
+    public void onTokenSupplyChange(TokenSupplyChange tokenSupplyChange) {
+        onEach(EntityListener::onTokenSupplyChange, "onTokenSupplyChange", tokenSupplyChange);
+    }
+
+    @Override
+    public void onTokenSupplyHistory(TokenSupplyHistory tokenSupplyHistory) {
+        onEach(EntityListener::onTokenSupplyHistory, "onTokenSupplyHistory", tokenSupplyHistory);
     }
 
     @Override
     public void onTokenTransfer(TokenTransfer tokenTransfer) throws ImporterException {
-        onEach(EntityListener::onTokenTransfer, tokenTransfer);
+        onEach(EntityListener::onTokenTransfer, "onTokenTransfer", tokenTransfer);
     }
 
     @Override
     public void onTopic(Topic topic) throws ImporterException {
-        onEach(EntityListener::onTopic, topic);
+        onEach(EntityListener::onTopic, "onTopic", topic);
     }
 
     @Override
     public void onTopicMessage(TopicMessage topicMessage) throws ImporterException {
-        onEach(EntityListener::onTopicMessage, topicMessage);
+        onEach(EntityListener::onTopicMessage, "onTopicMessage", topicMessage);
     }
 
     @Override
     public void onTransaction(Transaction transaction) throws ImporterException {
-        onEach(EntityListener::onTransaction, transaction);
+        onEach(EntityListener::onTransaction, "onTransaction", transaction);
     }
 
     @Override
     public void onTransactionSignature(TransactionSignature transactionSignature) throws ImporterException {
-        onEach(EntityListener::onTransactionSignature, transactionSignature);
+        onEach(EntityListener::onTransactionSignature, "onTransactionSignature", transactionSignature);
     }
 }
@@ -2,11 +2,14 @@
 
 package org.hiero.mirror.importer.parser.record.entity;
 
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.COMPONENT_FILE_LISTENER;
+
 import jakarta.inject.Named;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.exception.ImporterException;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
 import org.hiero.mirror.importer.parser.record.RecordStreamFileListener;
 import org.springframework.context.annotation.Primary;
 
@@ -16,11 +19,15 @@ import org.springframework.context.annotation.Primary;
 public class CompositeRecordStreamFileListener implements RecordStreamFileListener {
 
     private final List<RecordStreamFileListener> listeners;
+    private final RecordParserProfiler recordParserProfiler;
 
     @Override
     public void onEnd(RecordFile streamFile) throws ImporterException {
         for (int i = 0; i < listeners.size(); i++) {
-            listeners.get(i).onEnd(streamFile);
+            var listener = listeners.get(i);
+            long start = recordParserProfiler.startFlush();
+            listener.onEnd(streamFile);
+            recordParserProfiler.stop(COMPONENT_FILE_LISTENER, listener, "onEnd", start);
         }
     }
 }
@@ -27,6 +27,7 @@ import org.hiero.mirror.common.domain.token.Nft;
 import org.hiero.mirror.common.domain.token.Token;
 import org.hiero.mirror.common.domain.token.TokenAccount;
 import org.hiero.mirror.common.domain.token.TokenAirdrop;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.topic.Topic;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
@@ -115,6 +116,10 @@ public interface EntityListener {
 
     default void onTokenAllowance(TokenAllowance tokenAllowance) {}
 
+    default void onTokenSupplyChange(TokenSupplyChange tokenSupplyChange) {}
+
+    default void onTokenSupplyHistory(TokenSupplyHistory tokenSupplyHistory) {}
+
     default void onTokenTransfer(TokenTransfer tokenTransfer) throws ImporterException {}
 
     default void onTopic(Topic topic) throws ImporterException {}
@@ -3,6 +3,8 @@
 package org.hiero.mirror.importer.parser.record.entity;
 
 import static org.hiero.mirror.common.domain.token.NftTransfer.WILDCARD_SERIAL_NUMBER;
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.COMPONENT_CONTRACT_RESULT;
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.COMPONENT_TRANSACTION_HANDLER;
 
 import com.google.common.collect.Range;
 import com.google.protobuf.ByteString;
@@ -55,6 +57,7 @@ import org.hiero.mirror.importer.parser.contractlog.TransferIndexedContractLog;
 import org.hiero.mirror.importer.parser.contractresult.SyntheticContractResultService;
 import org.hiero.mirror.importer.parser.contractresult.TransferContractResult;
 import org.hiero.mirror.importer.parser.record.RecordItemListener;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
 import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.parser.record.transactionhandler.TransactionHandler;
 import org.hiero.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
@@ -75,6 +78,7 @@ public class EntityRecordItemListener implements RecordItemListener {
     private final SyntheticContractResultService syntheticContractResultService;
     private final TransferEventsGenerator transferEventsGenerator;
     private final RecordParserProperties parserProperties;
+    private final RecordParserProfiler recordParserProfiler;
 
     @Override
     public void onItem(final RecordItem recordItem) throws ImporterException {
@@ -82,6 +86,7 @@ public class EntityRecordItemListener implements RecordItemListener {
             return;
         }
 
+        recordParserProfiler.onItem();
         final var persistProperties = entityProperties.getPersist();
         recordItem.setEntityTransactionPredicate(persistProperties::shouldPersistEntityTransaction);
         recordItem.setEntityNftTransactionPredicate(persistProperties::shouldPersistEntityNftTransaction);
@@ -119,7 +124,9 @@ public class EntityRecordItemListener implements RecordItemListener {
         }
 
         Transaction transaction = buildTransaction(entityId, recordItem);
+        long start = recordParserProfiler.start();
         transactionHandler.updateTransaction(transaction, recordItem);
+        recordParserProfiler.stop(COMPONENT_TRANSACTION_HANDLER, transactionType.name(), start);
 
         // Insert transfers even on failure
         insertTransferList(recordItem);
@@ -150,7 +157,9 @@ public class EntityRecordItemListener implements RecordItemListener {
             insertAssessedCustomFees(recordItem);
         }
 
+        start = recordParserProfiler.start();
         contractResultService.process(recordItem, transaction);
+        recordParserProfiler.stop(COMPONENT_CONTRACT_RESULT, "process", start);
 
         var entityTransactions = recordItem.getEntityTransactions();
         if (!entityTransactions.isEmpty()) {
@@ -443,6 +452,7 @@ public class EntityRecordItemListener implements RecordItemListener {
                 token.setTokenId(tokenId.getId());
                 token.setTotalSupply(accountAmount.getAmount());
                 entityListener.onToken(token);
+                entityListener.onTokenSupplyChange(new TokenSupplyChange(consensusTimestamp, tokenId.getId(), amount));
             }
 
             logTokenEvents(recordItem, tokenId, isWipeOrBurn, isMint, accountId, amount);
@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity;
+
+/**
+ * A change to a token's total supply that is only known as an amount, as opposed to the absolute total supply recorded
+ * by a {@link org.hiero.mirror.common.domain.token.TokenSupplyHistory}. It's produced by the dissociation of an account
+ * from a deleted token, which burns the account's balance of the token.
+ *
+ * @param consensusTimestamp The consensus timestamp of the change
+ * @param tokenId            The id of the token
+ * @param amount             The signed change to the total supply
+ */
+public record TokenSupplyChange(long consensusTimestamp, long tokenId, long amount) {}
@@ -58,6 +58,10 @@ final class TransferEventsGenerator {
         int s = 0;
         int r = 0;
 
+        // Each iteration settles at least one party, so there are at most this many pairs
+        final var syntheticLogs = new ArrayList<TransferContractLog>(senders.size() + receivers.size() - 1);
+        EntityId senderId = null;
+        EntityId receiverId = null;
         AccountAmount sender = null;
         AccountAmount receiver = null;
         var senderRemainingAmount = 0L;
@@ -67,21 +71,19 @@ final class TransferEventsGenerator {
         while (s < senders.size() && r < receivers.size()) {
             if (sender == null) {
                 sender = senders.get(s);
+                senderId = EntityId.of(sender.getAccountID());
                 senderRemainingAmount = Math.abs(sender.getAmount());
             }
             if (receiver == null) {
                 receiver = receivers.get(r);
+                receiverId = EntityId.of(receiver.getAccountID());
                 receiverRemainingAmount = receiver.getAmount();
             }
 
             amountForSyntheticContractLog = Math.min(senderRemainingAmount, receiverRemainingAmount);
 
-            syntheticContractLogService.create(new TransferContractLog(
-                    recordItem,
-                    tokenId,
-                    EntityId.of(sender.getAccountID()),
-                    EntityId.of(receiver.getAccountID()),
-                    amountForSyntheticContractLog));
+            syntheticLogs.add(new TransferContractLog(
+                    recordItem, tokenId, senderId, receiverId, amountForSyntheticContractLog));
             senderRemainingAmount -= amountForSyntheticContractLog;
             receiverRemainingAmount -= amountForSyntheticContractLog;
 
@@ -95,5 +97,7 @@ final class TransferEventsGenerator {
                 receiver = null;
             }
         }
+
+        syntheticContractLogService.createAll(syntheticLogs);
     }
 }
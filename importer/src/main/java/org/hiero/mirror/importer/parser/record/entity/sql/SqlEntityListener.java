@@ -4,9 +4,14 @@ package org.hiero.mirror.importer.parser.record.entity.sql;
 
 import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
@@ -23,6 +28,7 @@ import org.hiero.mirror.common.domain.entity.CryptoAllowance;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityTransaction;
+import org.hiero.mirror.common.domain.entity.EntityType;
 import org.hiero.mirror.common.domain.entity.FungibleAllowance;
 import org.hiero.mirror.common.domain.entity.NftAllowance;
 import org.hiero.mirror.common.domain.entity.TokenAllowance;
@@ -41,6 +47,7 @@ import org.hiero.mirror.common.domain.token.NftTransfer;
 import org.hiero.mirror.common.domain.token.Token;
 import org.hiero.mirror.common.domain.token.TokenAccount;
 import org.hiero.mirror.common.domain.token.TokenAirdrop;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.topic.Topic;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
@@ -60,13 +67,17 @@ import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.exception.ImporterException;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
 import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.parser.record.RecordStreamFileListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.entity.TokenSupplyChange;
+import org.hiero.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker;
 import org.hiero.mirror.importer.repository.NftRepository;
 import org.hiero.mirror.importer.repository.TokenAccountRepository;
+import org.hiero.mirror.importer.repository.TokenSupplyHistoryRepository;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.core.annotation.Order;
 import org.springframework.util.CollectionUtils;
@@ -79,14 +90,24 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
+    private final BalanceChangeTracker balanceChangeTracker;
     private final BatchPersister batchPersister;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
     private final NftRepository nftRepository;
     private final TokenAccountRepository tokenAccountRepository;
+    private final TokenSupplyHistoryRepository tokenSupplyHistoryRepository;
     private final SqlProperties sqlProperties;
     private final RecordParserProperties parserProperties;
+    private final RecordParserProfiler recordParserProfiler;
+
+    // Signed changes to the owned nfts of accounts and the tokens deleted, applied to account_token_count on flush
+    private final Map<Long, Long> nftCountChanges = new HashMap<>();
+    private final Set<Long> deletedTokenIds = new HashSet<>();
+
+    // Changes to the total supply of deleted tokens from dissociations, resolved against the persisted supply
+    private final List<TokenSupplyChange> tokenSupplyChanges = new ArrayList<>();
 
     @Override
     public boolean isEnabled() {
@@ -191,6 +212,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
         context.merge(id, entity, this::mergeEntity);
         entityIdService.notify(entity);
+
+        if (entity.getType() == EntityType.TOKEN && Boolean.TRUE.equals(entity.getDeleted())) {
+            deletedTokenIds.add(id);
+        }
+
+        if (entity.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onAccount(id, entity.getBalanceTimestamp());
+        }
     }
 
     @Override
@@ -332,6 +361,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
 
         context.merge(id, tokenAccount, this::mergeTokenAccount);
+
+        if (tokenAccount.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onTokenAccount(
+                    tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount.getBalanceTimestamp());
+        }
     }
 
     private boolean isTokenAccountAlreadyAssociated(Id id) {
@@ -359,6 +393,16 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         context.merge(tokenAllowance.getId(), tokenAllowance, this::mergeFungibleAllowance);
     }
 
+    @Override
+    public void onTokenSupplyHistory(TokenSupplyHistory tokenSupplyHistory) {
+        context.add(tokenSupplyHistory);
+    }
+
+    @Override
+    public void onTokenSupplyChange(TokenSupplyChange tokenSupplyChange) {
+        tokenSupplyChanges.add(tokenSupplyChange);
+    }
+
     @Override
     public void onTokenTransfer(TokenTransfer tokenTransfer) throws ImporterException {
         if (entityProperties.getPersist().isTrackBalance()) {
@@ -426,18 +470,29 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flush() {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+            updateAccountTokenCount();
+            context.forEach(items -> {
+                recordParserProfiler.count(items);
+                batchPersister.persist(items);
+            });
+            updateAccountNftCount();
+            insertTokenSupplyChanges();
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
         } catch (Exception e) {
             throw new ParserException(e);
+        } finally {
+            nftCountChanges.clear();
+            deletedTokenIds.clear();
+            tokenSupplyChanges.clear();
         }
     }
 
     private void flushNftState() {
         try {
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
+            updateAccountTokenCount();
             NFT_FLUSH.forEach(c -> {
                 var data = context.get(c);
                 batchPersister.persist(data);
@@ -450,6 +505,78 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    private void insertTokenSupplyChanges() {
+        if (tokenSupplyChanges.isEmpty()) {
+            return;
+        }
+
+        int size = tokenSupplyChanges.size();
+        var tokenIds = new Long[size];
+        var timestamps = new Long[size];
+        var amounts = new Long[size];
+
+        for (int i = 0; i < size; i++) {
+            var change = tokenSupplyChanges.get(i);
+            tokenIds[i] = change.tokenId();
+            timestamps[i] = change.consensusTimestamp();
+            amounts[i] = change.amount();
+        }
+
+        int count = tokenSupplyHistoryRepository.insertDissociated(tokenIds, timestamps, amounts);
+        log.debug("Inserted {} token supply history rows of dissociated deleted tokens", count);
+    }
+
+    private void onNftCountChange(EntityId accountId, long change) {
+        if (!EntityId.isEmpty(accountId)) {
+            nftCountChanges.merge(accountId.getId(), change, Long::sum);
+        }
+    }
+
+    private void updateAccountNftCount() {
+        if (nftCountChanges.isEmpty() && deletedTokenIds.isEmpty()) {
+            return;
+        }
+
+        int count = nftRepository.updateAccountNftCount(
+                nftCountChanges.keySet().toArray(Long[]::new),
+                nftCountChanges.values().toArray(Long[]::new),
+                deletedTokenIds.toArray(Long[]::new));
+        log.debug("Updated nft counts of {} accounts", count);
+    }
+
+    /**
+     * Updates the association and positive balance counts of accounts from the pending token account changes. It must
+     * run before the token accounts are persisted, since the changes are relative to their state in the database.
+     */
+    private void updateAccountTokenCount() {
+        // Only the latest state of each token account in the context reflects all of its changes
+        var tokenAccounts = context.get(TokenAccount.class).stream()
+                .filter(t -> context.get(TokenAccount.class, t.getId()) == t)
+                .toList();
+        if (tokenAccounts.isEmpty()) {
+            return;
+        }
+
+        int size = tokenAccounts.size();
+        var accountIds = new Long[size];
+        var tokenIds = new Long[size];
+        var associated = new Boolean[size];
+        var balances = new Long[size];
+        var created = new Boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            var tokenAccount = tokenAccounts.get(i);
+            accountIds[i] = tokenAccount.getAccountId();
+            tokenIds[i] = tokenAccount.getTokenId();
+            associated[i] = tokenAccount.getAssociated();
+            balances[i] = tokenAccount.getBalance();
+            created[i] = tokenAccount.getCreatedTimestamp() != null;
+        }
+
+        int count = tokenAccountRepository.updateAccountTokenCount(accountIds, tokenIds, associated, balances, created);
+        log.debug("Updated token counts of {} accounts", count);
+    }
+
     private CustomFee mergeCustomFee(CustomFee previous, CustomFee current) {
         previous.setTimestampUpper(current.getTimestampLower());
         return current;
@@ -992,15 +1119,30 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             long tokenId = nftTransfer.getTokenId().getId();
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
+                long consensusTimestamp = transaction.getConsensusTimestamp();
+                long newTreasury = nftTransfer.getReceiverAccountId().getId();
+                long previousTreasury = nftTransfer.getSenderAccountId().getId();
                 flushNftState();
-                nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
-                        nftTransfer.getReceiverAccountId().getId(),
-                        nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                long moved = nftRepository.countByAccountIdAndTokenIdNotDeleted(previousTreasury, tokenId);
+                onNftCountChange(nftTransfer.getSenderAccountId(), -moved);
+                onNftCountChange(nftTransfer.getReceiverAccountId(), moved);
+                // the treasury update moves the balance between the token accounts of the treasuries in the database
+                tokenAccountRepository.updateAccountTokenCount(
+                        new Long[] {previousTreasury, newTreasury},
+                        new Long[] {tokenId, tokenId},
+                        new Boolean[2],
+                        new Long[] {-moved, moved},
+                        new Boolean[] {false, false});
+                nftRepository.updateTreasury(consensusTimestamp, newTreasury, previousTreasury, tokenId);
+                balanceChangeTracker.onTokenAccount(newTreasury, tokenId, consensusTimestamp);
+                balanceChangeTracker.onTokenAccount(previousTreasury, tokenId, consensusTimestamp);
                 return;
             }
 
+            // mint has no sender, while burn and wipe have no receiver
+            onNftCountChange(nftTransfer.getSenderAccountId(), -1L);
+            onNftCountChange(nftTransfer.getReceiverAccountId(), 1L);
+
             if (!entityProperties.getPersist().isTrackBalance()) {
                 return;
             }
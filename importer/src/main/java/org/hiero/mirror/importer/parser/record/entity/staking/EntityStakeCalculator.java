@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.record.entity.staking;
 
+import org.hiero.mirror.importer.db.BootstrapCompletedEvent;
 import org.hiero.mirror.importer.parser.record.transactionhandler.NodeStakeUpdatedEvent;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
@@ -18,4 +19,9 @@ public interface EntityStakeCalculator {
     default void calculateOnApplicationReady() {
         calculate();
     }
+
+    @EventListener(classes = BootstrapCompletedEvent.class)
+    default void calculateOnBootstrapCompleted() {
+        calculate();
+    }
 }
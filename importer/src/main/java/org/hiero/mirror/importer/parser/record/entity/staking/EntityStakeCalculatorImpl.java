@@ -4,10 +4,12 @@ package org.hiero.mirror.importer.parser.record.entity.staking;
 
 import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.repository.EntityStakeRepository;
 import org.springframework.transaction.support.TransactionOperations;
@@ -20,8 +22,10 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
     private final EntityProperties entityProperties;
     private final EntityStakeRepository entityStakeRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final StakingProperties stakingProperties;
     private final TransactionOperations transactionOperations;
     private final SystemEntity systemEntity;
+    private final Optional<BootstrapPartitionService> bootstrapPartitionService;
 
     @Override
     public void calculate() {
@@ -29,6 +33,12 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
             return;
         }
 
+        // The stake is calculated from the balance snapshot, which misses the rows still in staging tables
+        if (bootstrapPartitionService.filter(BootstrapPartitionService::isPending).isPresent()) {
+            log.info("Skipping entity stake calculation until the bootstrapped partitions are attached");
+            return;
+        }
+
         if (running.compareAndExchange(false, true)) {
             log.info("Skipping since the previous entity stake calculation is still running");
             return;
@@ -47,12 +57,19 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
                 var lastEndStakePeriod = entityStakeRepository
                         .getEndStakePeriod(stakingRewardAccountId)
                         .orElse(0L);
-                transactionOperations.executeWithoutResult(s -> {
-                    entityStakeRepository.lockFromConcurrentUpdates();
+                if (stakingProperties.isIncremental()) {
+                    // Each chunk is committed on its own so the calculation doesn't hold one long-running transaction
                     entityStakeRepository.createEntityStateStart(stakingRewardAccountId);
                     log.info("Created entity_state_start in {}", stopwatch);
-                    entityStakeRepository.updateEntityStake(stakingRewardAccountId);
-                });
+                    entityStakeRepository.updateEntityStakeInChunks(stakingRewardAccountId);
+                } else {
+                    transactionOperations.executeWithoutResult(s -> {
+                        entityStakeRepository.lockFromConcurrentUpdates();
+                        entityStakeRepository.createEntityStateStart(stakingRewardAccountId);
+                        log.info("Created entity_state_start in {}", stopwatch);
+                        entityStakeRepository.updateEntityStake(stakingRewardAccountId);
+                    });
+                }
 
                 var endStakePeriod = entityStakeRepository.getEndStakePeriod(stakingRewardAccountId);
                 if (endStakePeriod
@@ -21,4 +21,6 @@ public class StakingProperties {
 
     @Min(10000)
     private int chunkSize = 500000;
+
+    private boolean incremental = false;
 }
@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.topic;
+
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.common.domain.topic.TopicMessageLookup;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.util.LongLongHashMap;
+
+/**
+ * Aggregates the topic message lookups of the topic messages processed before a flush. Messages are routed to the time
+ * partitions already resolved by comparing primitive timestamp ranges, and the sequence number and timestamp ranges are
+ * tracked per topic and partition in primitive arrays. This avoids creating and merging a {@link TopicMessageLookup} for
+ * every topic message. The class is not thread-safe.
+ */
+final class TopicMessageLookupAggregator {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final List<PartitionRoute> routes = new ArrayList<>(2);
+    private PartitionRoute lastRoute;
+
+    // The ranges are indexed by the slot assigned to each topic and partition
+    private long[] minSequenceNumbers = new long[DEFAULT_CAPACITY];
+    private long[] maxSequenceNumbers = new long[DEFAULT_CAPACITY];
+    private long[] minTimestamps = new long[DEFAULT_CAPACITY];
+    private long[] maxTimestamps = new long[DEFAULT_CAPACITY];
+    private int size;
+
+    /**
+     * Adds the topic message to the lookup of its topic and partition if its partition was already resolved.
+     *
+     * @param topicMessage The topic message
+     * @return Whether the topic message was routed to a partition
+     */
+    boolean add(TopicMessage topicMessage) {
+        long timestamp = topicMessage.getConsensusTimestamp();
+        var route = getRoute(timestamp);
+        if (route == null) {
+            return false;
+        }
+
+        long topicId = topicMessage.getTopicId().getId();
+        long sequenceNumber = topicMessage.getSequenceNumber();
+        int slot = (int) route.slots().get(topicId, -1L);
+
+        if (slot < 0) {
+            slot = allocate();
+            route.slots().put(topicId, slot);
+            minSequenceNumbers[slot] = sequenceNumber;
+            maxSequenceNumbers[slot] = sequenceNumber;
+            minTimestamps[slot] = timestamp;
+            maxTimestamps[slot] = timestamp;
+            return true;
+        }
+
+        minSequenceNumbers[slot] = Math.min(minSequenceNumbers[slot], sequenceNumber);
+        maxSequenceNumbers[slot] = Math.max(maxSequenceNumbers[slot], sequenceNumber);
+        minTimestamps[slot] = Math.min(minTimestamps[slot], timestamp);
+        maxTimestamps[slot] = Math.max(maxTimestamps[slot], timestamp);
+        return true;
+    }
+
+    /**
+     * Adds the time partitions as routes for subsequent topic messages. Partitions already added are ignored.
+     *
+     * @param partitions The time partitions
+     */
+    void addPartitions(List<TimePartition> partitions) {
+        for (var partition : partitions) {
+            var name = partition.getName();
+            if (routes.stream().noneMatch(r -> r.name().equals(name))) {
+                long from = partition.getTimestampRange().lowerEndpoint();
+                routes.add(new PartitionRoute(name, from, partition.getEnd()));
+            }
+        }
+    }
+
+    void forEach(Consumer<TopicMessageLookup> consumer) {
+        for (var route : routes) {
+            for (long topicId : route.slots().keys()) {
+                int slot = (int) route.slots().get(topicId, -1L);
+                consumer.accept(TopicMessageLookup.builder()
+                        .partition(route.name())
+                        .sequenceNumberRange(
+                                Range.closedOpen(minSequenceNumbers[slot], maxSequenceNumbers[slot] + 1))
+                        .timestampRange(Range.closedOpen(minTimestamps[slot], maxTimestamps[slot] + 1))
+                        .topicId(topicId)
+                        .build());
+            }
+        }
+    }
+
+    private int allocate() {
+        if (size == minSequenceNumbers.length) {
+            int capacity = size << 1;
+            minSequenceNumbers = Arrays.copyOf(minSequenceNumbers, capacity);
+            maxSequenceNumbers = Arrays.copyOf(maxSequenceNumbers, capacity);
+            minTimestamps = Arrays.copyOf(minTimestamps, capacity);
+            maxTimestamps = Arrays.copyOf(maxTimestamps, capacity);
+        }
+
+        return size++;
+    }
+
+    private PartitionRoute getRoute(long timestamp) {
+        if (lastRoute != null && lastRoute.contains(timestamp)) {
+            return lastRoute;
+        }
+
+        for (var route : routes) {
+            if (route.contains(timestamp)) {
+                lastRoute = route;
+                return route;
+            }
+        }
+
+        return null;
+    }
+
+    private record PartitionRoute(String name, long from, long to, LongLongHashMap slots) {
+
+        private PartitionRoute(String name, long from, long to) {
+            this(name, from, to, new LongLongHashMap());
+        }
+
+        private boolean contains(long timestamp) {
+            return timestamp >= from && timestamp <= to;
+        }
+    }
+}
@@ -8,19 +8,21 @@ import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.domain.topic.TopicMessageLookup;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.exception.ImporterException;
 import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.hiero.mirror.importer.parser.record.RecordStreamFileListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
 import org.springframework.core.annotation.Order;
 
 @Named
-@Order(4)
+@Order(1) // The aggregated lookups have to be added to the parser context before the SqlEntityListener flushes it
 @RequiredArgsConstructor
-public class TopicMessageLookupEntityListener implements EntityListener {
+public class TopicMessageLookupEntityListener implements EntityListener, RecordStreamFileListener {
 
     private static final long FILE_CLOSE_INTERVAL_SECS =
             StreamType.RECORD.getFileCloseInterval().toSeconds();
@@ -44,8 +46,29 @@ public class TopicMessageLookupEntityListener implements EntityListener {
         return !partitions.isEmpty();
     }
 
+    @Override
+    public void onEnd(RecordFile recordFile) throws ImporterException {
+        for (var aggregator : parserContext.getTransient(TopicMessageLookupAggregator.class)) {
+            aggregator.forEach(lookup -> parserContext.merge(lookup.getId(), lookup, this::mergeTopicMessageLookup));
+        }
+    }
+
     @Override
     public void onTopicMessage(TopicMessage topicMessage) throws ImporterException {
+        // The aggregator is transient state of the parser context, so it's discarded with it if the flush fails
+        var aggregators = parserContext.getTransient(TopicMessageLookupAggregator.class);
+        TopicMessageLookupAggregator aggregator;
+        if (aggregators.isEmpty()) {
+            aggregator = new TopicMessageLookupAggregator();
+            parserContext.addTransient(aggregator);
+        } else {
+            aggregator = aggregators.iterator().next();
+        }
+
+        if (aggregator.add(topicMessage)) {
+            return;
+        }
+
         // round down the seconds part of the consensus timestamp to achieve better cache hit rate
         long seconds =
                 Instant.ofEpochSecond(0, topicMessage.getConsensusTimestamp()).getEpochSecond();
@@ -55,13 +78,8 @@ public class TopicMessageLookupEntityListener implements EntityListener {
         var partitions =
                 timePartitionService.getOverlappingTimePartitions(TOPIC_MESSAGE_TABLE_NAME, fromTimestamp, toTimestamp);
 
-        for (var partition : partitions) {
-            if (partition.getTimestampRange().contains(topicMessage.getConsensusTimestamp())) {
-                var topicMessageLookup = TopicMessageLookup.from(partition.getName(), topicMessage);
-                parserContext.merge(topicMessageLookup.getId(), topicMessageLookup, this::mergeTopicMessageLookup);
-                break;
-            }
-        }
+        aggregator.addPartitions(partitions);
+        aggregator.add(topicMessage);
     }
 
     private TopicMessageLookup mergeTopicMessageLookup(TopicMessageLookup cached, TopicMessageLookup newValue) {
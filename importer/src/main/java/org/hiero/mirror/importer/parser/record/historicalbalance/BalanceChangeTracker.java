@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.historicalbalance;
+
+import jakarta.inject.Named;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.importer.util.LongLongHashMap;
+
+/**
+ * Tracks the accounts and token accounts whose balance changed since the last historical balance snapshot, along with
+ * the latest balance timestamp of each. This allows a deduplicated snapshot to be written from the changed set instead
+ * of scanning the entity and token_account tables.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class BalanceChangeTracker {
+
+    private final HistoricalBalanceProperties properties;
+
+    private final LongLongHashMap accounts = new LongLongHashMap();
+    private final Map<Long, LongLongHashMap> tokenAccounts = new HashMap<>();
+    private int tokenAccountsCount;
+    private long trackingSince = Long.MAX_VALUE;
+
+    /**
+     * Gets the balance changes after the minimum timestamp. The changes are only complete if the tracker has observed
+     * every balance change since the minimum timestamp, i.e., it hasn't been reset in between.
+     *
+     * @param minTimestamp The exclusive minimum timestamp
+     * @return The balance changes, or empty if the tracked changes are incomplete
+     */
+    public synchronized Optional<BalanceChanges> getChanges(long minTimestamp) {
+        if (!isEnabled() || trackingSince > minTimestamp) {
+            return Optional.empty();
+        }
+
+        var accountIds = toArray(accounts.keys());
+        var tokenAccountIds = new Long[tokenAccountsCount];
+        var tokenIds = new Long[tokenAccountsCount];
+        int index = 0;
+        for (var entry : tokenAccounts.entrySet()) {
+            for (long accountId : entry.getValue().keys()) {
+                tokenAccountIds[index] = accountId;
+                tokenIds[index] = entry.getKey();
+                index++;
+            }
+        }
+
+        return Optional.of(new BalanceChanges(accountIds, tokenAccountIds, tokenIds));
+    }
+
+    public synchronized void onAccount(long accountId, long balanceTimestamp) {
+        if (track(balanceTimestamp)) {
+            accounts.putMax(accountId, balanceTimestamp);
+        }
+    }
+
+    public synchronized void onTokenAccount(long accountId, long tokenId, long balanceTimestamp) {
+        if (track(balanceTimestamp)) {
+            var tokenAccountMap = tokenAccounts.computeIfAbsent(tokenId, k -> new LongLongHashMap());
+            int size = tokenAccountMap.size();
+            tokenAccountMap.putMax(accountId, balanceTimestamp);
+            tokenAccountsCount += tokenAccountMap.size() - size;
+        }
+    }
+
+    /**
+     * Removes the balance changes at or before the timestamp, since they are captured by the balance snapshot at the
+     * timestamp. Changes after it are kept for the next snapshot.
+     *
+     * @param timestamp The consensus timestamp of the balance snapshot
+     */
+    public synchronized void onSnapshot(long timestamp) {
+        accounts.removeIfValue(balanceTimestamp -> balanceTimestamp <= timestamp);
+
+        tokenAccountsCount = 0;
+        var iterator = tokenAccounts.values().iterator();
+        while (iterator.hasNext()) {
+            var tokenAccountMap = iterator.next();
+            tokenAccountMap.removeIfValue(balanceTimestamp -> balanceTimestamp <= timestamp);
+            if (tokenAccountMap.isEmpty()) {
+                iterator.remove();
+            } else {
+                tokenAccountsCount += tokenAccountMap.size();
+            }
+        }
+    }
+
+    private boolean isEnabled() {
+        return properties.isEnabled() && properties.isIncremental();
+    }
+
+    synchronized void reset() {
+        accounts.clear();
+        tokenAccounts.clear();
+        tokenAccountsCount = 0;
+        trackingSince = Long.MAX_VALUE;
+    }
+
+    private boolean track(long balanceTimestamp) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        if (accounts.size() + tokenAccountsCount >= properties.getMaxTrackedBalanceChanges()) {
+            // Fall back to the scan based snapshot until the tracker has again observed a full snapshot interval
+            log.warn(
+                    "Resetting balance change tracker after exceeding {} changes",
+                    properties.getMaxTrackedBalanceChanges());
+            reset();
+        }
+
+        trackingSince = Math.min(trackingSince, balanceTimestamp);
+        return true;
+    }
+
+    private static Long[] toArray(long[] values) {
+        var result = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    public record BalanceChanges(Long[] accountIds, Long[] tokenAccountIds, Long[] tokenIds) {}
+}
@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.parser.record.historicalbalance;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -26,11 +27,16 @@ public class HistoricalBalanceProperties {
 
     private boolean enabled = true;
 
+    private boolean incremental = true;
+
     @DurationMin(minutes = 2)
     @DurationUnit(ChronoUnit.MINUTES)
     @NotNull
     private Duration initialDelay = Duration.ofMinutes(2);
 
+    @Min(1000)
+    private int maxTrackedBalanceChanges = 5_000_000;
+
     /**
      * The minimum frequency between balance snapshots. The max value is 7 days, acts as the maximum interval between
      * two consecutive balance snapshots, so queries which use, e.g., 30 days timestamp range as an optimization will
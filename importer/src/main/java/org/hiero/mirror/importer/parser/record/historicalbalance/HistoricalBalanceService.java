@@ -20,6 +20,7 @@ import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
 import org.hiero.mirror.common.domain.entity.EntityType;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
 import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.domain.StreamFilename.FileType;
@@ -48,6 +49,8 @@ public class HistoricalBalanceService {
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final Optional<BootstrapPartitionService> bootstrapPartitionService;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -65,6 +68,7 @@ public class HistoricalBalanceService {
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceChangeTracker balanceChangeTracker,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -72,9 +76,12 @@ public class HistoricalBalanceService {
             SystemEntity systemEntity,
             TimePartitionService timePartitionService,
             TokenBalanceRepository tokenBalanceRepository,
-            EntityRepository entityRepository) {
+            EntityRepository entityRepository,
+            Optional<BootstrapPartitionService> bootstrapPartitionService) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.bootstrapPartitionService = bootstrapPartitionService;
+        this.balanceChangeTracker = balanceChangeTracker;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.systemEntity = systemEntity;
@@ -120,11 +127,17 @@ public class HistoricalBalanceService {
                 return;
             }
 
+            // The snapshots are computed from the latest balances, which miss the rows still in staging tables
+            if (bootstrapPartitionService.filter(BootstrapPartitionService::isPending).isPresent()) {
+                log.info("Skipping historical balance generation until the bootstrapped partitions are attached");
+                return;
+            }
+
             final long treasuryAccountId = systemEntity.treasuryAccount().getId();
             checkTreasuryAccount();
 
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
-            transactionTemplate.executeWithoutResult(t -> {
+            var snapshotTimestamp = transactionTemplate.execute(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
                         .findLatest()
@@ -134,16 +147,33 @@ public class HistoricalBalanceService {
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
                 boolean full = maxConsensusTimestamp.isEmpty();
+                // Read the tracked changes after the snapshot of the repeatable read transaction is established, so
+                // every change committed before it is guaranteed to be tracked
+                var balanceChanges = maxConsensusTimestamp.flatMap(balanceChangeTracker::getChanges);
+                String snapshotType;
                 int accountBalancesCount;
                 int tokenBalancesCount;
                 if (full) {
                     // get a full snapshot
+                    snapshotType = "full";
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp, treasuryAccountId);
                     tokenBalancesCount = properties.isTokenBalances()
                             ? tokenBalanceRepository.balanceSnapshot(timestamp, treasuryAccountId)
                             : 0;
+                } else if (balanceChanges.isPresent()) {
+                    // get a snapshot that has no duplicates from the balance changes tracked during ingestion
+                    snapshotType = "incremental";
+                    var changes = balanceChanges.get();
+                    long minConsensusTimestamp = maxConsensusTimestamp.get();
+                    accountBalancesCount = accountBalanceRepository.balanceSnapshotIncremental(
+                            changes.accountIds(), minConsensusTimestamp, timestamp, treasuryAccountId);
+                    tokenBalancesCount = properties.isTokenBalances()
+                            ? tokenBalanceRepository.balanceSnapshotIncremental(
+                                    changes.tokenAccountIds(), changes.tokenIds(), minConsensusTimestamp, timestamp)
+                            : 0;
                 } else {
                     // get a snapshot that has no duplicates
+                    snapshotType = "deduped";
                     accountBalancesCount = accountBalanceRepository.balanceSnapshotDeduplicate(
                             maxConsensusTimestamp.get(), timestamp, treasuryAccountId);
                     tokenBalancesCount = properties.isTokenBalances()
@@ -167,13 +197,18 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        snapshotType,
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
+                return timestamp;
             });
 
+            if (snapshotTimestamp != null) {
+                balanceChangeTracker.onSnapshot(snapshotTimestamp);
+            }
+
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.token.Nft;
 import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.domain.transaction.Transaction;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
@@ -46,6 +47,11 @@ class TokenBurnTransactionHandler extends AbstractTransactionHandler {
         token.setTotalSupply(newTotalSupply);
         token.setTokenId(tokenId.getId());
         entityListener.onToken(token);
+        entityListener.onTokenSupplyHistory(TokenSupplyHistory.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .tokenId(tokenId.getId())
+                .totalSupply(newTotalSupply)
+                .build());
 
         transactionBody.getSerialNumbersList().forEach(serialNumber -> {
             var nft = Nft.builder()
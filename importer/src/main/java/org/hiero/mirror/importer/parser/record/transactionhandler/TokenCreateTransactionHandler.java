@@ -17,6 +17,7 @@ import org.hiero.mirror.common.domain.token.Token;
 import org.hiero.mirror.common.domain.token.TokenAccount;
 import org.hiero.mirror.common.domain.token.TokenKycStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenPauseStatusEnum;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenSupplyTypeEnum;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
@@ -189,5 +190,10 @@ class TokenCreateTransactionHandler extends AbstractEntityCrudTransactionHandler
         });
 
         entityListener.onToken(token);
+        entityListener.onTokenSupplyHistory(TokenSupplyHistory.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .tokenId(tokenId.getId())
+                .totalSupply(transactionBody.getInitialSupply())
+                .build());
     }
 }
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.token.Nft;
 import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.domain.transaction.Transaction;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
@@ -53,6 +54,11 @@ class TokenWipeTransactionHandler extends AbstractTransactionHandler {
         token.setTokenId(tokenId.getId());
         token.setTotalSupply(newTotalSupply);
         entityListener.onToken(token);
+        entityListener.onTokenSupplyHistory(TokenSupplyHistory.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .tokenId(tokenId.getId())
+                .totalSupply(newTotalSupply)
+                .build());
 
         transactionBody.getSerialNumbersList().forEach(serialNumber -> {
             var nft = Nft.builder()
@@ -11,13 +11,12 @@ import java.nio.charset.StandardCharsets;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.Strings;
 import org.hiero.mirror.common.domain.balance.AccountBalance;
 import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
@@ -26,6 +25,7 @@ import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidDatasetException;
 import org.hiero.mirror.importer.parser.balance.BalanceParserProperties;
 import org.hiero.mirror.importer.reader.balance.line.AccountBalanceLineParser;
+import org.jspecify.annotations.Nullable;
 
 @CustomLog
 @RequiredArgsConstructor
@@ -46,7 +46,7 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
             return false;
         }
 
-        InputStream inputStream = streamFileData.getInputStream();
+        InputStream inputStream = streamFileData.getDecompressingInputStream();
 
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), BUFFER_SIZE)) {
             String firstLine = reader.readLine();
@@ -64,46 +64,63 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     protected abstract String getVersionHeaderPrefix();
 
+    /**
+     * Reads the header, file hash and count of the balance file. The account balances aren't kept but are parsed again
+     * from the file each time the items are iterated.
+     */
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
         MessageDigest messageDigest = DigestUtils.getSha384Digest();
         int bufferSize = balanceParserProperties.getFileBufferSize();
 
-        try (InputStream inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest);
+        try (InputStream inputStream =
+                        new DigestInputStream(streamFileData.getDecompressingInputStream(), messageDigest);
                 BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), bufferSize)) {
             long consensusTimestamp = parseConsensusTimestamp(reader);
-            AtomicLong count = new AtomicLong(0L);
-            List<AccountBalance> items = new ArrayList<>();
+            long count = reader.lines()
+                    .map(line -> parseLine(line, consensusTimestamp, true))
+                    .filter(Objects::nonNull)
+                    .count();
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
+            accountBalanceFile.setCount(count);
+            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
+            accountBalanceFile.setItems(new StreamingAccountBalanceList(
+                    () -> readItems(streamFileData, consensusTimestamp, bufferSize), Math.toIntExact(count)));
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
-
-            reader.lines()
-                    .map(line -> {
-                        try {
-                            AccountBalance accountBalance = parser.parse(line, consensusTimestamp);
-                            count.incrementAndGet();
-                            return accountBalance;
-                        } catch (InvalidDatasetException ex) {
-                            log.error("Error reading line", ex);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .forEachOrdered(items::add);
-
-            accountBalanceFile.setCount(count.get());
-            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
-            accountBalanceFile.setItems(items);
             return accountBalanceFile;
         } catch (IOException ex) {
             throw new InvalidDatasetException("Error reading account balance file", ex);
         }
     }
 
+    private @Nullable AccountBalance parseLine(String line, long consensusTimestamp, boolean logError) {
+        try {
+            return parser.parse(line, consensusTimestamp);
+        } catch (InvalidDatasetException ex) {
+            if (logError) {
+                log.error("Error reading line", ex);
+            }
+
+            return null;
+        }
+    }
+
+    @SuppressWarnings("java:S2095") // The reader is closed when the stream is closed
+    private Stream<AccountBalance> readItems(StreamFileData streamFileData, long consensusTimestamp, int bufferSize) {
+        var reader = new BufferedReader(
+                new InputStreamReader(streamFileData.getDecompressingInputStream(), CHARSET), bufferSize);
+        // Skip the header. Invalid lines were already logged when the file was read
+        parseConsensusTimestamp(reader);
+        return reader.lines()
+                .map(line -> parseLine(line, consensusTimestamp, false))
+                .filter(Objects::nonNull)
+                .onClose(() -> IOUtils.closeQuietly(reader));
+    }
+
     protected abstract long parseConsensusTimestamp(BufferedReader reader);
 
     protected long convertTimestamp(String timestamp) {
@@ -2,13 +2,26 @@
 
 package org.hiero.mirror.importer.reader.balance;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
 import jakarta.inject.Named;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.CustomLog;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.hiero.mirror.common.domain.balance.AccountBalance;
 import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
 import org.hiero.mirror.common.domain.balance.TokenBalance;
@@ -17,11 +30,17 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
 import org.hiero.mirror.importer.exception.StreamFileReaderException;
+import org.jspecify.annotations.Nullable;
 
 @CustomLog
 @Named
 public class ProtoBalanceFileReader implements BalanceFileReader {
 
+    private static final int ALL_ACCOUNTS_TAG =
+            AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int CONSENSUS_TIMESTAMP_TAG =
+            AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final ExtensionRegistryLite EMPTY_REGISTRY = ExtensionRegistryLite.getEmptyRegistry();
     private static final String FILE_EXTENSION = "pb";
 
     @Override
@@ -30,34 +49,105 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
                 streamFileData.getStreamFilename().getExtension().getName());
     }
 
+    /**
+     * Reads the consensus timestamp, file hash and count of the balance file by walking its top level fields without
+     * parsing the account balances. The account balances aren't kept but are parsed again from the file each time the
+     * items are iterated.
+     */
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        try {
-            var bytes = streamFileData.getDecompressedBytes();
-            var allAccountBalances = AllAccountBalances.parseFrom(bytes);
+        var messageDigest = DigestUtils.getSha384Digest();
 
-            if (!allAccountBalances.hasConsensusTimestamp()) {
+        try (var inputStream = new DigestInputStream(streamFileData.getDecompressingInputStream(), messageDigest)) {
+            var input = CodedInputStream.newInstance(inputStream);
+            var builder = AllAccountBalances.newBuilder();
+            int count = 0;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == CONSENSUS_TIMESTAMP_TAG) {
+                    input.readMessage(builder.getConsensusTimestampBuilder(), EMPTY_REGISTRY);
+                } else if (tag == ALL_ACCOUNTS_TAG) {
+                    input.skipField(tag);
+                    count++;
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+
+                input.resetSizeCounter();
+            }
+
+            inputStream.transferTo(OutputStream.nullOutputStream());
+
+            if (!builder.hasConsensusTimestamp()) {
                 throw new InvalidStreamFileException("Missing required consensusTimestamp field");
             }
 
-            long consensusTimestamp = DomainUtils.timestampInNanosMax(allAccountBalances.getConsensusTimestamp());
-            var items = allAccountBalances.getAllAccountsList().stream()
-                    .map(ab -> toAccountBalance(consensusTimestamp, ab))
-                    .toList();
+            long consensusTimestamp = DomainUtils.timestampInNanosMax(builder.getConsensusTimestamp());
+            var items = new StreamingAccountBalanceList(() -> readItems(streamFileData, consensusTimestamp), count);
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
-            accountBalanceFile.setFileHash(DigestUtils.sha384Hex(bytes));
+            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
             accountBalanceFile.setItems(items);
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
             return accountBalanceFile;
-        } catch (IOException e) {
+        } catch (InvalidProtocolBufferException e) {
             throw new StreamFileReaderException(e);
+        } catch (IOException e) {
+            throw new InvalidStreamFileException(streamFileData.getFilename(), e);
         }
     }
 
+    @SuppressWarnings("java:S2095") // The input stream is closed when the stream is closed
+    private Stream<AccountBalance> readItems(StreamFileData streamFileData, long consensusTimestamp) {
+        var inputStream = streamFileData.getDecompressingInputStream();
+        var input = CodedInputStream.newInstance(inputStream);
+        var iterator = new Iterator<AccountBalance>() {
+
+            private @Nullable AccountBalance next;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (next == null) {
+                        int tag = input.readTag();
+                        if (tag == 0) {
+                            return false;
+                        } else if (tag == ALL_ACCOUNTS_TAG) {
+                            var balances = input.readMessage(SingleAccountBalances.parser(), EMPTY_REGISTRY);
+                            next = toAccountBalance(consensusTimestamp, balances);
+                        } else if (!input.skipField(tag)) {
+                            return false;
+                        }
+
+                        // The size limit counts all bytes read since the last reset, which a whole file could exceed
+                        input.resetSizeCounter();
+                    }
+
+                    return true;
+                } catch (IOException e) {
+                    throw new StreamFileReaderException(e);
+                }
+            }
+
+            @Override
+            public AccountBalance next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var accountBalance = next;
+                next = null;
+                return accountBalance;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> IOUtils.closeQuietly(inputStream));
+    }
+
     private AccountBalance toAccountBalance(long consensusTimestamp, SingleAccountBalances balances) {
         EntityId accountId = EntityId.of(balances.getAccountID());
         List<TokenBalance> tokenBalances = balances.getTokenUnitBalancesList().stream()
@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.balance;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.balance.AccountBalance;
+
+/**
+ * A read-only list of the account balances in a balance file that parses them from the file each time it's iterated
+ * instead of holding them in memory, so the memory needed to process a file doesn't grow with the number of accounts.
+ * Only sequential access is efficient.
+ */
+@RequiredArgsConstructor
+final class StreamingAccountBalanceList extends AbstractList<AccountBalance> {
+
+    private final Supplier<Stream<AccountBalance>> items;
+    private final int size;
+
+    @Override
+    public void forEach(Consumer<? super AccountBalance> action) {
+        try (var stream = items.get()) {
+            stream.forEachOrdered(action);
+        }
+    }
+
+    @Override
+    public AccountBalance get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        try (var stream = items.get()) {
+            return stream.skip(index).findFirst().orElseThrow(() -> new IndexOutOfBoundsException(index));
+        }
+    }
+
+    @Override
+    public Iterator<AccountBalance> iterator() {
+        return items.get().iterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
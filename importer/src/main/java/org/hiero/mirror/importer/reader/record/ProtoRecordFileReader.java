@@ -5,8 +5,14 @@ package org.hiero.mirror.importer.reader.record;
 import static java.lang.String.format;
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
 import jakarta.inject.Named;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -17,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import lombok.CustomLog;
 import org.apache.commons.io.output.NullOutputStream;
@@ -27,8 +34,11 @@ import org.hiero.mirror.common.domain.transaction.SidecarFile;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
+import org.hiero.mirror.importer.downloader.record.RecordDownloaderProperties;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
 import org.hiero.mirror.importer.util.Utility;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.util.Version;
 
 @CustomLog
@@ -37,15 +47,36 @@ public final class ProtoRecordFileReader implements RecordFileReader {
 
     public static final int VERSION = 6;
 
+    private static final int RECORD_STREAM_ITEMS_TAG =
+            RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    // Decodes the record stream items in parallel if set
+    private final @Nullable ForkJoinPool decodePool;
+
+    public ProtoRecordFileReader() {
+        this(1);
+    }
+
+    @Autowired
+    public ProtoRecordFileReader(RecordDownloaderProperties recordDownloaderProperties) {
+        this(recordDownloaderProperties.getDecodeParallelism());
+    }
+
+    ProtoRecordFileReader(int decodeParallelism) {
+        decodePool = decodeParallelism > 1 ? new ForkJoinPool(decodeParallelism) : null;
+    }
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = streamFileData.getStreamFilename().getTimestamp();
 
         try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
-            var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
-            var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
+            var parsed = readRecordStreamFile(filename, inputStream);
+            var recordStreamItems = parsed.items();
+            var metadata = parsed.metadata();
+            var startObjectRunningHash = metadata.getStartObjectRunningHash();
+            var endObjectRunningHash = metadata.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
             var endHashAlgorithm = endObjectRunningHash.getAlgorithm();
             if (!startHashAlgorithm.equals(endHashAlgorithm)) {
@@ -59,16 +90,16 @@ public final class ProtoRecordFileReader implements RecordFileReader {
 
             final long fileTimestamp = DomainUtils.convertToNanosMax(
                     streamFileData.getStreamFilename().getInstant());
-            final var readItemsResult = readItems(recordStreamFile, fileTimestamp);
+            final var readItemsResult = readItems(metadata.getHapiProtoVersion(), recordStreamItems, fileTimestamp);
             var bytes = streamFileData.getBytes();
             int count = readItemsResult.items().size();
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
-            var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
+            var hapiProtoVersion = metadata.getHapiProtoVersion();
             var majorVersion = hapiProtoVersion.getMajor();
             var minorVersion = hapiProtoVersion.getMinor();
             var patchVersion = hapiProtoVersion.getPatch();
             var sidecars =
-                    getSidecars(readItemsResult.consensusEnd(), recordStreamFile, streamFileData.getStreamFilename());
+                    getSidecars(readItemsResult.consensusEnd(), metadata, streamFileData.getStreamFilename());
 
             return RecordFile.builder()
                     .bytes(bytes)
@@ -81,10 +112,10 @@ public final class ProtoRecordFileReader implements RecordFileReader {
                     .hapiVersionMinor(minorVersion)
                     .hapiVersionPatch(patchVersion)
                     .hash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(endObjectRunningHash)))
-                    .index(recordStreamFile.getBlockNumber())
+                    .index(metadata.getBlockNumber())
                     .items(readItemsResult.items())
                     .loadStart(loadStart)
-                    .metadataHash(getMetadataHash(recordStreamFile))
+                    .metadataHash(getMetadataHash(metadata))
                     .name(filename)
                     .previousHash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(startObjectRunningHash)))
                     .sidecarCount(sidecars.size())
@@ -161,20 +192,22 @@ public final class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private ReadItemsResult readItems(final RecordStreamFile recordStreamFile, long fileTimestamp) {
-        final int count = recordStreamFile.getRecordStreamItemsCount();
+    private ReadItemsResult readItems(
+            final SemanticVersion hapiProtoVersion,
+            final List<RecordStreamItem> recordStreamItems,
+            long fileTimestamp) {
+        final int count = recordStreamItems.size();
         if (count == 0) {
             return new ReadItemsResult(Collections.emptyList(), fileTimestamp, fileTimestamp);
         }
 
-        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
         var hapiVersion =
                 new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
         var items = new ArrayList<RecordItem>(count);
         RecordItem previousItem = null;
         long minConsensusTimestamp = Long.MAX_VALUE;
         long maxConsensusTimestamp = Long.MIN_VALUE;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
+        for (var recordStreamItem : recordStreamItems) {
             var recordItem = RecordItem.builder()
                     .hapiVersion(hapiVersion)
                     .previous(previousItem)
@@ -207,7 +240,8 @@ public final class ProtoRecordFileReader implements RecordFileReader {
         return new ReadItemsResult(items, minConsensusTimestamp, maxConsensusTimestamp);
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
+    private ParsedRecordStreamFile readRecordStreamFile(String filename, InputStream inputStream)
+            throws IOException {
         try (var dataInputStream = new DataInputStream(inputStream)) {
             int version = dataInputStream.readInt();
             if (version != VERSION) {
@@ -215,9 +249,59 @@ public final class ProtoRecordFileReader implements RecordFileReader {
                         format("Expected file %s with version %d, got %d.", filename, VERSION, version));
             }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+            if (decodePool == null) {
+                var recordStreamFile = RecordStreamFile.parseFrom(dataInputStream);
+                return new ParsedRecordStreamFile(recordStreamFile, recordStreamFile.getRecordStreamItemsList());
+            }
+
+            return readRecordStreamFileInParallel(filename, dataInputStream.readAllBytes());
         }
     }
 
+    /**
+     * Splits the serialized record stream items from the rest of the file without parsing them, then parses the items
+     * in parallel. Linking the items to each other is left to the sequential pass in readItems.
+     */
+    private ParsedRecordStreamFile readRecordStreamFileInParallel(String filename, byte[] bytes) throws IOException {
+        var input = CodedInputStream.newInstance(bytes);
+        input.enableAliasing(true);
+        var itemBytes = new ArrayList<ByteString>();
+        var metadataBytes = ByteString.newOutput();
+
+        while (true) {
+            int start = input.getTotalBytesRead();
+            int tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+
+            if (tag == RECORD_STREAM_ITEMS_TAG) {
+                itemBytes.add(input.readBytes());
+            } else {
+                // An end group tag isn't valid here and fails the parse of the metadata below
+                input.skipField(tag);
+                metadataBytes.write(bytes, start, input.getTotalBytesRead() - start);
+            }
+        }
+
+        var metadata = RecordStreamFile.parseFrom(metadataBytes.toByteString());
+        var items = Objects.requireNonNull(decodePool)
+                .submit(() -> itemBytes.parallelStream()
+                        .map(b -> parseRecordStreamItem(filename, b))
+                        .toList())
+                .join();
+        return new ParsedRecordStreamFile(metadata, items);
+    }
+
+    private RecordStreamItem parseRecordStreamItem(String filename, ByteString bytes) {
+        try {
+            return RecordStreamItem.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new InvalidStreamFileException("Error reading record file " + filename, e);
+        }
+    }
+
+    private record ParsedRecordStreamFile(RecordStreamFile metadata, List<RecordStreamItem> items) {}
+
     private record ReadItemsResult(List<RecordItem> items, long consensusStart, long consensusEnd) {}
 }
@@ -35,6 +35,7 @@ import org.hiero.mirror.common.domain.job.ReconciliationJob;
 import org.hiero.mirror.common.domain.job.ReconciliationStatus;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.ReconciliationJobRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
@@ -68,6 +69,7 @@ class BalanceReconciliationService {
     final AtomicReference<ReconciliationStatus> status;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
+    private final Optional<BootstrapPartitionService> bootstrapPartitionService;
     private final JdbcOperations jdbcOperations;
     private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
@@ -79,8 +81,10 @@ class BalanceReconciliationService {
             MeterRegistry meterRegistry,
             RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
-            ReconciliationJobRepository reconciliationJobRepository) {
+            ReconciliationJobRepository reconciliationJobRepository,
+            Optional<BootstrapPartitionService> bootstrapPartitionService) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
+        this.bootstrapPartitionService = bootstrapPartitionService;
         this.jdbcOperations = jdbcOperations;
         this.recordFileRepository = recordFileRepository;
         this.reconciliationProperties = reconciliationProperties;
@@ -96,6 +100,12 @@ class BalanceReconciliationService {
             return;
         }
 
+        // The balance files being reconciled would be missing the rows still in staging tables
+        if (bootstrapPartitionService.filter(BootstrapPartitionService::isPending).isPresent()) {
+            log.info("Skipping balance reconciliation until the bootstrapped partitions are attached");
+            return;
+        }
+
         var stopwatch = Stopwatch.createStarted();
         var reconciliationJob = getLatestJob();
 
@@ -46,6 +46,22 @@ public interface AccountBalanceRepository
     @Transactional
     int balanceSnapshotDeduplicate(long minConsensusTimestamp, long consensusTimestamp, long treasuryAccountId);
 
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        insert into account_balance (account_id, balance, consensus_timestamp)
+        select id, balance, :consensusTimestamp
+        from entity
+        where
+          id = :treasuryAccountId or
+          (id = any(:accountIds) and
+           balance is not null and
+           balance_timestamp > :minConsensusTimestamp)
+        order by id
+        """)
+    @Transactional
+    int balanceSnapshotIncremental(
+            Long[] accountIds, long minConsensusTimestamp, long consensusTimestamp, long treasuryAccountId);
+
     @Query(nativeQuery = true, value = """
           select max(consensus_timestamp) as consensus_timestamp
           from account_balance
@@ -4,5 +4,43 @@ package org.hiero.mirror.importer.repository;
 
 interface EntityStakeRepositoryCustom {
 
+    /**
+     * Creates the entity state snapshot at the beginning of the new staking period in entity_state_start. When
+     * incremental calculation is enabled and the snapshot of an earlier period is still present, only the rows of
+     * entities whose staking metadata or balance changed since are recalculated.
+     */
     void createEntityStateStart(long stakingRewardAccount);
+
+    /**
+     * Updates entity stake state based on the current entity stake state, the ending period node reward rate and the
+     * entity state snapshot at the beginning of the new staking period.
+     * <p>
+     * Algorithm to update pending reward:
+     * <p>
+     * 1. IF there is no such row in entity_stake (new entity created in the ending stake period),
+     * OR it didn't stake to a node for the ending staking period, the new pending reward is 0
+     * <p>
+     * 2. IF there is no node stake info for the node the entity staked to, the pending reward keeps the same
+     * <p>
+     * 3. IF the current stake_period_start > the day before last epochDay, no reward's should be earned, set pending
+     * reward to 0
+     * <p>
+     * 4. IF the current stake_period_start equals to the day before last epochDay (either its staking metadata or
+     * balance changed in the previous staking period), calculate the reward it has earned in the ending staking period
+     * as its pending reward
+     * <p>
+     * 5. IF the current stake_period_start is more than 365 days before the last epochDay, deduct the reward earned
+     * in staking period last epochDay - 365, and add the reward earned in last epochDay since staking reward is kept
+     * for up to 365 days counting back from the last staking period.
+     * <p>
+     * 6. Otherwise, there's no staking metadata or balance change for the entity since the start of the ending staking
+     * period, add the reward earned in the ending period to the current as the new pending reward
+     */
+    void updateEntityStake(long stakingRewardAccount);
+
+    /**
+     * Same as {@link #updateEntityStake(long)}, but writes the new entity stake state in chunks of entity ids, each in
+     * its own transaction.
+     */
+    void updateEntityStakeInChunks(long stakingRewardAccount);
 }
@@ -6,6 +6,7 @@ import com.google.common.util.concurrent.Uninterruptibles;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.SystemEntity;
@@ -16,6 +17,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @CustomLog
 @Named
@@ -27,15 +31,37 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             drop index if exists entity_state_start__staked_account_id;
             truncate entity_state_start;
             """;
+    // Entities whose staking metadata or balance changed since the timestamp of the current entity_state_start rows
+    private static final String CHANGED_ENTITY_SQL = """
+            changed as (
+              select entity_id as id
+              from crypto_transfer
+              where consensus_timestamp > :lastEndPeriodTimestamp and consensus_timestamp <= :endPeriodTimestamp
+                and entity_id between :minId and :maxId
+              union
+              select id
+              from entity
+              where id between :minId and :maxId and lower(timestamp_range) > :lastEndPeriodTimestamp
+                and lower(timestamp_range) <= :endPeriodTimestamp
+              union
+              select id
+              from entity_history
+              where id between :minId and :maxId and lower(timestamp_range) > :lastEndPeriodTimestamp
+                and lower(timestamp_range) <= :endPeriodTimestamp
+            ), deleted as (
+              delete from entity_state_start where id in (select id from changed)
+            ),
+            """;
+    private static final String CHANGED_ENTITY_FILTER = "and id in (select id from changed)";
     private static final String CREATE_ENTITY_STATE_START_SQL = """
-            with entity_state as (
+            with %1$s entity_state as (
               select
                 id,
                 staked_account_id,
                 staked_node_id,
                 stake_period_start
               from entity
-              where id between :minId and :maxId and (
+              where id between :minId and :maxId %2$s and (
                 id = :stakingRewardAccount or (
                   deleted is not true and
                   type in ('ACCOUNT', 'CONTRACT') and
@@ -53,7 +79,7 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
                   staked_node_id,
                   stake_period_start
                 from entity_history
-                where id between :minId and :maxId and id <> :stakingRewardAccount and (
+                where id between :minId and :maxId %2$s and id <> :stakingRewardAccount and (
                   deleted is not true and
                   type in ('ACCOUNT', 'CONTRACT') and
                   timestamp_range @> :endPeriodTimestamp and
@@ -85,6 +111,85 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
               group by entity_id
             ) as balance_change on entity_id = id;
             """;
+    private static final String CREATE_ENTITY_STAKE_TEMP_SQL = """
+            drop index if exists entity_stake_temp__id;
+            truncate table entity_stake_temp;
+
+            with ending_period as (
+              select epoch_day, consensus_timestamp
+              from node_stake
+              where epoch_day >= coalesce(
+                (select end_stake_period + 1 from entity_stake where id = :stakingRewardAccount),
+                (
+                  select epoch_day
+                  from node_stake
+                  where consensus_timestamp > (
+                    select lower(timestamp_range) as timestamp from entity where id = :stakingRewardAccount
+                    union all
+                    select lower(timestamp_range) as timestamp from entity_history where id = :stakingRewardAccount
+                    order by timestamp
+                    limit 1
+                  )
+                  order by consensus_timestamp
+                  limit 1
+                )
+              )
+              order by consensus_timestamp
+              limit 1
+            ), ending_period_stake_state as (
+              select
+                id as entity_id,
+                pending_reward,
+                staked_node_id_start,
+                (stake_total_start / 100000000) as stake_total_start_whole_bar,
+                reward_rate
+              from entity_stake es
+              left join (
+                select node_id, reward_rate
+                from node_stake ns, ending_period
+                where ns.consensus_timestamp = ending_period.consensus_timestamp
+              ) node_stake on es.staked_node_id_start = node_id
+            ), forfeited_period as (
+              select distinct on(node_id) consensus_timestamp, node_id, reward_rate
+              from node_stake
+              where epoch_day = (select epoch_day from ending_period) - 365
+              order by node_id, consensus_timestamp
+            ), proxy_staking as (
+              select staked_account_id, sum(balance) as staked_to_me
+              from entity_state_start
+              where staked_account_id <> 0
+              group by staked_account_id
+            )
+            insert into entity_stake_temp (end_stake_period, id, pending_reward,
+              staked_node_id_start, staked_to_me, stake_total_start, timestamp_range)
+            select
+              epoch_day as end_stake_period,
+              ess.id,
+              (case
+                 when coalesce(staked_node_id_start, -1) = -1 then 0
+                 when reward_rate is null then pending_reward
+                 when ess.stake_period_start > epoch_day - 1 then 0
+                 when ess.stake_period_start = epoch_day - 1 then reward_rate * stake_total_start_whole_bar
+                 when epoch_day - ess.stake_period_start > 365
+                   then pending_reward + reward_rate * stake_total_start_whole_bar
+                     - coalesce((select reward_rate from forfeited_period where node_id = staked_node_id_start), 0)
+                       * coalesce((select stake_total_start / 100000000 from entity_stake_history as esh where esh.id = ess.id and lower(esh.timestamp_range) < (select consensus_timestamp from forfeited_period where node_id = staked_node_id_start) order by lower(esh.timestamp_range) desc limit 1), 0)
+                 else pending_reward + reward_rate * stake_total_start_whole_bar
+                end) as pending_reward,
+              ess.staked_node_id as staked_node_id_start,
+              coalesce(ps.staked_to_me, 0) as staked_to_me,
+              (case when ess.staked_node_id = -1 then 0
+                    else ess.balance + coalesce(ps.staked_to_me, 0)
+               end) as stake_total_start,
+              int8range(ep.consensus_timestamp, null) as timestamp_range
+            from entity_state_start ess
+              left join ending_period_stake_state on entity_id = ess.id
+              left join proxy_staking ps on ps.staked_account_id = ess.id,
+              ending_period ep
+            where ess.id = :stakingRewardAccount or ess.staked_node_id <> -1;
+
+            create index if not exists entity_stake_temp__id on entity_stake_temp (id);
+            """;
     private static final String CREATE_TABLE_INDEX_DDL = """
             create index if not exists entity_state_start__id on entity_state_start (id);
             create index if not exists entity_state_start__staked_account_id
@@ -112,21 +217,94 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             order by epoch_day
             limit 1
             """;
+    private static final String ENTITY_STATE_START_EXISTS_SQL = "select exists (select 1 from entity_state_start)";
+    private static final String GET_ENTITY_STAKE_TEMP_ID_RANGE_SQL =
+            "select min(id) as min_id, max(id) as max_id from entity_stake_temp where id <> ?";
     private static final String GET_MAX_ENTITY_ID_SQL =
             "select max(id) from entity where type in ('ACCOUNT', 'CONTRACT')";
+    private static final String LOCK_SQL = "lock table entity_stake in share row exclusive mode nowait";
+    private static final long NO_EXCLUDED_ID = -1L;
     private static final long ONE_MONTH_IN_NS = Duration.ofDays(31).toNanos();
+    private static final String UPDATE_ENTITY_STAKE_SQL = """
+            -- history table
+            insert into entity_stake_history (
+                end_stake_period,
+                id,
+                pending_reward,
+                staked_node_id_start,
+                staked_to_me,
+                stake_total_start,
+                timestamp_range
+              )
+            select
+              e.end_stake_period,
+              e.id,
+              e.pending_reward,
+              e.staked_node_id_start,
+              e.staked_to_me,
+              e.stake_total_start,
+              int8range(lower(e.timestamp_range), lower(t.timestamp_range))
+            from entity_stake e
+            join entity_stake_temp t using (id)
+            where t.id between :minId and :maxId and t.id <> :excludedId and e.end_stake_period < t.end_stake_period;
+
+            -- current table
+            insert into entity_stake (
+                end_stake_period,
+                id,
+                pending_reward,
+                staked_node_id_start,
+                staked_to_me,
+                stake_total_start,
+                timestamp_range
+              )
+            select
+              t.end_stake_period,
+              t.id,
+              greatest(t.pending_reward, 0),
+              t.staked_node_id_start,
+              t.staked_to_me,
+              t.stake_total_start,
+              t.timestamp_range
+            from entity_stake_temp t
+            where t.id between :minId and :maxId and t.id <> :excludedId
+            on conflict (id) do update
+            set
+              end_stake_period = excluded.end_stake_period,
+              pending_reward = excluded.pending_reward,
+              staked_node_id_start = excluded.staked_node_id_start,
+              staked_to_me = excluded.staked_to_me,
+              stake_total_start = excluded.stake_total_start,
+              timestamp_range = excluded.timestamp_range
+            where entity_stake.end_stake_period < excluded.end_stake_period;
+            """;
 
     private final AccountBalanceRepository accountBalanceRepository;
     private final JdbcTemplate jdbcTemplate;
     private final StakingProperties stakingProperties;
     private final SystemEntity systemEntity;
+    private final TransactionOperations transactionOperations;
+
+    // The end period timestamp the entity_state_start rows were last fully calculated at, if any
+    private final AtomicReference<Long> entityStateStartTimestamp = new AtomicReference<>();
 
     @Override
-    @Transactional
     public void createEntityStateStart(long stakingRewardAccount) {
-        jdbcTemplate.execute(CLEANUP_TABLE_SQL);
-
+        final var lastEndPeriodTimestamp = entityStateStartTimestamp.getAndSet(null);
         final var endPeriodTimestamp = getEndPeriodTimestamp(stakingRewardAccount);
+        final boolean incremental = stakingProperties.isIncremental()
+                && lastEndPeriodTimestamp != null
+                && endPeriodTimestamp.filter(t -> t >= lastEndPeriodTimestamp).isPresent()
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(ENTITY_STATE_START_EXISTS_SQL, Boolean.class));
+
+        if (incremental) {
+            // Rows of entities that didn't change since the last calculation are still correct, so only recalculate
+            // the changed ones. The indexes are kept to look up the stale rows.
+            log.info("Incrementally updating entity_state_start from timestamp {}", lastEndPeriodTimestamp);
+        } else {
+            jdbcTemplate.execute(CLEANUP_TABLE_SQL);
+        }
+
         if (endPeriodTimestamp.isEmpty()) {
             return;
         }
@@ -149,6 +327,9 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
         final var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
         final long chunkSize = stakingProperties.getChunkSize();
         final var chunkDelay = stakingProperties.getChunkDelay();
+        final var sql = incremental
+                ? CREATE_ENTITY_STATE_START_SQL.formatted(CHANGED_ENTITY_SQL, CHANGED_ENTITY_FILTER)
+                : CREATE_ENTITY_STATE_START_SQL.formatted("", "");
 
         final var stakingRewardEntityId = EntityId.of(stakingRewardAccount);
         long minId = EntityId.of(stakingRewardEntityId.getShard(), stakingRewardEntityId.getRealm(), 0L)
@@ -159,11 +340,12 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             final var params = new MapSqlParameterSource()
                     .addValue("balanceSnapshotTimestamp", balanceSnapshotTimestamp.get())
                     .addValue("endPeriodTimestamp", endPeriodTimestamp.get())
+                    .addValue("lastEndPeriodTimestamp", lastEndPeriodTimestamp)
                     .addValue("stakingRewardAccount", stakingRewardAccount)
                     .addValue("lowerBalanceTimestamp", lowerBalanceTimestamp)
                     .addValue("minId", minId)
                     .addValue("maxId", maxId);
-            namedParameterJdbcTemplate.update(CREATE_ENTITY_STATE_START_SQL, params);
+            namedParameterJdbcTemplate.update(sql, params);
 
             minId = maxId + 1;
 
@@ -174,7 +356,82 @@ class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
             log.info("Loaded entity_state_start for id up to {}", maxId);
         }
 
-        jdbcTemplate.execute(CREATE_TABLE_INDEX_DDL);
+        if (!incremental) {
+            jdbcTemplate.execute(CREATE_TABLE_INDEX_DDL);
+        }
+
+        setEntityStateStartTimestamp(endPeriodTimestamp.get());
+    }
+
+    @Override
+    @Transactional
+    public void updateEntityStake(long stakingRewardAccount) {
+        final var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        namedParameterJdbcTemplate.update(
+                CREATE_ENTITY_STAKE_TEMP_SQL, new MapSqlParameterSource("stakingRewardAccount", stakingRewardAccount));
+        updateEntityStake(namedParameterJdbcTemplate, Long.MIN_VALUE, Long.MAX_VALUE, NO_EXCLUDED_ID);
+    }
+
+    @Override
+    public void updateEntityStakeInChunks(long stakingRewardAccount) {
+        final var namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        namedParameterJdbcTemplate.update(
+                CREATE_ENTITY_STAKE_TEMP_SQL, new MapSqlParameterSource("stakingRewardAccount", stakingRewardAccount));
+
+        final long chunkSize = stakingProperties.getChunkSize();
+        final var chunkDelay = stakingProperties.getChunkDelay();
+        final var idRange = jdbcTemplate.queryForMap(GET_ENTITY_STAKE_TEMP_ID_RANGE_SQL, stakingRewardAccount);
+        final var maxEntityId = (Long) idRange.get("max_id");
+
+        if (maxEntityId != null) {
+            long minId = (Long) idRange.get("min_id");
+
+            while (minId <= maxEntityId) {
+                final long lowerId = minId;
+                final long upperId = Math.min(minId + chunkSize - 1, maxEntityId);
+                transactionOperations.executeWithoutResult(s -> {
+                    jdbcTemplate.execute(LOCK_SQL);
+                    updateEntityStake(namedParameterJdbcTemplate, lowerId, upperId, stakingRewardAccount);
+                });
+
+                minId = upperId + 1;
+                log.info("Updated entity_stake for id up to {}", upperId);
+
+                if (minId <= maxEntityId && !chunkDelay.isZero()) {
+                    Uninterruptibles.sleepUninterruptibly(chunkDelay);
+                }
+            }
+        }
+
+        // The staking reward account's end stake period marks the calculation as complete, so it's updated last. If
+        // interrupted, the next calculation repeats the same period and skips the entities already updated.
+        transactionOperations.executeWithoutResult(s -> {
+            jdbcTemplate.execute(LOCK_SQL);
+            updateEntityStake(namedParameterJdbcTemplate, stakingRewardAccount, stakingRewardAccount, NO_EXCLUDED_ID);
+        });
+    }
+
+    private void updateEntityStake(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate, long minId, long maxId, long excludedId) {
+        final var params = new MapSqlParameterSource()
+                .addValue("excludedId", excludedId)
+                .addValue("minId", minId)
+                .addValue("maxId", maxId);
+        namedParameterJdbcTemplate.update(UPDATE_ENTITY_STAKE_SQL, params);
+    }
+
+    private void setEntityStateStartTimestamp(long endPeriodTimestamp) {
+        // The rows are only usable for an incremental update once they're committed
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityStateStartTimestamp.set(endPeriodTimestamp);
+                }
+            });
+        } else {
+            entityStateStartTimestamp.set(endPeriodTimestamp);
+        }
     }
 
     private Optional<Long> getEndPeriodTimestamp(long stakingRewardAccount) {
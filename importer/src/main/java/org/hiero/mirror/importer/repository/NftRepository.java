@@ -12,6 +12,41 @@ import org.springframework.data.repository.CrudRepository;
 @Transactional
 public interface NftRepository extends CrudRepository<Nft, AbstractNft.Id> {
 
+    @Query(value = """
+            select count(*) from nft where account_id = ?1 and token_id = ?2 and deleted is false
+            """, nativeQuery = true)
+    long countByAccountIdAndTokenIdNotDeleted(long accountId, long tokenId);
+
+    /**
+     * Applies the changes in the owned nfts of the accounts to account_token_count. The nfts of the deleted tokens no
+     * longer count towards their owners, so it must run after the nft changes are persisted.
+     *
+     * @param accountIds      The accounts whose owned nfts changed
+     * @param nftCounts       The signed change in the number of owned nfts of each account
+     * @param deletedTokenIds The tokens deleted
+     * @return The number of account_token_count rows upserted
+     */
+    @Modifying
+    @Query(value = """
+            with delta as (
+              select account_id, nft_count
+              from unnest(cast(:accountIds as bigint[]), cast(:nftCounts as bigint[])) as d(account_id, nft_count)
+              union all
+              select account_id, -count(*)
+              from nft
+              where token_id = any(cast(:deletedTokenIds as bigint[])) and account_id is not null and deleted is false
+              group by account_id
+            )
+            insert into account_token_count (account_id, nft_count)
+            select account_id, sum(nft_count)
+            from delta
+            group by account_id
+            having sum(nft_count) <> 0
+            on conflict (account_id) do update
+            set nft_count = account_token_count.nft_count + excluded.nft_count
+            """, nativeQuery = true)
+    int updateAccountNftCount(Long[] accountIds, Long[] nftCounts, Long[] deletedTokenIds);
+
     @Modifying
     @Query(value = """
             with nft_history as (
@@ -4,6 +4,56 @@ package org.hiero.mirror.importer.repository;
 
 import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
 import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
-public interface TokenAccountRepository extends CrudRepository<TokenAccount, AbstractTokenAccount.Id> {}
+public interface TokenAccountRepository extends CrudRepository<TokenAccount, AbstractTokenAccount.Id> {
+
+    /**
+     * Applies the changes in the associated tokens and positive balance tokens of the accounts to account_token_count.
+     * The changes are derived by comparing the current state of each token account with its state after the pending
+     * changes, so it must run before the changes are persisted.
+     *
+     * @param accountIds The account ids of the changed token accounts
+     * @param tokenIds   The token ids of the changed token accounts
+     * @param associated The associated status after the change, or null if unchanged
+     * @param balances   The balance after the change if created, otherwise the balance change
+     * @param created    Whether the token account is created by the change
+     * @return The number of account_token_count rows upserted
+     */
+    @Modifying
+    @Query(value = """
+            with change as (
+              select *
+              from unnest(cast(:accountIds as bigint[]), cast(:tokenIds as bigint[]), cast(:associated as boolean[]),
+                cast(:balances as bigint[]), cast(:created as boolean[]))
+                as c(account_id, token_id, associated, balance, created)
+            ), transition as (
+              select
+                c.account_id,
+                coalesce(ta.associated, false) as was_associated,
+                coalesce(ta.associated, false) and coalesce(ta.balance, 0) > 0 as was_positive,
+                coalesce(c.associated, ta.associated, false) as is_associated,
+                case when c.created then c.balance else coalesce(ta.balance, 0) + c.balance end as balance
+              from change c
+              left join token_account ta on ta.account_id = c.account_id and ta.token_id = c.token_id
+            ), delta as (
+              select
+                account_id,
+                sum(cast(is_associated as int) - cast(was_associated as int)) as associated_count,
+                sum(cast(is_associated and balance > 0 as int) - cast(was_positive as int)) as positive_balance_count
+              from transition
+              group by account_id
+            )
+            insert into account_token_count (account_id, associated_count, positive_balance_count)
+            select account_id, associated_count, positive_balance_count
+            from delta
+            where associated_count <> 0 or positive_balance_count <> 0
+            on conflict (account_id) do update
+            set associated_count = account_token_count.associated_count + excluded.associated_count,
+                positive_balance_count = account_token_count.positive_balance_count + excluded.positive_balance_count
+            """, nativeQuery = true)
+    int updateAccountTokenCount(
+            Long[] accountIds, Long[] tokenIds, Boolean[] associated, Long[] balances, Boolean[] created);
+}
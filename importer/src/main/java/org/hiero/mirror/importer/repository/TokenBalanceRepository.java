@@ -40,4 +40,17 @@ public interface TokenBalanceRepository
         """)
     @Transactional
     int balanceSnapshotDeduplicate(long minConsensusTimestamp, long consensusTimestamp, long treasuryAccountId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+        select ta.account_id, ta.balance, :consensusTimestamp, ta.token_id
+        from unnest(cast(:accountIds as bigint[]), cast(:tokenIds as bigint[])) as changed(account_id, token_id)
+        join token_account ta on ta.account_id = changed.account_id and ta.token_id = changed.token_id
+        where ta.balance_timestamp > :minConsensusTimestamp
+        order by ta.account_id, ta.token_id
+        """)
+    @Transactional
+    int balanceSnapshotIncremental(
+            Long[] accountIds, Long[] tokenIds, long minConsensusTimestamp, long consensusTimestamp);
 }
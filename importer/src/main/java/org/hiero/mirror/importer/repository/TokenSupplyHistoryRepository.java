@@ -0,0 +1,38 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.repository;
+
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TokenSupplyHistoryRepository extends CrudRepository<TokenSupplyHistory, TokenSupplyHistory.Id> {
+
+    /**
+     * Records the total supply of deleted tokens after each dissociation that burned an account's balance. The record
+     * only has the burned amount, so the supply after each dissociation is derived from the token's current supply
+     * minus the amounts burned by its later dissociations. It must run after the tokens are persisted, and relies on a
+     * deleted token's supply only changing through dissociations.
+     *
+     * @param tokenIds   The ids of the dissociated deleted tokens
+     * @param timestamps The consensus timestamps of the dissociations
+     * @param amounts    The negative changes to the total supply
+     * @return The number of token_supply_history rows inserted
+     */
+    @Modifying
+    @Query(value = """
+            with change as (
+              select *
+              from unnest(cast(:tokenIds as bigint[]), cast(:timestamps as bigint[]), cast(:amounts as bigint[]))
+                as c(token_id, consensus_timestamp, amount)
+            )
+            insert into token_supply_history (consensus_timestamp, token_id, total_supply)
+            select c.consensus_timestamp, c.token_id, t.total_supply - coalesce(sum(c.amount) over (
+                partition by c.token_id order by c.consensus_timestamp desc
+                rows between unbounded preceding and 1 preceding), 0)
+            from change c
+            join token t on t.token_id = c.token_id
+            """, nativeQuery = true)
+    int insertDissociated(Long[] tokenIds, Long[] timestamps, Long[] amounts);
+}
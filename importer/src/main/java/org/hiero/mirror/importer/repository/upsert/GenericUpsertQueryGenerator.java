@@ -33,6 +33,23 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
      */
     @Override
     public String getUpsertQuery() {
+        return getUpsertQuery(getTemporaryTableName());
+    }
+
+    /**
+     * Constructs an upsert query from the same velocity template as {@link #getUpsertQuery()} with the temporary table
+     * replaced by the rows unnested from an array parameter cast to the temporary table's row type.
+     *
+     * @return the inline upsert query
+     */
+    @Override
+    public String getInlineUpsertQuery() {
+        var rows = String.format(
+                "unnest(cast(cast(%s as text[]) as %s[]))", INLINE_ROWS_PARAMETER, getTemporaryTableName());
+        return getUpsertQuery(rows);
+    }
+
+    private String getUpsertQuery(String source) {
         VelocityEngine velocityEngine = new VelocityEngine();
         velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, RuntimeConstants.RESOURCE_LOADER_CLASS);
         velocityEngine.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
@@ -44,7 +61,7 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
         VelocityContext velocityContext = new VelocityContext();
         velocityContext.put("finalTable", getFinalTableName());
         velocityContext.put("historyTable", getFinalTableName() + "_history");
-        velocityContext.put("tempTable", getTemporaryTableName());
+        velocityContext.put("tempTable", source);
 
         // {0} is column name and {1} is column default. t or blank is the temporary table alias and e is the existing.
         velocityContext.put("coalesceColumns", metadata.columns("coalesce({0}, e_{0}, {1})"));
@@ -2,8 +2,12 @@
 
 package org.hiero.mirror.importer.repository.upsert;
 
+import org.jspecify.annotations.Nullable;
+
 public interface UpsertQueryGenerator {
 
+    String INLINE_ROWS_PARAMETER = "?";
+
     String TEMP_SUFFIX = "_temp";
 
     String getFinalTableName();
@@ -13,4 +17,15 @@ public interface UpsertQueryGenerator {
     }
 
     String getUpsertQuery();
+
+    /**
+     * Gets the upsert query that reads the rows from a text array parameter of composite literals of the temporary
+     * table's row type instead of from the temporary table. Every {@link #INLINE_ROWS_PARAMETER} in the query is bound
+     * to the same array.
+     *
+     * @return the inline upsert query, or null if the generator doesn't support it
+     */
+    default @Nullable String getInlineUpsertQuery() {
+        return null;
+    }
 }
@@ -0,0 +1,194 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.util;
+
+import java.util.function.LongPredicate;
+
+/**
+ * A compact open addressing hash map with primitive long keys and values. It avoids the boxing and per entry object
+ * overhead of a {@link java.util.HashMap} when tracking large numbers of ids. The class is not thread-safe.
+ */
+public final class LongLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long EMPTY_KEY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean hasEmptyKey;
+    private long emptyKeyValue;
+
+    public LongLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    public void clear() {
+        allocate(tableSize(DEFAULT_CAPACITY));
+        size = 0;
+        hasEmptyKey = false;
+        emptyKeyValue = 0L;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return hasEmptyKey;
+        }
+
+        return keys[indexOf(key)] == key;
+    }
+
+    public long get(long key, long defaultValue) {
+        if (key == EMPTY_KEY) {
+            return hasEmptyKey ? emptyKeyValue : defaultValue;
+        }
+
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : defaultValue;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets all keys in the map in no particular order.
+     *
+     * @return A new array of the keys
+     */
+    public long[] keys() {
+        var result = new long[size];
+        int count = 0;
+        if (hasEmptyKey) {
+            result[count++] = EMPTY_KEY;
+        }
+
+        for (long key : keys) {
+            if (key != EMPTY_KEY) {
+                result[count++] = key;
+            }
+        }
+
+        return result;
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY_KEY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                size++;
+            }
+
+            emptyKeyValue = value;
+            return;
+        }
+
+        int index = indexOf(key);
+        if (keys[index] != key) {
+            keys[index] = key;
+            if (++size > keys.length * LOAD_FACTOR) {
+                values[index] = value;
+                rehash(keys.length << 1);
+                return;
+            }
+        }
+
+        values[index] = value;
+    }
+
+    /**
+     * Associates the key with the max of the value and the existing value if present.
+     *
+     * @param key   The key
+     * @param value The value
+     */
+    public void putMax(long key, long value) {
+        if (!containsKey(key) || get(key, value) < value) {
+            put(key, value);
+        }
+    }
+
+    /**
+     * Removes all entries whose value matches the predicate.
+     *
+     * @param predicate The predicate on the value
+     */
+    public void removeIfValue(LongPredicate predicate) {
+        if (hasEmptyKey && predicate.test(emptyKeyValue)) {
+            hasEmptyKey = false;
+            emptyKeyValue = 0L;
+            size--;
+        }
+
+        var oldKeys = keys;
+        var oldValues = values;
+        int retained = hasEmptyKey ? size - 1 : size;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY && predicate.test(oldValues[i])) {
+                retained--;
+            }
+        }
+
+        allocate(tableSize(retained));
+        size = hasEmptyKey ? 1 : 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY && !predicate.test(oldValues[i])) {
+                int index = indexOf(key);
+                keys[index] = key;
+                values[index] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY_KEY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = indexOf(key);
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSize(int expectedSize) {
+        int capacity = (int) Math.ceil(Math.max(expectedSize, DEFAULT_CAPACITY) / LOAD_FACTOR);
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -0,0 +1,8 @@
+create table if not exists account_token_count
+(
+    account_id             bigint not null primary key,
+    associated_count       int    not null default 0,
+    nft_count              bigint not null default 0,
+    positive_balance_count int    not null default 0
+);
+comment on table account_token_count is 'The number of associated tokens and owned nfts per account';
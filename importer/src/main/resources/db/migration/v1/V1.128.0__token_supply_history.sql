@@ -0,0 +1,8 @@
+create table if not exists token_supply_history
+(
+    consensus_timestamp bigint not null,
+    token_id            bigint not null,
+    total_supply        bigint not null,
+    primary key (token_id, consensus_timestamp)
+);
+comment on table token_supply_history is 'The total supply of a token after each transaction that changed it';
@@ -0,0 +1,8 @@
+create table if not exists async_migration_range_progress
+(
+    description text   not null,
+    lower_bound bigint not null,
+    upper_bound bigint not null,
+    primary key (description, lower_bound)
+);
+comment on table async_migration_range_progress is 'The remaining [lower_bound, upper_bound) of each range of an asynchronous migration running in parallel';
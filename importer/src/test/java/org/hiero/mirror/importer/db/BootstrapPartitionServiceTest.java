@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.awaitility.Durations;
+import org.hiero.mirror.importer.EnabledIfV1;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.exception.InvalidConfigurationException;
+import org.hiero.mirror.importer.exception.InvalidDatasetException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+@EnabledIfV1
+class BootstrapPartitionServiceTest extends ImporterIntegrationTest {
+
+    private static final String COMMENT_SQL = "select obj_description(?::regclass, 'pg_class')";
+    private static final String INDEX_COUNT_SQL = "select count(*) from pg_indexes where tablename = ?";
+    private static final String TABLE_NAME = "account_balance";
+
+    private final BootstrapPartitionService bootstrapPartitionService;
+    private final BootstrapProperties bootstrapProperties;
+    private final TimePartitionService timePartitionService;
+
+    @AfterEach
+    void cleanup() {
+        bootstrapProperties.setEnabled(false);
+        bootstrapProperties.getTables().remove("transaction");
+        bootstrapProperties.setUnlogged(false);
+    }
+
+    @Test
+    void getPartitionColumn() {
+        assertThat(bootstrapPartitionService.getPartitionColumn(TABLE_NAME)).isEqualTo("consensus_timestamp");
+        assertThat(bootstrapPartitionService.getPartitionColumn("token_balance"))
+                .isEqualTo("consensus_timestamp");
+        assertThatThrownBy(() -> bootstrapPartitionService.getPartitionColumn("transaction"))
+                .isInstanceOf(InvalidConfigurationException.class);
+        assertThatThrownBy(() -> bootstrapPartitionService.getPartitionColumn("missing"))
+                .isInstanceOf(InvalidConfigurationException.class);
+    }
+
+    @Test
+    void recoverUnsupportedTable() {
+        // given
+        bootstrapProperties.setEnabled(true);
+        bootstrapProperties.getTables().add("transaction");
+
+        // when, then
+        assertThatThrownBy(bootstrapPartitionService::recover)
+                .isInstanceOf(InvalidConfigurationException.class)
+                .hasMessageContaining("transaction");
+    }
+
+    @Test
+    void recoverEmptyUnloggedStaging() {
+        // given an unlogged staging table that no rows were loaded into
+        var partition = getPartitions().getFirst();
+        var staging = partition.getName() + BootstrapPartitionService.STAGING_SUFFIX;
+        ownerJdbcTemplate.execute("create unlogged table " + staging + " (like " + TABLE_NAME + ")");
+
+        // when
+        bootstrapPartitionService.recover();
+
+        // then
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.TEN_SECONDS)
+                .untilAsserted(() -> assertThat(tableExists(staging)).isFalse());
+    }
+
+    @Test
+    void recoverTruncatedUnloggedStaging() {
+        // given an unlogged staging table marked as loaded before the database started, but now empty
+        var partition = getPartitions().getFirst();
+        var staging = partition.getName() + BootstrapPartitionService.STAGING_SUFFIX;
+        ownerJdbcTemplate.execute("create unlogged table " + staging + " (like " + TABLE_NAME + ")");
+        ownerJdbcTemplate.execute("comment on table " + staging + " is '1'");
+
+        try {
+            // when, then
+            assertThatThrownBy(bootstrapPartitionService::recover)
+                    .isInstanceOf(InvalidDatasetException.class)
+                    .hasMessageContaining(staging);
+        } finally {
+            ownerJdbcTemplate.execute("drop table " + staging);
+        }
+    }
+
+    @Test
+    void completeWhenNextPartitionOpened() {
+        // given
+        bootstrapProperties.setEnabled(true);
+        bootstrapProperties.setUnlogged(true);
+        var partitions = getPartitions();
+        var first = partitions.get(0);
+        var second = partitions.get(1);
+        var timestamp = first.getTimestampRange().lowerEndpoint();
+        var indexCount = ownerJdbcTemplate.queryForObject(INDEX_COUNT_SQL, Long.class, first.getName());
+
+        var staging = bootstrapPartitionService.getStagingTable(TABLE_NAME, timestamp);
+        assertThat(staging).isEqualTo(first.getName() + BootstrapPartitionService.STAGING_SUFFIX);
+        assertThat(bootstrapPartitionService.getStagingTable(TABLE_NAME, first.getEnd()))
+                .isEqualTo(staging);
+        assertThat(ownerJdbcTemplate.queryForObject(INDEX_COUNT_SQL, Long.class, staging))
+                .isZero();
+        assertThat(ownerJdbcTemplate.queryForObject(COMMENT_SQL, String.class, staging))
+                .isNotNull();
+        assertThat(bootstrapPartitionService.isPending()).isTrue();
+        ownerJdbcTemplate.update(
+                "insert into " + staging + " (consensus_timestamp, account_id, balance) values (?, 2, 10), (?, 3, 20)",
+                timestamp,
+                timestamp);
+
+        // when
+        var nextStaging = bootstrapPartitionService.getStagingTable(
+                TABLE_NAME, second.getTimestampRange().lowerEndpoint());
+
+        // then
+        assertThat(nextStaging).isEqualTo(second.getName() + BootstrapPartitionService.STAGING_SUFFIX);
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.TEN_SECONDS)
+                .untilAsserted(() -> assertThat(tableExists(staging)).isFalse());
+        assertThat(ownerJdbcTemplate.queryForObject(
+                        "select count(*) from " + TABLE_NAME + " where consensus_timestamp = ?", Long.class, timestamp))
+                .isEqualTo(2L);
+        assertThat(ownerJdbcTemplate.queryForObject(INDEX_COUNT_SQL, Long.class, first.getName()))
+                .isEqualTo(indexCount);
+        assertThat(ownerJdbcTemplate.queryForObject(
+                        "select relpersistence from pg_class where relname = ?", String.class, first.getName()))
+                .isEqualTo("p");
+
+        // when the bootstrap is disabled, the remaining staging table is completed on restart
+        bootstrapProperties.setEnabled(false);
+        bootstrapPartitionService.recover();
+
+        // then
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.TEN_SECONDS)
+                .untilAsserted(() -> assertThat(tableExists(nextStaging)).isFalse());
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.TEN_SECONDS)
+                .untilAsserted(() -> assertThat(bootstrapPartitionService.isPending()).isFalse());
+        assertThat(timePartitionService.getTimePartitions(TABLE_NAME)).containsExactlyInAnyOrderElementsOf(partitions);
+    }
+
+    private List<TimePartition> getPartitions() {
+        return timePartitionService.getTimePartitions(TABLE_NAME).stream().sorted().toList();
+    }
+}
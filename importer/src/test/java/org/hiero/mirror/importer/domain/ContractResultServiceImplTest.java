@@ -16,6 +16,7 @@ import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TokenType;
 import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Objects;
@@ -38,6 +39,8 @@ import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.ImporterProperties;
 import org.hiero.mirror.importer.converter.VersionConverter;
 import org.hiero.mirror.importer.migration.SidecarContractMigration;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.transactionhandler.EvmHookStorageHandler;
@@ -162,6 +165,7 @@ final class ContractResultServiceImplTest {
                 entityIdService,
                 entityListener,
                 importerProperties,
+                new RecordParserProfiler(new SimpleMeterRegistry(), new RecordParserProperties()),
                 sidecarContractMigration,
                 transactionHandlerFactory,
                 evmHookStorageHandler);
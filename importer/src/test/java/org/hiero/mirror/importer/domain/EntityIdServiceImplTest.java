@@ -5,18 +5,21 @@ package org.hiero.mirror.importer.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hiero.mirror.common.domain.entity.EntityType.CONTRACT;
 import static org.hiero.mirror.common.domain.entity.EntityType.UNKNOWN;
+import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static org.hiero.mirror.importer.util.UtilityTest.ALIAS_ECDSA_SECP256K1;
 import static org.hiero.mirror.importer.util.UtilityTest.EVM_ADDRESS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Optional;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.config.CacheProperties;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +30,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.transaction.support.TransactionOperations;
 
 @RequiredArgsConstructor
 @ExtendWith(OutputCaptureExtension.class)
@@ -60,11 +67,71 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
 
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
+    private final TransactionOperations transactionOperations;
 
     private static Stream<Arguments> shardAndRealmData() {
         return Stream.of(Arguments.of(0L, 0L), Arguments.of(1L, 0L), Arguments.of(0L, 1L), Arguments.of(1L, 2L));
     }
 
+    @Test
+    void aliasFilter() {
+        // given
+        var cacheProperties = new CacheProperties();
+        cacheProperties.setAliasFilter(true);
+        var service = new EntityIdServiceImpl(
+                new NoOpCacheManager(), cacheProperties, entityRepository, jdbcOperations, transactionOperations);
+        var existing = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var existingContractId = getProtoContractId(existing);
+
+        // when, then
+        // the filter is not used before warm-up
+        assertThat(service.lookup(existingContractId)).hasValue(existing.toEntityId());
+
+        // when
+        service.warmup();
+        // persisted without notifying the service
+        var unknown = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var unknownContractId = getProtoContractId(unknown);
+
+        // then
+        assertThat(service.lookup(existingContractId)).hasValue(existing.toEntityId());
+        assertThat(service.lookup(unknownContractId, false)).isEmpty();
+
+        // when
+        service.notify(unknown);
+
+        // then
+        assertThat(service.lookup(unknownContractId)).hasValue(unknown.toEntityId());
+    }
+
+    @Test
+    void warmupWithoutAliasFilter() {
+        // given
+        var cacheManager = new ConcurrentMapCacheManager();
+        var cacheProperties = new CacheProperties();
+        cacheProperties.setAliasWarmupSize(1);
+        var service = new EntityIdServiceImpl(
+                cacheManager, cacheProperties, entityRepository, jdbcOperations, transactionOperations);
+        var older = domainBuilder.entity().customize(e -> e.alias(null)).persist();
+        var newest = domainBuilder.entity().customize(e -> e.alias(null)).persist();
+
+        // when
+        service.warmup();
+
+        // then only the newest entity is cached
+        var cache = cacheManager.getCache(CACHE_NAME);
+        assertThat(cache.get(DomainUtils.fromBytes(newest.getEvmAddress())))
+                .isNotNull()
+                .returns(Optional.of(newest.toEntityId()), Cache.ValueWrapper::get);
+        assertThat(cache.get(DomainUtils.fromBytes(older.getEvmAddress()))).isNull();
+    }
+
     @Test
     void cache() {
         Entity contract = domainBuilder
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.hiero.mirror.importer.parser.AbstractParserProperties.BatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchLimitTest {
+
+    private static final Duration FAST = Duration.ofMillis(100L);
+    private static final Duration SLOW = Duration.ofSeconds(10L);
+
+    private final BatchProperties properties = new BatchProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveBatchLimit batchLimit;
+
+    @BeforeEach
+    void setup() {
+        properties.setAdaptive(true);
+        properties.setMaxItems(10_000L);
+        properties.setMinItems(1_000L);
+        properties.setTargetDuration(Duration.ofSeconds(1L));
+        batchLimit = new AdaptiveBatchLimit(properties, meterRegistry, "RECORD");
+    }
+
+    @Test
+    void disabled() {
+        // given
+        properties.setAdaptive(false);
+
+        // when
+        batchLimit.onFlush(10_000L, SLOW, false);
+
+        // then
+        assertThat(batchLimit.get()).isEqualTo(10_000L);
+    }
+
+    @Test
+    void decreaseWhenSlow() {
+        // when
+        batchLimit.onFlush(10_000L, SLOW, true);
+
+        // then
+        assertThat(batchLimit.get()).isEqualTo(5_000L);
+        assertThat(meterRegistry.get(AdaptiveBatchLimit.METRIC).gauge().value()).isEqualTo(5_000.0);
+    }
+
+    @Test
+    void decreaseWhenFailed() {
+        // when
+        batchLimit.onFlush(10_000L, FAST, false);
+        batchLimit.onFlush(5_000L, FAST, false);
+        batchLimit.onFlush(2_500L, FAST, false);
+        batchLimit.onFlush(1_250L, FAST, false);
+
+        // then
+        assertThat(batchLimit.get()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void increaseWhenFastAndFull() {
+        // given
+        batchLimit.onFlush(10_000L, SLOW, true);
+
+        // when
+        batchLimit.onFlush(5_000L, FAST, true);
+
+        // then
+        assertThat(batchLimit.get()).isEqualTo(6_000L);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            batchLimit.onFlush(batchLimit.get(), FAST, true);
+        }
+
+        // then
+        assertThat(batchLimit.get()).isEqualTo(10_000L);
+    }
+
+    @Test
+    void unchangedWhenFastAndNotFull() {
+        // given
+        batchLimit.onFlush(10_000L, SLOW, true);
+
+        // when
+        batchLimit.onFlush(100L, FAST, true);
+
+        // then
+        assertThat(batchLimit.get()).isEqualTo(5_000L);
+    }
+}
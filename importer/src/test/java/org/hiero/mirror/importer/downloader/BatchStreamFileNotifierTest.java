@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.util.concurrent.Uninterruptibles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import lombok.CustomLog;
@@ -49,7 +50,7 @@ class BatchStreamFileNotifierTest {
         balanceParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
         recordParserProperties.setFrequency(Duration.ofMillis(1L));
         recordParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, new SimpleMeterRegistry(), recordFileParser);
     }
 
     @AfterEach
@@ -166,7 +167,7 @@ class BatchStreamFileNotifierTest {
         recordParserProperties.getBatch().setQueueCapacity(1);
         recordParserProperties.getBatch().setMaxFiles(1);
         notifier.close();
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, new SimpleMeterRegistry(), recordFileParser);
         var recordFile1 = domainBuilder.recordFile().get();
         var recordFile2 = domainBuilder.recordFile().get();
         var recordFile3 = domainBuilder.recordFile().get();
@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import java.time.Duration;
+import java.util.List;
+import org.hiero.mirror.importer.ImporterProperties;
+import org.hiero.mirror.importer.addressbook.ConsensusNode;
+import org.hiero.mirror.importer.domain.ConsensusNodeStub;
+import org.hiero.mirror.importer.domain.StreamFileSignature;
+import org.hiero.mirror.importer.domain.StreamFilename;
+import org.hiero.mirror.importer.downloader.record.RecordDownloaderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SignatureListingTrackerTest {
+
+    private static final long MILLIS = Duration.ofMillis(1L).toNanos();
+    private static final StreamFilename FILE1 = StreamFilename.from("2022-07-13T08_46_08Z.rcd_sig");
+    private static final StreamFilename FILE2 = StreamFilename.from("2022-07-13T08_46_10Z.rcd_sig");
+    private static final StreamFilename FILE3 = StreamFilename.from("2022-07-13T08_46_12Z.rcd_sig");
+
+    private final List<ConsensusNode> nodes = List.of(node(0L), node(1L));
+    private CommonDownloaderProperties commonProperties;
+    private SignatureListingTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        commonProperties = new CommonDownloaderProperties(new ImporterProperties());
+        commonProperties.setAdaptiveListing(true);
+        var properties = new RecordDownloaderProperties(commonProperties);
+        properties.setFrequency(Duration.ofMillis(500L));
+        tracker = new SignatureListingTracker(properties);
+    }
+
+    @Test
+    void disabled() {
+        // given
+        commonProperties.setAdaptiveListing(false);
+        tracker.onListed(nodes, FILE1, signatures(FILE2, FILE3), 0L);
+
+        // when
+        tracker.onListed(nodes, FILE3, signatures(), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 0L)).isSameAs(nodes);
+    }
+
+    @Test
+    void backoff() {
+        // given
+        tracker.onListed(nodes, FILE1, signatures(FILE2, FILE3), 0L);
+
+        // when
+        tracker.onListed(nodes, FILE3, signatures(), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 499 * MILLIS)).isEmpty();
+        assertThat(tracker.getNodes(nodes, FILE3, 500 * MILLIS)).containsExactlyElementsOf(nodes);
+
+        // when
+        tracker.onListed(nodes, FILE3, signatures(), 500 * MILLIS);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 1499 * MILLIS)).isEmpty();
+        assertThat(tracker.getNodes(nodes, FILE3, 1500 * MILLIS)).containsExactlyElementsOf(nodes);
+
+        // when the backoff is capped at half of the interval between files
+        tracker.onListed(nodes, FILE3, signatures(), 1500 * MILLIS);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 2500 * MILLIS)).containsExactlyElementsOf(nodes);
+    }
+
+    @Test
+    void backoffPerNode() {
+        // given
+        tracker.onListed(nodes, FILE1, signatures(FILE2, FILE3), 0L);
+
+        // when
+        tracker.onListed(nodes.subList(0, 1), FILE3, signatures(), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 0L)).containsExactly(nodes.get(1));
+    }
+
+    @Test
+    void backoffMax() {
+        // given
+        commonProperties.setMaxListingBackoff(Duration.ofMillis(100L));
+        tracker.onListed(nodes, FILE1, signatures(FILE2, FILE3), 0L);
+
+        // when
+        tracker.onListed(nodes, FILE3, signatures(), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 100 * MILLIS)).containsExactlyElementsOf(nodes);
+    }
+
+    @Test
+    void noBackoffWithoutInterval() {
+        // when
+        tracker.onListed(nodes, FILE3, signatures(), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE3, 0L)).containsExactlyElementsOf(nodes);
+    }
+
+    @Test
+    void resetWhenCursorChanges() {
+        // given
+        tracker.onListed(nodes, FILE1, signatures(FILE2), 0L);
+
+        // when
+        tracker.onListed(nodes, FILE2, signatures(), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE2, 0L)).isEmpty();
+        assertThat(tracker.getNodes(nodes, FILE3, 0L)).containsExactlyElementsOf(nodes);
+    }
+
+    @Test
+    void resetWhenFound() {
+        // given
+        tracker.onListed(nodes, FILE1, signatures(FILE2), 0L);
+        tracker.onListed(nodes, FILE2, signatures(), 0L);
+
+        // when
+        tracker.onListed(nodes.subList(0, 1), FILE2, signatures(FILE3), 0L);
+
+        // then
+        assertThat(tracker.getNodes(nodes, FILE2, 0L)).containsExactlyElementsOf(nodes);
+    }
+
+    private ConsensusNode node(long nodeId) {
+        return ConsensusNodeStub.builder().nodeId(nodeId).stake(1L).totalStake(2L).build();
+    }
+
+    private Multimap<StreamFilename, StreamFileSignature> signatures(StreamFilename... filenames) {
+        Multimap<StreamFilename, StreamFileSignature> signatures = ArrayListMultimap.create();
+        for (var filename : filenames) {
+            var signature = new StreamFileSignature();
+            signature.setFilename(filename);
+            signature.setNode(nodes.getFirst());
+            signatures.put(filename, signature);
+        }
+        return signatures;
+    }
+}
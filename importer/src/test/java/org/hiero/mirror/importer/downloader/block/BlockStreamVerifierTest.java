@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -20,6 +21,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
 import com.hedera.hapi.block.stream.output.protoc.TransactionResult;
 import com.hedera.hapi.block.stream.protoc.BlockProof;
@@ -31,9 +33,11 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.SemanticVersion;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.bouncycastle.util.encoders.Hex;
 import org.hiero.mirror.common.domain.StreamFile;
 import org.hiero.mirror.common.domain.transaction.BlockFile;
@@ -420,12 +424,35 @@ final class BlockStreamVerifierTest {
 
         // when, then
         assertThatThrownBy(() -> verifier.verify(blockFile)).isEqualTo(exception);
-        verifyNoInteractions(blockFileTransformer);
+        verify(cutoverService, never()).verified(any(RecordFile.class));
         verifyNoInteractions(blockStateProofHasher);
         verify(recordFileRepository).findLatest();
         verify(tssVerifier).verify(eq(blockNumber), any(), any());
     }
 
+    @Test
+    void transformFailsAwaitsTssVerification() {
+        // given
+        when(recordFileRepository.findLatest()).thenReturn(Optional.empty());
+        final var blockFile = getBlockFile(null);
+        final long blockNumber = blockFile.getIndex();
+        final var exception = new InvalidStreamFileException("Failed to transform block " + blockNumber);
+        final var verified = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+                    Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(200L));
+                    verified.set(true);
+                    return null;
+                })
+                .when(tssVerifier)
+                .verify(eq(blockNumber), any(), any());
+        when(blockFileTransformer.transform(blockFile)).thenThrow(exception);
+
+        // when, then
+        assertThatThrownBy(() -> verifier.verify(blockFile)).isEqualTo(exception);
+        assertThat(verified).isTrue();
+        verify(cutoverService, never()).verified(any(RecordFile.class));
+    }
+
     private static BlockFile.BlockFileBuilder withBlockNumber(BlockFile.BlockFileBuilder builder, long blockNumber) {
         return builder.blockProof(BlockProof.newBuilder()
                         .setBlock(blockNumber)
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.downloader.block.tss;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.never;
@@ -16,6 +17,9 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.hedera.cryptography.wraps.WRAPSVerificationKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
@@ -23,7 +27,9 @@ import lombok.SneakyThrows;
 import org.bouncycastle.util.encoders.Hex;
 import org.hiero.mirror.common.domain.tss.Ledger;
 import org.hiero.mirror.common.domain.tss.LedgerNodeContribution;
+import org.hiero.mirror.importer.ImporterProperties;
 import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.downloader.block.BlockProperties;
 import org.hiero.mirror.importer.exception.SignatureVerificationException;
 import org.hiero.mirror.importer.repository.LedgerRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +46,7 @@ final class TssVerifierTest {
     private static final TssTestArtifact TEST_ARTIFACT = loadTssTestArtifact();
     private static final byte[] WRAPS_VERIFICATION_KEY = WRAPSVerificationKey.getDefaultKey();
 
+    private MeterRegistry meterRegistry;
     private TssVerifier tssVerifier;
 
     @Mock
@@ -47,7 +54,9 @@ final class TssVerifierTest {
 
     @BeforeEach
     void setup() {
-        tssVerifier = new TssVerifierImpl(ledgerRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        tssVerifier =
+                new TssVerifierImpl(new BlockProperties(new ImporterProperties()), ledgerRepository, meterRegistry);
     }
 
     @Test
@@ -117,6 +126,25 @@ final class TssVerifierTest {
         verify(ledgerRepository).findTopByOrderByConsensusTimestampDesc();
     }
 
+    @Test
+    void verifyCached() {
+        // given
+        tssVerifier.setLedger(TEST_ARTIFACT.toLedger(), false);
+        tssVerifier.verify(0, TEST_ARTIFACT.message, TEST_ARTIFACT.signatureWithWraps);
+
+        // when, then
+        assertThatCode(() -> tssVerifier.verify(0, TEST_ARTIFACT.message, TEST_ARTIFACT.signatureWithSchnorr))
+                .doesNotThrowAnyException();
+        assertThat(getVerificationCount(true)).isOne();
+        assertThat(getVerificationCount(false)).isOne();
+
+        // when, then
+        assertThatThrownBy(() -> tssVerifier.verify(
+                        1, TestUtils.generateRandomByteArray(48), TEST_ARTIFACT.signatureWithWraps))
+                .isInstanceOf(SignatureVerificationException.class);
+        assertThat(getVerificationCount(false)).isEqualTo(2);
+    }
+
     @Test
     void verifyWithoutLedger() {
         // given. when, then
@@ -126,6 +154,16 @@ final class TssVerifierTest {
         verify(ledgerRepository).findTopByOrderByConsensusTimestampDesc();
     }
 
+    private long getVerificationCount(final boolean cached) {
+        return meterRegistry
+                .find("hiero.mirror.importer.tss.verification")
+                .tag("cached", String.valueOf(cached))
+                .timers()
+                .stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
     @SneakyThrows
     private static TssTestArtifact loadTssTestArtifact() {
         final var file = TestUtils.getResource("data/tss/tssTestArtifact.json");
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.downloader.provider;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hiero.mirror.importer.TestUtils.S3_PROXY_PORT;
 import static org.hiero.mirror.importer.downloader.provider.S3StreamFileProvider.SEPARATOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
@@ -11,8 +12,10 @@ import java.util.concurrent.ForkJoinPool;
 import lombok.SneakyThrows;
 import org.gaul.s3proxy.S3Proxy;
 import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.domain.StreamFilename;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -50,4 +53,21 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
             s3Proxy.stop();
         }
     }
+
+    @Test
+    void listAgainReusesSignatures() {
+        // given
+        var node = node(3);
+        createDefaultFileCopier().copy();
+        var first = streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block();
+
+        // when
+        var second = streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block();
+
+        // then
+        assertThat(second).hasSize(2).hasSameSizeAs(first);
+        for (int i = 0; i < second.size(); i++) {
+            assertThat(second.get(i)).isSameAs(first.get(i));
+        }
+    }
 }
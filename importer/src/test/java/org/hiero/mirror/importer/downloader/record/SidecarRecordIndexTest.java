@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.services.stream.proto.ContractBytecode;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SidecarRecordIndexTest {
+
+    @Test
+    void empty() {
+        var index = new SidecarRecordIndex();
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.get(0L)).isEmpty();
+        assertThat(index.get(1L)).isEmpty();
+    }
+
+    @Test
+    void addAll() {
+        // given
+        var index = new SidecarRecordIndex();
+        var records = new ArrayList<TransactionSidecarRecord>();
+        for (int i = 0; i < 1000; i++) {
+            records.add(sidecarRecord(i / 2, i));
+        }
+
+        // when
+        index.addAll(records.subList(0, 500));
+        index.addAll(records.subList(500, 1000));
+
+        // then
+        assertThat(index.size()).isEqualTo(500);
+        for (int i = 0; i < 500; i++) {
+            assertThat(index.get(i)).containsExactly(records.get(i * 2), records.get(i * 2 + 1));
+        }
+        assertThat(index.get(500L)).isEmpty();
+    }
+
+    @Test
+    void zeroTimestamp() {
+        var index = new SidecarRecordIndex();
+        var sidecarRecord = sidecarRecord(0L, 1);
+        index.addAll(List.of(sidecarRecord));
+        assertThat(index.get(0L)).containsExactly(sidecarRecord);
+    }
+
+    private TransactionSidecarRecord sidecarRecord(long nanos, int contractNum) {
+        return TransactionSidecarRecord.newBuilder()
+                .setBytecode(ContractBytecode.newBuilder()
+                        .setContractId(ContractID.newBuilder()
+                                .setContractNum(contractNum)))
+                .setConsensusTimestamp(Timestamp.newBuilder().setNanos((int) nanos))
+                .build();
+    }
+}
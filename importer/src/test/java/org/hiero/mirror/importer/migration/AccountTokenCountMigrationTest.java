@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.importer.migration.AccountTokenCountMigration.DEFAULT_BATCH_SIZE;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.entity.EntityType;
+import org.hiero.mirror.importer.DisableRepeatableSqlMigration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@DisablePartitionMaintenance
+@DisableRepeatableSqlMigration
+@RequiredArgsConstructor
+@Tag("migration")
+final class AccountTokenCountMigrationTest extends AbstractAsyncJavaMigrationTest<AccountTokenCountMigration> {
+
+    private static final String SELECT_ACCOUNT_TOKEN_COUNT_SQL = """
+            select account_id, associated_count, nft_count, positive_balance_count
+            from account_token_count
+            order by account_id
+            """;
+
+    @Getter
+    private final AccountTokenCountMigration migration;
+
+    @Test
+    void emptyDatabase() {
+        // when
+        runMigration();
+        waitForCompletion();
+
+        // then
+        assertThat(findAccountTokenCounts()).isEmpty();
+    }
+
+    @Test
+    void migrate() {
+        // given
+        long accountId1 = 1000L;
+        long accountId2 = accountId1 + DEFAULT_BATCH_SIZE * 2;
+        var token = domainBuilder.entity().customize(e -> e.type(EntityType.TOKEN)).persist();
+        var deletedToken = domainBuilder
+                .entity()
+                .customize(e -> e.deleted(true).type(EntityType.TOKEN))
+                .persist();
+        persistTokenAccount(accountId1, true, 0L);
+        persistTokenAccount(accountId1, true, 10L);
+        persistTokenAccount(accountId1, false, 0L);
+        persistTokenAccount(accountId2, true, 5L);
+        persistNft(accountId1, token.getId(), false);
+        persistNft(accountId1, token.getId(), true);
+        persistNft(accountId1, deletedToken.getId(), false);
+        persistNft(accountId2, token.getId(), false);
+        persistNft(accountId2, token.getId(), false);
+
+        // counts applied by the importer for an account no longer holding any token and one with a stale count
+        var staleAccountId = accountId1 + DEFAULT_BATCH_SIZE;
+        jdbcOperations.update(
+                "insert into account_token_count (account_id, associated_count) values (?, 3), (?, 7)",
+                staleAccountId,
+                accountId2);
+
+        // when
+        runMigration();
+        waitForCompletion();
+
+        // then
+        assertThat(findAccountTokenCounts())
+                .containsExactly(List.of(accountId1, 2L, 1L, 1L), List.of(accountId2, 1L, 2L, 1L));
+    }
+
+    private List<List<Long>> findAccountTokenCounts() {
+        return jdbcOperations.query(
+                SELECT_ACCOUNT_TOKEN_COUNT_SQL,
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+    }
+
+    private void persistNft(long accountId, long tokenId, boolean deleted) {
+        domainBuilder
+                .nft()
+                .customize(n -> n.accountId(EntityId.of(accountId)).deleted(deleted).tokenId(tokenId))
+                .persist();
+    }
+
+    private void persistTokenAccount(long accountId, boolean associated, long balance) {
+        domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(accountId).associated(associated).balance(balance))
+                .persist();
+    }
+}
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import com.google.common.util.concurrent.Uninterruptibles;
 import jakarta.annotation.Resource;
 import java.util.List;
@@ -41,6 +42,8 @@ class AsyncJavaMigrationBaseTest extends ImporterIntegrationTest {
     @BeforeEach
     void cleanup() {
         ownerJdbcTemplate.update("delete from flyway_schema_history where description = ?", TEST_MIGRATION_DESCRIPTION);
+        ownerJdbcTemplate.update(
+                "delete from async_migration_range_progress where description = ?", TEST_MIGRATION_DESCRIPTION);
     }
 
     protected void addMigrationHistory(AsyncJavaMigrationBaseTest.MigrationHistory migrationHistory) {
@@ -116,6 +119,58 @@ class AsyncJavaMigrationBaseTest extends ImporterIntegrationTest {
         }
     }
 
+    protected class RangeTestAsyncJavaMigration extends RangeAsyncJavaMigration {
+
+        private final Range<Long> keyspace;
+        private final List<Range<Long>> migrated;
+        private final long step;
+
+        protected RangeTestAsyncJavaMigration(
+                MigrationProperties migrationProperties, Range<Long> keyspace, long step, List<Range<Long>> migrated) {
+            super(
+                    Map.of("testAsyncJavaMigration", migrationProperties),
+                    objectProvider(ownerJdbcTemplate),
+                    dbProperties.getSchema());
+            this.keyspace = keyspace;
+            this.migrated = migrated;
+            this.step = step;
+        }
+
+        @Override
+        public String getDescription() {
+            return TEST_MIGRATION_DESCRIPTION;
+        }
+
+        @Override
+        protected Long getInitial() {
+            return keyspace.upperEndpoint();
+        }
+
+        @Override
+        protected Optional<Range<Long>> getKeyspace() {
+            return keyspace.isEmpty() ? Optional.empty() : Optional.of(keyspace);
+        }
+
+        @Override
+        protected @NonNull Optional<Long> migratePartial(Long last) {
+            long lower = Math.max(keyspace.lowerEndpoint(), last - step);
+            migrated.add(Range.closedOpen(lower, last));
+            return lower > keyspace.lowerEndpoint() ? Optional.of(lower) : Optional.empty();
+        }
+
+        @Override
+        protected @NonNull Optional<Long> migrateRangePartial(long lowerBound, long upperBound) {
+            long lower = Math.max(lowerBound, upperBound - step);
+            migrated.add(Range.closedOpen(lower, upperBound));
+            return lower > lowerBound ? Optional.of(lower) : Optional.empty();
+        }
+
+        @Override
+        protected TransactionOperations getTransactionOperations() {
+            return transactionOperations;
+        }
+    }
+
     @Value
     protected class TestAsyncJavaMigration extends AsyncJavaMigration<Long> {
 
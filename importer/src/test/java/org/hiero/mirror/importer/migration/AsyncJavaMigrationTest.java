@@ -5,6 +5,9 @@ package org.hiero.mirror.importer.migration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -99,6 +102,105 @@ class AsyncJavaMigrationTest extends AsyncJavaMigrationBaseTest {
         assertThat(getAllMigrationHistory()).isEmpty();
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 8})
+    void migrateRanges(int parallelism) throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        var migrationProperties = new MigrationProperties();
+        migrationProperties.setParallelism(parallelism);
+        var keyspace = Range.closedOpen(10L, 1000L);
+        var migrated = Collections.synchronizedList(new ArrayList<Range<Long>>());
+        var migration = new RangeTestAsyncJavaMigration(migrationProperties, keyspace, 7, migrated);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        RangeSet<Long> rangeSet = TreeRangeSet.create();
+        long total = 0;
+        for (var range : migrated) {
+            assertThat(rangeSet.intersects(range)).isFalse();
+            rangeSet.add(range);
+            total += range.upperEndpoint() - range.lowerEndpoint();
+        }
+
+        assertThat(rangeSet.asRanges()).containsExactly(keyspace);
+        assertThat(total).isEqualTo(990L);
+        assertThat(ownerJdbcTemplate.queryForObject(
+                        "select count(*) from async_migration_range_progress where description = ?",
+                        Integer.class,
+                        TEST_MIGRATION_DESCRIPTION))
+                .isZero();
+        assertThat(getAllMigrationHistory())
+                .extracting(MigrationHistory::checksum)
+                .containsExactly(1);
+    }
+
+    @Test
+    void migrateRangesResume() throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        ownerJdbcTemplate.update(
+                "insert into async_migration_range_progress values (?, 100, 150), (?, 500, 520)",
+                TEST_MIGRATION_DESCRIPTION,
+                TEST_MIGRATION_DESCRIPTION);
+        var migrationProperties = new MigrationProperties();
+        migrationProperties.setParallelism(2);
+        var migrated = Collections.synchronizedList(new ArrayList<Range<Long>>());
+        var migration = new RangeTestAsyncJavaMigration(migrationProperties, Range.closedOpen(0L, 1000L), 50, migrated);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        assertThat(migrated).containsExactlyInAnyOrder(Range.closedOpen(100L, 150L), Range.closedOpen(500L, 520L));
+        assertThat(getAllMigrationHistory())
+                .extracting(MigrationHistory::checksum)
+                .containsExactly(1);
+    }
+
+    @Test
+    void migrateRangesEmptyKeyspace() throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        var migrationProperties = new MigrationProperties();
+        migrationProperties.setParallelism(2);
+        var migrated = Collections.synchronizedList(new ArrayList<Range<Long>>());
+        var migration = new RangeTestAsyncJavaMigration(migrationProperties, Range.closedOpen(5L, 5L), 50, migrated);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        assertThat(migrated).containsExactly(Range.closedOpen(5L, 5L));
+        assertThat(getAllMigrationHistory())
+                .extracting(MigrationHistory::checksum)
+                .containsExactly(1);
+    }
+
+    @Test
+    void migrateRangesSequentialCleansUpProgress() throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        ownerJdbcTemplate.update(
+                "insert into async_migration_range_progress values (?, 100, 150)", TEST_MIGRATION_DESCRIPTION);
+        var migrated = Collections.synchronizedList(new ArrayList<Range<Long>>());
+        var migration =
+                new RangeTestAsyncJavaMigration(new MigrationProperties(), Range.closedOpen(0L, 100L), 50, migrated);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        assertThat(migrated).containsExactly(Range.closedOpen(50L, 100L), Range.closedOpen(0L, 50L));
+        assertThat(ownerJdbcTemplate.queryForObject(
+                        "select count(*) from async_migration_range_progress where description = ?",
+                        Integer.class,
+                        TEST_MIGRATION_DESCRIPTION))
+                .isZero();
+    }
+
     @Test
     void migratesInOrder() throws Exception {
         // m1 holds the lock via a sleep while m2 and m3 queue up on separate threads, testing fair contention
@@ -15,8 +15,11 @@ import org.hiero.mirror.importer.DisableRepeatableSqlMigration;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.repository.ContractLogRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @RequiredArgsConstructor
 @Tag("migration")
@@ -43,9 +46,16 @@ class ContractLogIndexMigrationTest extends AbstractAsyncJavaMigrationTest<Contr
         assertThat(tableExists("processed_record_file_temp")).isFalse();
     }
 
-    @Test
-    void migrateSuccessful() {
+    @AfterEach
+    void teardown() {
+        migration.migrationProperties.setParallelism(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void migrateSuccessful(int parallelism) {
         // given
+        migration.migrationProperties.setParallelism(parallelism);
         // Persist record files
         final var recordFiles = new ArrayList<RecordFile>();
         for (int index = 0; index < 4; index++) {
@@ -107,6 +117,8 @@ class ContractLogIndexMigrationTest extends AbstractAsyncJavaMigrationTest<Contr
                         contractLogFourthRecordFile1.getConsensusTimestamp(), contractLogFourthRecordFile1.getData()))
                 .isEqualTo(2);
         assertThat(tableExists("processed_record_file_temp")).isFalse();
+        assertThat(jdbcOperations.queryForObject("select count(*) from async_migration_range_progress", Integer.class))
+                .isZero();
     }
 
     private Integer findIndex(final long consensusTimestamp) {
@@ -39,6 +39,7 @@ import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.CryptoAllowanceRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.repository.NftAllowanceRepository;
@@ -52,7 +53,10 @@ import org.hiero.mirror.importer.repository.TokenRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageLookupRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.transaction.support.TransactionOperations;
 
 @RequiredArgsConstructor
@@ -63,6 +67,7 @@ class BatchUpserterTest extends ImporterIntegrationTest {
             .build();
 
     private final BatchPersister batchPersister;
+    private final CommonParserProperties commonParserProperties;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final EntityRepository entityRepository;
     private final NftRepository nftRepository;
@@ -103,8 +108,16 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
-    @Test
-    void entityInsertAndUpdate() {
+    @AfterEach
+    void cleanup() {
+        commonParserProperties.setInlineUpsertThreshold(new CommonParserProperties().getInlineUpsertThreshold());
+    }
+
+    @ParameterizedTest(name = "inlineUpsertThreshold {0}")
+    @ValueSource(ints = {0, 100})
+    void entityInsertAndUpdate(int inlineUpsertThreshold) {
+        // given
+        commonParserProperties.setInlineUpsertThreshold(inlineUpsertThreshold);
         var entities = new ArrayList<Entity>();
         long consensusTimestamp = 1;
         entities.add(getEntity(1, consensusTimestamp, consensusTimestamp, "memo-1"));
@@ -129,8 +142,10 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         updatedEntities.add(getEntity(5, null, updateTimestamp, "memo-5"));
         updatedEntities.add(getEntity(6, null, updateTimestamp, "memo-6"));
 
+        // when
         persist(batchPersister, updatedEntities); // copy inserts and updates
 
+        // then
         assertThat(entityRepository.findAll())
                 .hasSize(6)
                 .extracting(Entity::getMemo)
@@ -141,6 +156,19 @@ class BatchUpserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrder(2L, 3L, 4L);
     }
 
+    @Test
+    void entityInsertInlineEscaped() {
+        // given
+        commonParserProperties.setInlineUpsertThreshold(100);
+        var entity = getEntity(1, 1L, 1L, "memo (\\x00,\"quoted\")");
+
+        // when
+        persist(batchPersister, List.of(entity));
+
+        // then
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+    }
+
     @Test
     void entityInsertAndUpdateBatched() {
         var entities = new ArrayList<Entity>();
@@ -358,8 +386,10 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(tokenAccountRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenAccounts);
     }
 
-    @Test
-    void tokenAccountInsertAndUpdate() {
+    @ParameterizedTest(name = "inlineUpsertThreshold {0}")
+    @ValueSource(ints = {0, 100})
+    void tokenAccountInsertAndUpdate(int inlineUpsertThreshold) {
+        commonParserProperties.setInlineUpsertThreshold(inlineUpsertThreshold);
         // inserts token first
         var tokens = new ArrayList<Token>();
         tokens.add(getToken("0.0.2000", "0.0.1001", 1L));
@@ -403,9 +433,11 @@ class BatchUpserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrder(7L, 8L);
     }
 
-    @Test
-    void topicMessageLookup() {
+    @ParameterizedTest(name = "inlineUpsertThreshold {0}")
+    @ValueSource(ints = {0, 100})
+    void topicMessageLookup(int inlineUpsertThreshold) {
         // given
+        commonParserProperties.setInlineUpsertThreshold(inlineUpsertThreshold);
         var topicMessageLookup1 = domainBuilder.topicMessageLookup().persist();
         var topicMessageLookup2 = domainBuilder
                 .topicMessageLookup()
@@ -438,8 +470,10 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(scheduleRepository.findAll()).containsExactlyInAnyOrderElementsOf(schedules);
     }
 
-    @Test
-    void scheduleInsertAndUpdate() {
+    @ParameterizedTest(name = "inlineUpsertThreshold {0}")
+    @ValueSource(ints = {0, 100})
+    void scheduleInsertAndUpdate(int inlineUpsertThreshold) {
+        commonParserProperties.setInlineUpsertThreshold(inlineUpsertThreshold);
         var schedules = new ArrayList<Schedule>();
         schedules.add(getSchedule(1L, "0.0.1001", null));
         schedules.add(getSchedule(2L, "0.0.1002", null));
@@ -481,8 +515,10 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(findHistory(Nft.class)).isEmpty();
     }
 
-    @Test
-    void nftInsertAndUpdate() {
+    @ParameterizedTest(name = "inlineUpsertThreshold {0}")
+    @ValueSource(ints = {0, 100})
+    void nftInsertAndUpdate(int inlineUpsertThreshold) {
+        commonParserProperties.setInlineUpsertThreshold(inlineUpsertThreshold);
         // nft mints
         var nft1 = domainBuilder.nft().get();
         var nft2 = domainBuilder.nft().get();
@@ -583,9 +619,11 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(tokenAllowanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenAllowance);
     }
 
-    @Test
-    void tokenDissociateTransfer() {
+    @ParameterizedTest(name = "inlineUpsertThreshold {0}")
+    @ValueSource(ints = {0, 100})
+    void tokenDissociateTransfer(int inlineUpsertThreshold) {
         // given
+        commonParserProperties.setInlineUpsertThreshold(inlineUpsertThreshold);
         var accountId1 = domainBuilder.entityId();
         var accountId2 = domainBuilder.entityId();
         var fungibleToken = domainBuilder.entityId();
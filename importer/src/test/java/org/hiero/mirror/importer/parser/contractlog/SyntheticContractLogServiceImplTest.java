@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.protobuf.ByteString;
@@ -21,6 +22,7 @@ import com.hederahashgraph.api.proto.java.TokenTransferList;
 import com.hederahashgraph.api.proto.java.TokenType;
 import com.hederahashgraph.api.proto.java.TransactionRecord.Builder;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.hiero.mirror.common.CommonProperties;
@@ -110,6 +112,34 @@ final class SyntheticContractLogServiceImplTest {
         assertThat(contractLogCaptor.getValue().getTransactionHash()).isEqualTo(recordItem.getTransactionHash());
     }
 
+    @Test
+    @DisplayName("Should create synthetic contract logs of a record item in a batch")
+    void createAll() {
+        var receiverId2 = EntityId.of(recordItemBuilder.accountId());
+        syntheticContractLogService.createAll(List.of(
+                new TransferContractLog(recordItem, entityTokenId, senderId, receiverId, amount),
+                new TransferContractLog(recordItem, entityTokenId, senderId, receiverId2, amount)));
+
+        verify(entityListener, times(2)).onContractLog(contractLogCaptor.capture());
+        assertThat(contractLogCaptor.getAllValues())
+                .extracting(ContractLog::getIndex)
+                .containsExactly(0, 1);
+        assertThat(contractLogCaptor.getAllValues())
+                .allSatisfy(log -> assertThat(log)
+                        .returns(recordItem.getConsensusTimestamp(), ContractLog::getConsensusTimestamp)
+                        .returns(entityTokenId, ContractLog::getContractId)
+                        .returns(recordItem.getEvmTransactionIndex(), ContractLog::getTransactionIndex)
+                        .returns(recordItem.getTransactionHash(), ContractLog::getTransactionHash)
+                        .returns(true, ContractLog::isSynthetic));
+    }
+
+    @Test
+    @DisplayName("Should not create synthetic contract logs for an empty batch")
+    void createAllEmpty() {
+        syntheticContractLogService.createAll(List.of());
+        verifyNoInteractions(entityListener, parserContext);
+    }
+
     @Test
     @DisplayName("Should skip synthetic contract log for HAPI version >= 0.71.0")
     void skipSyntheticLogForNewHapiVersion() {
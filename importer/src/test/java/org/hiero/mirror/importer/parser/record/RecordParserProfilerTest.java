@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.COMPONENT_TRANSACTION_HANDLER;
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.METRIC_DURATION;
+import static org.hiero.mirror.importer.parser.record.RecordParserProfiler.METRIC_OBJECTS;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RecordParserProfilerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordParserProperties parserProperties = new RecordParserProperties();
+    private RecordParserProfiler recordParserProfiler;
+
+    @BeforeEach
+    void setup() {
+        parserProperties.getProfiler().setEnabled(true);
+        parserProperties.getProfiler().setSampleRate(2);
+        recordParserProfiler = new RecordParserProfiler(meterRegistry, parserProperties);
+    }
+
+    @Test
+    void disabled() {
+        // given
+        parserProperties.getProfiler().setEnabled(false);
+
+        // when
+        recordParserProfiler.onItem();
+        recordParserProfiler.stop(COMPONENT_TRANSACTION_HANDLER, "CRYPTOTRANSFER", recordParserProfiler.start());
+        recordParserProfiler.count(List.of("a", "b"));
+
+        // then
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void sampled() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            recordParserProfiler.onItem();
+            recordParserProfiler.stop(COMPONENT_TRANSACTION_HANDLER, "CRYPTOTRANSFER", recordParserProfiler.start());
+        }
+
+        // then
+        var timer = meterRegistry
+                .get(METRIC_DURATION)
+                .tag("component", COMPONENT_TRANSACTION_HANDLER)
+                .tag("name", "CRYPTOTRANSFER")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2L);
+    }
+
+    @Test
+    void count() {
+        // when
+        recordParserProfiler.count(List.of());
+        recordParserProfiler.count(List.of("a", "b"));
+        recordParserProfiler.count(List.of("c"));
+
+        // then
+        var counter = meterRegistry.get(METRIC_OBJECTS).tag("class", "String").counter();
+        assertThat(counter.count()).isEqualTo(3.0);
+    }
+}
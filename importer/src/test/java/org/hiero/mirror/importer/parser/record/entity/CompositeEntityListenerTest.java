@@ -9,11 +9,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.DomainBuilder;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.file.FileData;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.util.LongListConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,8 +44,9 @@ final class CompositeEntityListenerTest {
     @BeforeEach
     void setup() {
         entityProperties = new EntityProperties(new SystemEntity(CommonProperties.getInstance()));
-        compositeEntityListener =
-                new CompositeEntityListener(List.of(entityListener1, entityListener2), entityProperties);
+        var recordParserProfiler = new RecordParserProfiler(new SimpleMeterRegistry(), new RecordParserProperties());
+        compositeEntityListener = new CompositeEntityListener(
+                List.of(entityListener1, entityListener2), entityProperties, recordParserProfiler);
     }
 
     @ParameterizedTest
@@ -81,6 +81,7 @@ import org.hiero.mirror.common.domain.token.TokenAirdropStateEnum;
 import org.hiero.mirror.common.domain.token.TokenFreezeStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenKycStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenPauseStatusEnum;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
 import org.hiero.mirror.common.domain.transaction.AssessedCustomFee;
@@ -95,6 +96,7 @@ import org.hiero.mirror.importer.repository.TokenAirdropRepository;
 import org.hiero.mirror.importer.repository.TokenAllowanceRepository;
 import org.hiero.mirror.importer.repository.TokenHistoryRepository;
 import org.hiero.mirror.importer.repository.TokenRepository;
+import org.hiero.mirror.importer.repository.TokenSupplyHistoryRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
 import org.hiero.mirror.importer.util.Utility;
@@ -152,6 +154,7 @@ class EntityRecordItemListenerTokenTest extends AbstractEntityRecordItemListener
     private final TokenAllowanceRepository tokenAllowanceRepository;
     private final TokenRepository tokenRepository;
     private final TokenHistoryRepository tokenHistoryRepository;
+    private final TokenSupplyHistoryRepository tokenSupplyHistoryRepository;
     private final TokenTransferRepository tokenTransferRepository;
     private final TransactionRepository transactionRepository;
 
@@ -779,6 +782,12 @@ class EntityRecordItemListenerTokenTest extends AbstractEntityRecordItemListener
                 .isEqualTo(expectedTokenAccount);
         // No history row should be created for deleted token dissociate.
         assertThat(tokenHistoryRepository.count()).isZero();
+        var expectedSupplyHistory = TokenSupplyHistory.builder()
+                .consensusTimestamp(dissociateTimeStamp)
+                .tokenId(DOMAIN_TOKEN_ID.getId())
+                .totalSupply(INITIAL_SUPPLY - amount)
+                .build();
+        assertThat(tokenSupplyHistoryRepository.findAll()).contains(expectedSupplyHistory);
     }
 
     @Test
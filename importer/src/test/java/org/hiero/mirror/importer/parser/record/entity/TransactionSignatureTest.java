@@ -22,6 +22,7 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionReceipt;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -40,6 +41,7 @@ import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.parser.contractlog.SyntheticContractLogService;
 import org.hiero.mirror.importer.parser.contractresult.SyntheticContractResultService;
+import org.hiero.mirror.importer.parser.record.RecordParserProfiler;
 import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.parser.record.transactionhandler.TransactionHandler;
 import org.hiero.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
@@ -118,7 +120,8 @@ class TransactionSignatureTest {
                 syntheticContractLogService,
                 syntheticContractResultService,
                 transferEventsGenerator,
-                recordParserProperties);
+                recordParserProperties,
+                new RecordParserProfiler(new SimpleMeterRegistry(), recordParserProperties));
         defaultSignatureMap = getDefaultSignatureMap();
         defaultTransactionSignatures = defaultSignatureMap.getSigPairList().stream()
                 .map(pair -> {
@@ -5,7 +5,6 @@ package org.hiero.mirror.importer.parser.record.entity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hiero.mirror.common.util.DomainUtils.fromTrimmedEvmAddress;
 import static org.hiero.mirror.common.util.DomainUtils.trim;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -67,10 +66,7 @@ class TransferEventsGeneratorTest {
 
         transferEventsGenerator.generate(recordItem, entityTokenId, tokenTransferList.getTransfersList());
 
-        var contractLogCaptor = ArgumentCaptor.forClass(TransferContractLog.class);
-        verify(syntheticContractLogService, atLeast(1)).create(contractLogCaptor.capture());
-
-        var syntheticLogs = contractLogCaptor.getAllValues();
+        var syntheticLogs = captureSyntheticLogs();
         var expectedLogCount = getExpectedLogCount(transferType);
 
         assertThat(syntheticLogs)
@@ -136,9 +132,7 @@ class TransferEventsGeneratorTest {
         transferEventsGenerator.generate(
                 recordItem, entityTokenId, tokenTransfers1.build().getTransfersList());
 
-        var captor1 = ArgumentCaptor.forClass(TransferContractLog.class);
-        verify(syntheticContractLogService, atLeast(1)).create(captor1.capture());
-        var syntheticLogs1 = captor1.getAllValues();
+        var syntheticLogs1 = captureSyntheticLogs();
 
         reset(syntheticContractLogService);
 
@@ -156,9 +150,7 @@ class TransferEventsGeneratorTest {
         transferEventsGenerator.generate(
                 recordItem, entityTokenId, tokenTransfers2.build().getTransfersList());
 
-        var captor2 = ArgumentCaptor.forClass(TransferContractLog.class);
-        verify(syntheticContractLogService, atLeast(1)).create(captor2.capture());
-        var syntheticLogs2 = captor2.getAllValues();
+        var syntheticLogs2 = captureSyntheticLogs();
 
         assertThat(syntheticLogs1).hasSameSizeAs(syntheticLogs2);
     }
@@ -189,9 +181,7 @@ class TransferEventsGeneratorTest {
         transferEventsGenerator.generate(
                 recordItem, entityTokenId, tokenTransfers1.build().getTransfersList());
 
-        var captor1 = ArgumentCaptor.forClass(TransferContractLog.class);
-        verify(syntheticContractLogService, atLeast(1)).create(captor1.capture());
-        var syntheticLogs1 = captor1.getAllValues();
+        var syntheticLogs1 = captureSyntheticLogs();
 
         reset(syntheticContractLogService);
 
@@ -214,13 +204,18 @@ class TransferEventsGeneratorTest {
         transferEventsGenerator.generate(
                 recordItem, entityTokenId, tokenTransfers2.build().getTransfersList());
 
-        var captor2 = ArgumentCaptor.forClass(TransferContractLog.class);
-        verify(syntheticContractLogService, atLeast(1)).create(captor2.capture());
-        var syntheticLogs2 = captor2.getAllValues();
+        var syntheticLogs2 = captureSyntheticLogs();
 
         assertThat(syntheticLogs1).hasSameSizeAs(syntheticLogs2);
     }
 
+    @SuppressWarnings("unchecked")
+    private List<TransferContractLog> captureSyntheticLogs() {
+        ArgumentCaptor<List<TransferContractLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(syntheticContractLogService).createAll(captor.capture());
+        return captor.getValue();
+    }
+
     /**
      * Returns the expected number of synthetic logs for the given transfer type.
      */
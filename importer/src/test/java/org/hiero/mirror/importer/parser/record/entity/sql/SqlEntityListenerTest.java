@@ -49,6 +49,7 @@ import org.hiero.mirror.common.domain.node.ServiceEndpoint;
 import org.hiero.mirror.common.domain.schedule.Schedule;
 import org.hiero.mirror.common.domain.token.CustomFee;
 import org.hiero.mirror.common.domain.token.Nft;
+import org.hiero.mirror.common.domain.token.NftTransfer;
 import org.hiero.mirror.common.domain.token.Token;
 import org.hiero.mirror.common.domain.token.TokenAccount;
 import org.hiero.mirror.common.domain.token.TokenAirdrop;
@@ -56,6 +57,7 @@ import org.hiero.mirror.common.domain.token.TokenAirdropStateEnum;
 import org.hiero.mirror.common.domain.token.TokenFreezeStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenKycStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenPauseStatusEnum;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.hiero.mirror.common.domain.token.TokenSupplyTypeEnum;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
@@ -71,6 +73,7 @@ import org.hiero.mirror.importer.ImporterIntegrationTest;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.entity.TokenSupplyChange;
 import org.hiero.mirror.importer.repository.AssessedCustomFeeRepository;
 import org.hiero.mirror.importer.repository.ContractActionRepository;
 import org.hiero.mirror.importer.repository.ContractLogRepository;
@@ -105,6 +108,7 @@ import org.hiero.mirror.importer.repository.TokenAccountRepository;
 import org.hiero.mirror.importer.repository.TokenAirdropRepository;
 import org.hiero.mirror.importer.repository.TokenAllowanceRepository;
 import org.hiero.mirror.importer.repository.TokenRepository;
+import org.hiero.mirror.importer.repository.TokenSupplyHistoryRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageRepository;
 import org.hiero.mirror.importer.repository.TopicRepository;
@@ -167,6 +171,7 @@ final class SqlEntityListenerTest extends ImporterIntegrationTest {
     private final TokenAirdropRepository tokenAirdropRepository;
     private final TokenAllowanceRepository tokenAllowanceRepository;
     private final TokenRepository tokenRepository;
+    private final TokenSupplyHistoryRepository tokenSupplyHistoryRepository;
     private final TokenTransferRepository tokenTransferRepository;
     private final TopicRepository topicRepository;
     private final TopicMessageRepository topicMessageRepository;
@@ -2763,6 +2768,122 @@ final class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(TokenAccount.class)).isEmpty();
     }
 
+    @Test
+    void onTokenAccountUpdatesAccountTokenCount() {
+        // given
+        var accountId = domainBuilder.id();
+        var tokenAccount1 = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(accountId).balance(0L))
+                .get();
+        var tokenAccount2 = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(accountId).balance(10L))
+                .get();
+
+        // when
+        sqlEntityListener.onTokenAccount(tokenAccount1);
+        sqlEntityListener.onTokenAccount(tokenAccount2);
+        completeFileAndCommit();
+
+        // then
+        assertThat(findAccountTokenCount(accountId)).containsExactly(2L, 0L, 1L);
+
+        // when
+        var tokenTransfer = domainBuilder
+                .tokenTransfer()
+                .customize(t -> t.amount(5L)
+                        .id(new TokenTransfer.Id(
+                                domainBuilder.timestamp(),
+                                EntityId.of(tokenAccount1.getTokenId()),
+                                EntityId.of(accountId))))
+                .get();
+        var dissociated = TestUtils.clone(tokenAccount2);
+        dissociated.setAssociated(false);
+        dissociated.setBalance(0L);
+        dissociated.setTimestampLower(domainBuilder.timestamp());
+        sqlEntityListener.onTokenTransfer(tokenTransfer);
+        sqlEntityListener.onTokenAccount(dissociated);
+        completeFileAndCommit();
+
+        // then
+        assertThat(findAccountTokenCount(accountId)).containsExactly(1L, 0L, 1L);
+
+        // when the balance is transferred out of the account
+        var debit = domainBuilder
+                .tokenTransfer()
+                .customize(t -> t.amount(-5L)
+                        .id(new TokenTransfer.Id(
+                                domainBuilder.timestamp(),
+                                EntityId.of(tokenAccount1.getTokenId()),
+                                EntityId.of(accountId))))
+                .get();
+        sqlEntityListener.onTokenTransfer(debit);
+        completeFileAndCommit();
+
+        // then
+        assertThat(findAccountTokenCount(accountId)).containsExactly(1L, 0L, 0L);
+    }
+
+    @Test
+    void onNftTransferUpdatesAccountTokenCount() {
+        // given
+        var treasury = EntityId.of(domainBuilder.id());
+        var receiver = EntityId.of(domainBuilder.id());
+        var token = domainBuilder.entity().customize(e -> e.type(EntityType.TOKEN)).persist();
+        var tokenId = token.toEntityId();
+        var mint = domainBuilder
+                .transaction()
+                .customize(t -> t.nftTransfer(List.of(
+                        nftTransfer(tokenId, 1L, EntityId.EMPTY, treasury),
+                        nftTransfer(tokenId, 2L, EntityId.EMPTY, treasury),
+                        nftTransfer(tokenId, 3L, EntityId.EMPTY, treasury))))
+                .get();
+        var transfer = domainBuilder
+                .transaction()
+                .customize(t -> t.nftTransfer(List.of(nftTransfer(tokenId, 1L, treasury, receiver))))
+                .get();
+        var burn = domainBuilder
+                .transaction()
+                .customize(t -> t.nftTransfer(List.of(nftTransfer(tokenId, 2L, treasury, EntityId.EMPTY))))
+                .get();
+
+        // when
+        sqlEntityListener.onTransaction(mint);
+        sqlEntityListener.onTransaction(transfer);
+        sqlEntityListener.onTransaction(burn);
+        completeFileAndCommit();
+
+        // then
+        assertThat(findAccountTokenCount(treasury.getId())).element(1).isEqualTo(1L);
+        assertThat(findAccountTokenCount(receiver.getId())).element(1).isEqualTo(1L);
+
+        // when other entities are deleted, the nfts still count towards their owners
+        persistNft(tokenId, 1L, receiver);
+        persistNft(tokenId, 3L, treasury);
+        var account = domainBuilder.entity().persist();
+        sqlEntityListener.onEntity(account.toBuilder()
+                .deleted(true)
+                .timestampRange(Range.atLeast(domainBuilder.timestamp()))
+                .build());
+        completeFileAndCommit();
+
+        // then
+        assertThat(findAccountTokenCount(treasury.getId())).element(1).isEqualTo(1L);
+        assertThat(findAccountTokenCount(receiver.getId())).element(1).isEqualTo(1L);
+
+        // when the token is deleted
+        sqlEntityListener.onEntity(token.toBuilder()
+                .deleted(true)
+                .timestampRange(Range.atLeast(domainBuilder.timestamp()))
+                .build());
+        completeFileAndCommit();
+
+        // then
+        assertThat(findAccountTokenCount(treasury.getId())).element(1).isEqualTo(0L);
+        assertThat(findAccountTokenCount(receiver.getId())).element(1).isEqualTo(0L);
+    }
+
     @Test
     void onTokenAccountClaimNoExisting() {
         var tokenAccount =
@@ -3289,6 +3410,45 @@ final class SqlEntityListenerTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrder(tokenAirdropUpdateState, nftAirdropUpdateState);
     }
 
+    @Test
+    void onTokenSupplyHistory() {
+        // given
+        var tokenSupplyHistory1 = domainBuilder.tokenSupplyHistory().get();
+        var tokenSupplyHistory2 = domainBuilder
+                .tokenSupplyHistory()
+                .customize(t -> t.tokenId(tokenSupplyHistory1.getTokenId()))
+                .get();
+
+        // when
+        sqlEntityListener.onTokenSupplyHistory(tokenSupplyHistory1);
+        sqlEntityListener.onTokenSupplyHistory(tokenSupplyHistory2);
+        completeFileAndCommit();
+
+        // then
+        assertThat(tokenSupplyHistoryRepository.findAll())
+                .containsExactlyInAnyOrder(tokenSupplyHistory1, tokenSupplyHistory2);
+    }
+
+    @Test
+    void onTokenSupplyChangeDissociatedDeletedToken() {
+        // given
+        var token = domainBuilder.token().customize(t -> t.totalSupply(100L)).persist();
+        long tokenId = token.getTokenId();
+        long timestamp1 = domainBuilder.timestamp();
+        long timestamp2 = domainBuilder.timestamp();
+
+        // when the balances of two accounts are burned by dissociating them from the deleted token
+        onDissociatedDeletedToken(tokenId, timestamp1, -10L);
+        onDissociatedDeletedToken(tokenId, timestamp2, -20L);
+        completeFileAndCommit();
+
+        // then
+        assertThat(tokenRepository.findById(tokenId)).get().returns(70L, Token::getTotalSupply);
+        assertThat(tokenSupplyHistoryRepository.findAll())
+                .containsExactlyInAnyOrder(
+                        tokenSupplyHistory(tokenId, timestamp1, 90L), tokenSupplyHistory(tokenId, timestamp2, 70L));
+    }
+
     @Test
     void onTokenAllowance() {
         // given
@@ -3822,6 +3982,47 @@ final class SqlEntityListenerTest extends ImporterIntegrationTest {
         parserContext.clear();
     }
 
+    private NftTransfer nftTransfer(EntityId tokenId, long serialNumber, EntityId sender, EntityId receiver) {
+        return domainBuilder
+                .nftTransfer()
+                .customize(t -> t.receiverAccountId(receiver)
+                        .senderAccountId(sender)
+                        .serialNumber(serialNumber)
+                        .tokenId(tokenId))
+                .get();
+    }
+
+    private void onDissociatedDeletedToken(long tokenId, long timestamp, long amount) {
+        var token = new Token();
+        token.setTokenId(tokenId);
+        token.setTotalSupply(amount);
+        sqlEntityListener.onToken(token);
+        sqlEntityListener.onTokenSupplyChange(new TokenSupplyChange(timestamp, tokenId, amount));
+    }
+
+    private TokenSupplyHistory tokenSupplyHistory(long tokenId, long timestamp, long totalSupply) {
+        return TokenSupplyHistory.builder()
+                .consensusTimestamp(timestamp)
+                .tokenId(tokenId)
+                .totalSupply(totalSupply)
+                .build();
+    }
+
+    private void persistNft(EntityId tokenId, long serialNumber, EntityId accountId) {
+        domainBuilder
+                .nft()
+                .customize(n -> n.accountId(accountId).serialNumber(serialNumber).tokenId(tokenId.getId()))
+                .persist();
+    }
+
+    private List<Long> findAccountTokenCount(long accountId) {
+        return jdbcOperations.queryForObject(
+                "select associated_count, nft_count, positive_balance_count from account_token_count "
+                        + "where account_id = ?",
+                (rs, rowNum) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
+                accountId);
+    }
+
     private ContractState getContractState(ContractStateChange contractStateChange, long createdTimestamp) {
         var value = contractStateChange.getValueWritten() == null
                 ? contractStateChange.getValueRead()
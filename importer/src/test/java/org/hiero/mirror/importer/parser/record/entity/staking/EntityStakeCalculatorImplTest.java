@@ -19,6 +19,7 @@ import java.util.concurrent.Semaphore;
 import org.awaitility.Durations;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.repository.EntityStakeRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,11 +37,16 @@ class EntityStakeCalculatorImplTest {
 
     private static final CommonProperties COMMON_PROPERTIES = CommonProperties.getInstance();
 
+    @Mock
+    private BootstrapPartitionService bootstrapPartitionService;
+
     private EntityProperties entityProperties;
 
     @Mock(strictness = LENIENT)
     private EntityStakeRepository entityStakeRepository;
 
+    private StakingProperties stakingProperties;
+
     private SystemEntity systemEntity;
 
     private EntityStakeCalculatorImpl entityStakeCalculator;
@@ -51,8 +57,14 @@ class EntityStakeCalculatorImplTest {
     void setup() {
         systemEntity = new SystemEntity(COMMON_PROPERTIES);
         entityProperties = new EntityProperties(systemEntity);
+        stakingProperties = new StakingProperties();
         entityStakeCalculator = new EntityStakeCalculatorImpl(
-                entityProperties, entityStakeRepository, TransactionOperations.withoutTransaction(), systemEntity);
+                entityProperties,
+                entityStakeRepository,
+                stakingProperties,
+                TransactionOperations.withoutTransaction(),
+                systemEntity,
+                Optional.of(bootstrapPartitionService));
 
         stakingRewardAccountId = systemEntity.stakingRewardAccount().getId();
         when(entityStakeRepository.updated(anyLong())).thenReturn(false, true);
@@ -111,6 +123,20 @@ class EntityStakeCalculatorImplTest {
         inorder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void calculateIncremental() {
+        stakingProperties.setIncremental(true);
+        var inorder = inOrder(entityStakeRepository);
+        entityStakeCalculator.calculate();
+        inorder.verify(entityStakeRepository).updated(stakingRewardAccountId);
+        inorder.verify(entityStakeRepository).getEndStakePeriod(stakingRewardAccountId);
+        inorder.verify(entityStakeRepository).createEntityStateStart(stakingRewardAccountId);
+        inorder.verify(entityStakeRepository).updateEntityStakeInChunks(stakingRewardAccountId);
+        inorder.verify(entityStakeRepository).getEndStakePeriod(stakingRewardAccountId);
+        inorder.verify(entityStakeRepository).updated(stakingRewardAccountId);
+        inorder.verifyNoMoreInteractions();
+    }
+
     @Test
     void calculateWhenPendingRewardDisabled() {
         entityProperties.getPersist().setPendingReward(false);
@@ -118,6 +144,13 @@ class EntityStakeCalculatorImplTest {
         verifyNoInteractions(entityStakeRepository);
     }
 
+    @Test
+    void calculateWhenBootstrapPending() {
+        when(bootstrapPartitionService.isPending()).thenReturn(true);
+        entityStakeCalculator.calculate();
+        verifyNoInteractions(entityStakeRepository);
+    }
+
     @Test
     void calculateWhenUpdated() {
         when(entityStakeRepository.updated(stakingRewardAccountId)).thenReturn(true);
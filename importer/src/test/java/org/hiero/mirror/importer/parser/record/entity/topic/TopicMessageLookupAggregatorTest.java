@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.common.domain.topic.TopicMessageLookup;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.junit.jupiter.api.Test;
+
+final class TopicMessageLookupAggregatorTest {
+
+    private static final TimePartition PARTITION1 = partition("topic_message_p1", 0L, 100L);
+    private static final TimePartition PARTITION2 = partition("topic_message_p2", 100L, 200L);
+
+    private final TopicMessageLookupAggregator aggregator = new TopicMessageLookupAggregator();
+
+    @Test
+    void addWithoutPartition() {
+        // when, then
+        assertThat(aggregator.add(topicMessage(1L, 1L, 10L))).isFalse();
+        assertThat(getLookups()).isEmpty();
+    }
+
+    @Test
+    void addOutsidePartitions() {
+        // given
+        aggregator.addPartitions(List.of(PARTITION1));
+
+        // when, then
+        assertThat(aggregator.add(topicMessage(1L, 1L, 100L))).isFalse();
+        assertThat(getLookups()).isEmpty();
+    }
+
+    @Test
+    void aggregate() {
+        // given
+        aggregator.addPartitions(List.of(PARTITION1, PARTITION2));
+
+        // when
+        assertThat(aggregator.add(topicMessage(1L, 1L, 10L))).isTrue();
+        assertThat(aggregator.add(topicMessage(1L, 3L, 50L))).isTrue();
+        assertThat(aggregator.add(topicMessage(1L, 2L, 30L))).isTrue();
+        assertThat(aggregator.add(topicMessage(2L, 5L, 60L))).isTrue();
+        assertThat(aggregator.add(topicMessage(1L, 4L, 150L))).isTrue();
+        assertThat(aggregator.add(topicMessage(2L, 6L, 99L))).isTrue();
+
+        // then
+        assertThat(getLookups())
+                .containsExactlyInAnyOrder(
+                        lookup(PARTITION1, 1L, Range.closedOpen(1L, 4L), Range.closedOpen(10L, 51L)),
+                        lookup(PARTITION1, 2L, Range.closedOpen(5L, 7L), Range.closedOpen(60L, 100L)),
+                        lookup(PARTITION2, 1L, Range.closedOpen(4L, 5L), Range.closedOpen(150L, 151L)));
+    }
+
+    @Test
+    void addPartitionsIgnoresDuplicates() {
+        // given
+        aggregator.addPartitions(List.of(PARTITION1));
+        aggregator.add(topicMessage(1L, 1L, 10L));
+
+        // when
+        aggregator.addPartitions(List.of(PARTITION1, PARTITION2));
+        aggregator.add(topicMessage(1L, 2L, 20L));
+
+        // then
+        assertThat(getLookups())
+                .containsExactly(lookup(PARTITION1, 1L, Range.closedOpen(1L, 3L), Range.closedOpen(10L, 21L)));
+    }
+
+    @Test
+    void aggregateManyTopics() {
+        // given
+        aggregator.addPartitions(List.of(PARTITION1));
+        int count = 200;
+
+        // when
+        for (int i = 0; i < count; i++) {
+            aggregator.add(topicMessage(i + 1L, 1L, i % 100L));
+            aggregator.add(topicMessage(i + 1L, 2L, i % 100L));
+        }
+
+        // then
+        var lookups = getLookups();
+        assertThat(lookups).hasSize(count);
+        assertThat(lookups)
+                .extracting(TopicMessageLookup::getSequenceNumberRange)
+                .containsOnly(Range.closedOpen(1L, 3L));
+        assertThat(lookups)
+                .filteredOn(l -> l.getTopicId() == 150L)
+                .containsExactly(lookup(PARTITION1, 150L, Range.closedOpen(1L, 3L), Range.closedOpen(49L, 50L)));
+    }
+
+    private List<TopicMessageLookup> getLookups() {
+        var lookups = new ArrayList<TopicMessageLookup>();
+        aggregator.forEach(lookups::add);
+        return lookups;
+    }
+
+    private static TopicMessageLookup lookup(
+            TimePartition partition, long topicId, Range<Long> sequenceNumberRange, Range<Long> timestampRange) {
+        return TopicMessageLookup.builder()
+                .partition(partition.getName())
+                .sequenceNumberRange(sequenceNumberRange)
+                .timestampRange(timestampRange)
+                .topicId(topicId)
+                .build();
+    }
+
+    private static TimePartition partition(String name, long from, long to) {
+        return TimePartition.builder()
+                .name(name)
+                .timestampRange(Range.closedOpen(from, to))
+                .build();
+    }
+
+    private static TopicMessage topicMessage(long topicId, long sequenceNumber, long consensusTimestamp) {
+        return TopicMessage.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .sequenceNumber(sequenceNumber)
+                .topicId(EntityId.of(topicId))
+                .build();
+    }
+}
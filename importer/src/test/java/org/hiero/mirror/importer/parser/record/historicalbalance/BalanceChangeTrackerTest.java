@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.hiero.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceChangeTrackerTest {
+
+    private HistoricalBalanceProperties properties;
+    private BalanceChangeTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        properties = new HistoricalBalanceProperties(mock(BalanceDownloaderProperties.class));
+        tracker = new BalanceChangeTracker(properties);
+    }
+
+    @Test
+    void getChanges() {
+        // given
+        tracker.onAccount(1L, 100L);
+        tracker.onAccount(2L, 150L);
+        tracker.onAccount(1L, 120L);
+        tracker.onTokenAccount(1L, 10L, 110L);
+        tracker.onTokenAccount(2L, 10L, 130L);
+        tracker.onTokenAccount(2L, 11L, 160L);
+
+        // when
+        var changes = tracker.getChanges(100L);
+
+        // then
+        assertThat(changes).hasValueSatisfying(c -> {
+            assertThat(c.accountIds()).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(c.tokenAccountIds()).hasSize(3);
+            assertThat(c.tokenIds()).containsExactlyInAnyOrder(10L, 10L, 11L);
+        });
+        assertThat(tracker.getChanges(99L)).isEmpty();
+    }
+
+    @Test
+    void onSnapshot() {
+        // given
+        tracker.onAccount(1L, 100L);
+        tracker.onAccount(2L, 150L);
+        tracker.onTokenAccount(1L, 10L, 110L);
+        tracker.onTokenAccount(2L, 11L, 160L);
+
+        // when
+        tracker.onSnapshot(140L);
+
+        // then
+        assertThat(tracker.getChanges(140L)).hasValueSatisfying(c -> {
+            assertThat(c.accountIds()).containsExactly(2L);
+            assertThat(c.tokenAccountIds()).containsExactly(2L);
+            assertThat(c.tokenIds()).containsExactly(11L);
+        });
+    }
+
+    @Test
+    void disabled() {
+        properties.setIncremental(false);
+        tracker.onAccount(1L, 100L);
+        assertThat(tracker.getChanges(200L)).isEmpty();
+    }
+
+    @Test
+    void resetWhenFull() {
+        // given
+        properties.setMaxTrackedBalanceChanges(1000);
+        for (long i = 1; i <= 1000; i++) {
+            tracker.onAccount(i, i);
+        }
+
+        // when
+        tracker.onAccount(2000L, 2000L);
+
+        // then
+        assertThat(tracker.getChanges(1000L)).isEmpty();
+        assertThat(tracker.getChanges(2000L))
+                .hasValueSatisfying(c -> assertThat(c.accountIds()).containsExactly(2000L));
+    }
+}
@@ -41,7 +41,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.flyway.autoconfigure.FlywayProperties;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
@@ -58,6 +58,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
     private final HistoricalBalanceProperties properties;
@@ -142,20 +143,27 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         tokenAccounts = List.of(tokenAccount, dissociatedTokenAccount);
 
         // Reset the bean state
+        balanceChangeTracker.reset();
         historicalBalanceService.getTreasuryExists().set(false);
     }
 
     @AfterEach
     void resetProperties() {
+        properties.setIncremental(true);
         properties.setTokenBalances(true);
     }
 
     @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void generate(boolean tokenBalances) {
+    @CsvSource({"true, true", "true, false", "false, true", "false, false"})
+    void generate(boolean tokenBalances, boolean incremental) {
         // given
         setup();
+        properties.setIncremental(incremental);
         properties.setTokenBalances(tokenBalances);
+        // balance changes observed during ingestion before the first snapshot
+        entities.forEach(e -> balanceChangeTracker.onAccount(e.getId(), e.getBalanceTimestamp()));
+        tokenAccounts.forEach(ta -> balanceChangeTracker.onTokenAccount(
+                ta.getAccountId(), ta.getTokenId(), ta.getBalanceTimestamp()));
         var existinigAccountBalanceFile = domainBuilder
                 .accountBalanceFile()
                 .customize(abf -> abf.consensusTimestamp(prevPartitionBalanceTimestamp))
@@ -202,6 +210,9 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
                 .persist();
         updatedEntities = List.of(treasuryAccount, account, newAccount);
         var updatedTokenAccounts = List.of(tokenAccount, newTokenAccount);
+        updatedEntities.forEach(e -> balanceChangeTracker.onAccount(e.getId(), e.getBalanceTimestamp()));
+        updatedTokenAccounts.forEach(ta -> balanceChangeTracker.onTokenAccount(
+                ta.getAccountId(), ta.getTokenId(), ta.getBalanceTimestamp()));
 
         // process a record file which doesn't reach the next balances snapshot interval
         var existingAccountBalanceFiles = Lists.newArrayList(accountBalanceFileRepository.findAll());
@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Range;
@@ -24,6 +25,7 @@ import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.db.BootstrapPartitionService;
 import org.hiero.mirror.importer.db.TimePartition;
 import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.downloader.balance.BalanceDownloaderProperties;
@@ -46,6 +48,7 @@ class HistoricalBalanceServiceTest {
 
     private AccountBalanceFileRepository accountBalanceFileRepository;
     private AccountBalanceRepository accountBalanceRepository;
+    private BootstrapPartitionService bootstrapPartitionService;
     private RecordFileRepository recordFileRepository;
     private TimePartitionService timePartitionService;
     private EntityRepository entityRepository;
@@ -63,6 +66,7 @@ class HistoricalBalanceServiceTest {
 
         accountBalanceFileRepository = mock(AccountBalanceFileRepository.class);
         accountBalanceRepository = mock(AccountBalanceRepository.class);
+        bootstrapPartitionService = mock(BootstrapPartitionService.class);
         recordFileRepository = mock(RecordFileRepository.class);
         timePartitionService = mock(TimePartitionService.class);
         entityRepository = mock(EntityRepository.class);
@@ -73,6 +77,7 @@ class HistoricalBalanceServiceTest {
         service = new HistoricalBalanceService(
                 accountBalanceFileRepository,
                 accountBalanceRepository,
+                new BalanceChangeTracker(properties),
                 new SimpleMeterRegistry(),
                 platformTransactionManager,
                 properties,
@@ -80,7 +85,8 @@ class HistoricalBalanceServiceTest {
                 systemEntity,
                 timePartitionService,
                 tokenBalanceRepository,
-                entityRepository);
+                entityRepository,
+                Optional.of(bootstrapPartitionService));
     }
 
     @Test
@@ -133,6 +139,24 @@ class HistoricalBalanceServiceTest {
         }
     }
 
+    @Test
+    void skipWhenBootstrapPending() {
+        // given
+        long lastBalanceTimestamp = 100L;
+        when(accountBalanceFileRepository.findLatest())
+                .thenReturn(Optional.of(AccountBalanceFile.builder()
+                        .consensusTimestamp(lastBalanceTimestamp)
+                        .build()));
+        when(bootstrapPartitionService.isPending()).thenReturn(true);
+
+        // when
+        service.onRecordFileParsed(
+                new RecordFileParsedEvent(this, lastBalanceTimestamp + properties.getMinFrequency().toNanos()));
+
+        // then
+        verifyNoInteractions(accountBalanceRepository, entityRepository, recordFileRepository);
+    }
+
     @Test
     void shouldCreateTreasuryAccountIfMissing() {
         var recordFile = RecordFile.builder().consensusEnd(100L).build();
@@ -19,6 +19,7 @@ import org.hiero.mirror.common.domain.token.AbstractNft;
 import org.hiero.mirror.common.domain.token.AbstractToken;
 import org.hiero.mirror.common.domain.token.Nft;
 import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenSupplyHistory;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -47,17 +48,25 @@ class TokenMintTransactionHandlerTest extends AbstractTransactionHandlerTest {
         var recordItem = recordItemBuilder.tokenMint(FUNGIBLE_COMMON).build();
         var transaction = domainBuilder.transaction().get();
         var token = ArgumentCaptor.forClass(Token.class);
+        var tokenSupplyHistory = ArgumentCaptor.forClass(TokenSupplyHistory.class);
 
         // When
         transactionHandler.updateTransaction(transaction, recordItem);
 
         // Then
         verify(entityListener).onToken(token.capture());
+        verify(entityListener).onTokenSupplyHistory(tokenSupplyHistory.capture());
         verifyNoMoreInteractions(entityListener);
 
         assertThat(token.getValue())
                 .returns(recordItem.getTransactionRecord().getReceipt().getNewTotalSupply(), Token::getTotalSupply)
                 .returns(transaction.getEntityId().getId(), AbstractToken::getTokenId);
+        assertThat(tokenSupplyHistory.getValue())
+                .returns(recordItem.getConsensusTimestamp(), TokenSupplyHistory::getConsensusTimestamp)
+                .returns(transaction.getEntityId().getId(), TokenSupplyHistory::getTokenId)
+                .returns(
+                        recordItem.getTransactionRecord().getReceipt().getNewTotalSupply(),
+                        TokenSupplyHistory::getTotalSupply);
         assertThat(recordItem.getEntityTransactions())
                 .containsExactlyInAnyOrderEntriesOf(getExpectedEntityTransactions(recordItem, transaction));
     }
@@ -5,6 +5,7 @@ package org.hiero.mirror.importer.parser.record.transactionhandler;
 import static com.hederahashgraph.api.proto.java.TokenType.FUNGIBLE_COMMON;
 import static com.hederahashgraph.api.proto.java.TokenType.NON_FUNGIBLE_UNIQUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -141,6 +142,7 @@ class TokenWipeTransactionHandlerTest extends AbstractTransactionHandlerTest {
         // Then
         verify(entityIdService).lookup(accountId);
         verify(entityListener).onToken(token.capture());
+        verify(entityListener).onTokenSupplyHistory(any());
         verifyNoMoreInteractions(entityListener);
 
         assertThat(token.getValue())
@@ -87,6 +87,23 @@ abstract class CsvBalanceFileReaderTest {
         verifySuccess(balanceFile, accountBalanceFile, 2);
     }
 
+    @Test
+    void readValidItemsRepeatedly() throws Exception {
+        // given
+        StreamFileData streamFileData = StreamFileData.from(balanceFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+
+        // when
+        var expected = new ArrayList<AccountBalance>();
+        accountBalanceFile.getItems().forEach(expected::add);
+
+        // then
+        assertThat(expected).hasSize((int) expectedCount);
+        assertThat(accountBalanceFile.getItems()).hasSize((int) expectedCount).containsExactlyElementsOf(expected);
+        assertThat(accountBalanceFile.getItems().get(1)).isEqualTo(expected.get(1));
+        verifySuccess(balanceFile, accountBalanceFile, 2);
+    }
+
     @Test
     void readInvalidWhenFileHasNoTimestampHeader() throws IOException {
         List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
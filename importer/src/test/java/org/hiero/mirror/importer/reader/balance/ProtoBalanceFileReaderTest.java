@@ -12,6 +12,7 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import java.io.File;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.hiero.mirror.common.domain.balance.AccountBalance;
@@ -56,6 +57,20 @@ class ProtoBalanceFileReaderTest {
         assertThat(actual.getLoadStart()).isNotNull().isPositive();
     }
 
+    @Test
+    void readItemsRepeatedly() {
+        // given
+        var actual = protoBalanceFileReader.read(streamFileData);
+
+        // when
+        var items = new ArrayList<AccountBalance>();
+        actual.getItems().forEach(items::add);
+
+        // then
+        assertThat(items).containsExactlyElementsOf(expected.getItems());
+        assertThat(actual.getItems()).hasSize(10).containsExactlyElementsOf(expected.getItems());
+    }
+
     @Test
     void emptyProtobuf() {
         AllAccountBalances allAccountBalances = AllAccountBalances.newBuilder().build();
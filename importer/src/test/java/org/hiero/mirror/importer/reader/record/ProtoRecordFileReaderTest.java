@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.reader.record;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.hiero.mirror.importer.TestUtils.gzip;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,14 +24,18 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import java.time.Instant;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.Strings;
 import org.hiero.mirror.common.domain.DigestAlgorithm;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
 
 final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
 
@@ -48,6 +53,48 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
         return version == 6;
     }
 
+    @TestFactory
+    Stream<DynamicTest> readValidFileInParallel() {
+        var parallelReader = new ProtoRecordFileReader(4);
+        return DynamicTest.stream(
+                getFilteredFiles(false),
+                recordFile -> "read valid file %s in parallel".formatted(recordFile.getName()),
+                recordFile -> {
+                    // given
+                    var streamFileData = StreamFileData.from(getTestFile(recordFile).toFile());
+                    var expected = recordFileReader.read(streamFileData);
+
+                    // when
+                    var actual = parallelReader.read(streamFileData);
+
+                    // then
+                    assertThat(actual)
+                            .usingRecursiveComparison()
+                            .ignoringFields("items", "loadStart")
+                            .isEqualTo(expected);
+                    assertThat(actual.getItems())
+                            .extracting(
+                                    RecordItem::getTransactionRecord,
+                                    RecordItem::getTransaction,
+                                    RecordItem::getTransactionIndex,
+                                    RecordItem::isSuccessful)
+                            .containsExactlyElementsOf(expected.getItems().stream()
+                                    .map(i -> tuple(
+                                            i.getTransactionRecord(),
+                                            i.getTransaction(),
+                                            i.getTransactionIndex(),
+                                            i.isSuccessful()))
+                                    .toList());
+                    assertThat(actual.getItems())
+                            .extracting(
+                                    i -> getTransactionIndex(i.getParent()), i -> getTransactionIndex(i.getPrevious()))
+                            .containsExactlyElementsOf(expected.getItems().stream()
+                                    .map(i -> tuple(
+                                            getTransactionIndex(i.getParent()), getTransactionIndex(i.getPrevious())))
+                                    .toList());
+                });
+    }
+
     @Test
     void testEmptyRecordStreamItems() {
         var bytes = gzip(ProtoRecordStreamFile.of(RecordStreamFile.Builder::clearRecordStreamItems));
@@ -135,6 +182,10 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
                 .returns(3L, RecordFile::getCount);
     }
 
+    private static Integer getTransactionIndex(RecordItem recordItem) {
+        return recordItem != null ? recordItem.getTransactionIndex() : null;
+    }
+
     private RecordStreamItem buildRecordStreamItemWithTimestamp(long timestamp) {
         return RecordStreamItem.newBuilder()
                 .setTransaction(Transaction.newBuilder()
@@ -60,6 +60,7 @@ final class EntityStakeRepositoryTest extends ImporterIntegrationTest {
     void resetProperties() {
         stakingProperties.setChunkDelay(Duration.ZERO);
         stakingProperties.setChunkSize(Integer.MAX_VALUE);
+        stakingProperties.setIncremental(false);
     }
 
     @BeforeEach
@@ -556,6 +557,89 @@ final class EntityStakeRepositoryTest extends ImporterIntegrationTest {
         assertEntityStartStart(List.of(expectedAccount, expectedStakingRewardAccount));
     }
 
+    @Test
+    void createEntityStateStartIncremental() {
+        // given
+        final long epochDay = 1000L;
+        final long nodeStakeTimestamp =
+                DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay + 1)) + 1000L;
+        domainBuilder
+                .nodeStake()
+                .customize(ns -> ns.consensusTimestamp(nodeStakeTimestamp).epochDay(epochDay))
+                .persist();
+        final var stakingRewardAccount = domainBuilder
+                .entity(stakingRewardAccountId, nodeStakeTimestamp - 10)
+                .persist();
+        final var account1 = domainBuilder
+                .entity(100L, nodeStakeTimestamp - 5)
+                .customize(e -> e.stakedNodeId(1L))
+                .persist();
+        final var account2 = domainBuilder
+                .entity(101L, nodeStakeTimestamp - 5)
+                .customize(e -> e.stakedNodeId(1L))
+                .persist();
+        final long balanceTimestamp = nodeStakeTimestamp - 100;
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new Id(balanceTimestamp, systemEntity.treasuryAccount())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(500L).id(new Id(balanceTimestamp, account1.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(300L).id(new Id(balanceTimestamp, account2.toEntityId())))
+                .persist();
+        entityStakeRepository.createEntityStateStart(stakingRewardAccountId);
+
+        // the next staking period, in which account1's balance changed and account3 is created
+        stakingProperties.setIncremental(true);
+        final long nextNodeStakeTimestamp = nodeStakeTimestamp + Duration.ofDays(1).toNanos();
+        domainBuilder
+                .nodeStake()
+                .customize(ns -> ns.consensusTimestamp(nextNodeStakeTimestamp).epochDay(epochDay + 1))
+                .persist();
+        domainBuilder
+                .entityStake()
+                .customize(es -> es.endStakePeriod(epochDay).id(stakingRewardAccountId))
+                .persist();
+        persistCryptoTransfer(100L, nodeStakeTimestamp + 10, account1.getId());
+        final var account3 = domainBuilder
+                .entity(102L, nodeStakeTimestamp + 20)
+                .customize(e -> e.stakedNodeId(1L))
+                .persist();
+        // account2 didn't change, so its row is kept as is
+        jdbcOperations.update("update entity_state_start set balance = 1 where id = ?", account2.getId());
+
+        final var expectedStakingRewardAccount =
+                stakingRewardAccount.toBuilder().balance(0L).stakedAccountId(0L).build();
+        final var expectedAccount1 =
+                account1.toBuilder().balance(600L).stakedAccountId(0L).build();
+        final var expectedAccount2 =
+                account2.toBuilder().balance(1L).stakedAccountId(0L).build();
+        final var expectedAccount3 =
+                account3.toBuilder().balance(0L).stakedAccountId(0L).build();
+
+        // when
+        entityStakeRepository.createEntityStateStart(stakingRewardAccountId);
+
+        // then
+        assertEntityStartStart(
+                List.of(expectedAccount1, expectedAccount2, expectedAccount3, expectedStakingRewardAccount));
+
+        // when incremental is disabled, all rows are recalculated
+        stakingProperties.setIncremental(false);
+        entityStakeRepository.createEntityStateStart(stakingRewardAccountId);
+
+        // then
+        assertEntityStartStart(List.of(
+                expectedAccount1,
+                account2.toBuilder().balance(300L).stakedAccountId(0L).build(),
+                expectedAccount3,
+                expectedStakingRewardAccount));
+    }
+
     @ParameterizedTest
     @CsvSource(textBlock = """
             0, 100
@@ -826,6 +910,139 @@ final class EntityStakeRepositoryTest extends ImporterIntegrationTest {
         assertThat(findHistory(EntityStake.class)).containsExactly(entityStake1History);
     }
 
+    @Test
+    void updateEntityStakeInChunks() {
+        // given
+        var entity1 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(null).stakedNodeId(1L))
+                .persist();
+        var entity2 = domainBuilder
+                .entity()
+                .customize(e -> e.declineReward(true).stakedAccountId(entity1.getId()))
+                .persist();
+        var entity3 = domainBuilder
+                .entity()
+                .customize(e ->
+                        e.stakedAccountId(entity1.getId()).stakedNodeId(null).type(CONTRACT))
+                .persist();
+        var entity4 = domainBuilder
+                .entity()
+                .customize(e -> e.deleted(true).stakedAccountId(entity1.getId()))
+                .persist();
+        var entity5 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(entity3.getId()))
+                .persist();
+        var entity6 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(domainBuilder.id()))
+                .persist();
+        domainBuilder.topicEntity().persist();
+        var entity8 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(entity6.getId()))
+                .persist();
+        long entityId9 = entity8.getId() + 1;
+        long entityId10 = entityId9 + 1;
+        var entity9 = domainBuilder
+                .entity(entityId9, domainBuilder.timestamp())
+                .customize(e -> e.stakedAccountId(entityId10))
+                .persist();
+        var entity10 = domainBuilder
+                .entity(entityId10, domainBuilder.timestamp())
+                .customize(e -> e.stakedAccountId(entityId9))
+                .persist();
+        var stakingRewardAccount = domainBuilder
+                .entity(stakingRewardAccountId, domainBuilder.timestamp())
+                .persist();
+        long timestamp = domainBuilder.timestamp();
+        var nodeStake = domainBuilder
+                .nodeStake()
+                .customize(ns -> ns.consensusTimestamp(timestamp).nodeId(1L).rewardRate(0L))
+                .persist();
+        // account balance
+        long balanceTimestamp = nodeStake.getConsensusTimestamp() - 1000L;
+        long previousBalanceTimestamp = balanceTimestamp - 1000L;
+        domainBuilder
+                .accountBalance()
+                .customize(ab ->
+                        ab.balance(5000L).id(new AccountBalance.Id(balanceTimestamp, systemEntity.treasuryAccount())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(100L).id(new AccountBalance.Id(balanceTimestamp, entity1.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(200L).id(new AccountBalance.Id(balanceTimestamp, entity2.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(300L).id(new AccountBalance.Id(balanceTimestamp, entity3.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(400L).id(new AccountBalance.Id(balanceTimestamp, entity4.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(500L).id(new AccountBalance.Id(balanceTimestamp, entity5.toEntityId())))
+                .persist();
+        // Deduped
+        domainBuilder
+                .accountBalance()
+                .customize(ab ->
+                        ab.balance(600L).id(new AccountBalance.Id(previousBalanceTimestamp, entity6.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.balance(stakingRewardAccountId)
+                        .id(new AccountBalance.Id(previousBalanceTimestamp, entity8.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab ->
+                        ab.balance(900L).id(new AccountBalance.Id(previousBalanceTimestamp, entity9.toEntityId())))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab ->
+                        ab.balance(1000L).id(new AccountBalance.Id(previousBalanceTimestamp, entity10.toEntityId())))
+                .persist();
+
+        // existing entity stake, note entity4 has been deleted, its existing entity stake will no longer update
+        var existingEntityStake1 = domainBuilder
+                .entityStake()
+                .customize(es -> es.id(entity1.getId())
+                        .timestampRange(Range.atLeast(TestUtils.plus(
+                                nodeStake.getConsensusTimestamp(),
+                                Duration.ofDays(1).negated()))))
+                .persist();
+        var existingEntityStake4 = domainBuilder
+                .entityStake()
+                .customize(es -> es.endStakePeriod(nodeStake.getEpochDay() - 1).id(entity4.getId()))
+                .persist();
+        var expectedEntityStakes = List.of(
+                fromEntity(entity1, nodeStake, 500L, 600L),
+                existingEntityStake4,
+                fromEntity(stakingRewardAccount, nodeStake, 0L, 0L));
+        var entityStake1History = existingEntityStake1.toBuilder().build();
+        entityStake1History.setTimestampUpper(nodeStake.getConsensusTimestamp());
+
+        entityStakeRepository.createEntityStateStart(stakingRewardAccountId);
+        stakingProperties.setChunkSize(5);
+
+        // when
+        entityStakeRepository.updateEntityStakeInChunks(stakingRewardAccountId);
+
+        // then
+        assertThat(entityStakeRepository.findAll())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("pendingReward")
+                .containsExactlyInAnyOrderElementsOf(expectedEntityStakes);
+        assertThat(findHistory(EntityStake.class)).containsExactly(entityStake1History);
+    }
+
     @Test
     void updateEntityStakeForNewEntities() {
         // given
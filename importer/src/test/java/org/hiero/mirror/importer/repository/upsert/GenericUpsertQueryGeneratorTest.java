@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.schedule.Schedule;
 import org.hiero.mirror.common.domain.token.CustomFee;
+import org.hiero.mirror.common.domain.token.DissociateTokenTransfer;
 import org.hiero.mirror.common.domain.token.Token;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,20 @@ class GenericUpsertQueryGeneratorTest extends ImporterIntegrationTest {
         assertThat(generator.getFinalTableName()).isEqualTo("entity");
     }
 
+    @Test
+    void getInlineUpsertQuery() {
+        var generator = factory.get(Entity.class);
+        var rows = "unnest(cast(cast(? as text[]) as entity_temp[])) t";
+        var expected = generator.getUpsertQuery().replace("entity_temp t", rows);
+        assertThat(generator.getInlineUpsertQuery()).isEqualTo(expected).doesNotContain("entity_temp t");
+    }
+
+    @Test
+    void getInlineUpsertQueryUnsupported() {
+        var generator = factory.get(DissociateTokenTransfer.class);
+        assertThat(generator.getInlineUpsertQuery()).isNull();
+    }
+
     @Test
     void getTemporaryTableName() {
         UpsertQueryGenerator generator = factory.get(Entity.class);
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+
+    @Test
+    void putAndGet() {
+        var map = new LongLongHashMap();
+        map.put(1L, 10L);
+        map.put(0L, 5L);
+        map.put(-1L, 20L);
+        map.put(1L, 11L);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1L, -1L)).isEqualTo(11L);
+        assertThat(map.get(0L, -1L)).isEqualTo(5L);
+        assertThat(map.get(-1L, -1L)).isEqualTo(20L);
+        assertThat(map.get(2L, -1L)).isEqualTo(-1L);
+        assertThat(map.containsKey(0L)).isTrue();
+        assertThat(map.containsKey(2L)).isFalse();
+        assertThat(map.keys()).containsExactlyInAnyOrder(-1L, 0L, 1L);
+    }
+
+    @Test
+    void putMax() {
+        var map = new LongLongHashMap();
+        map.putMax(1L, 10L);
+        map.putMax(1L, 5L);
+        map.putMax(2L, 5L);
+        map.putMax(2L, 8L);
+
+        assertThat(map.get(1L, 0L)).isEqualTo(10L);
+        assertThat(map.get(2L, 0L)).isEqualTo(8L);
+    }
+
+    @Test
+    void removeIfValue() {
+        var map = new LongLongHashMap();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+
+        map.removeIfValue(v -> v < 500);
+
+        assertThat(map.size()).isEqualTo(500);
+        assertThat(map.containsKey(0L)).isFalse();
+        assertThat(map.containsKey(499L)).isFalse();
+        assertThat(map.get(500L, -1L)).isEqualTo(500L);
+        assertThat(map.get(999L, -1L)).isEqualTo(999L);
+    }
+
+    @Test
+    void randomized() {
+        var expected = new HashMap<Long, Long>();
+        var map = new LongLongHashMap(4);
+        var random = new Random(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(50_000) - 25_000L;
+            long value = random.nextLong();
+            expected.put(key, value);
+            map.put(key, value);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((k, v) -> assertThat(map.get(k, 0L)).isEqualTo(v));
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.keys()).isEmpty();
+    }
+}
@@ -25,6 +25,7 @@ dependencies {
     implementation("jakarta.inject:jakarta.inject-api")
     implementation("org.apache.commons:commons-lang3")
     implementation("org.apache.commons:commons-math3")
+    implementation("org.hdrhistogram:HdrHistogram")
     implementation("org.slf4j:jcl-over-slf4j")
     implementation("org.springframework.boot:spring-boot-actuator-autoconfigure")
     implementation("org.springframework.boot:spring-boot-configuration-processor")
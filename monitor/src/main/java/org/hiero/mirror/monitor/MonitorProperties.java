@@ -41,6 +41,10 @@ public class MonitorProperties {
     @Valid
     private OperatorProperties operator = new OperatorProperties();
 
+    @NotNull
+    @Valid
+    private NodeSelectionProperties nodeSelection = new NodeSelectionProperties();
+
     @NotNull
     @Valid
     private NodeValidationProperties nodeValidation = new NodeValidationProperties();
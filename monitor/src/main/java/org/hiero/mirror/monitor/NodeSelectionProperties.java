@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class NodeSelectionProperties {
+
+    // Whether to pick the better of two random nodes by latency, load and error rate instead of round-robin
+    private boolean adaptive = true;
+
+    // The weight of the newest sample in the moving averages of a node's latency and error rate
+    @Max(1)
+    @Min(0)
+    private double decay = 0.2;
+
+    @DurationMin(millis = 100)
+    @NotNull
+    private Duration ejectionDuration = Duration.ofSeconds(30L);
+
+    @Min(1)
+    private int ejectionErrors = 5;
+}
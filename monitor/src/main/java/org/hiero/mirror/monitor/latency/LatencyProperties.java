@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.latency;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties("hiero.mirror.monitor.latency")
+public class LatencyProperties {
+
+    private boolean enabled = false;
+
+    @DurationMin(seconds = 1L)
+    @NotNull
+    private Duration highestTrackable = Duration.ofMinutes(5L);
+
+    @Nullable
+    private Path reportDirectory;
+
+    @DurationMin(seconds = 1L)
+    @NotNull
+    private Duration reportFrequency = Duration.ofMinutes(1L);
+
+    @Min(1)
+    @Max(5)
+    private int significantDigits = 3;
+}
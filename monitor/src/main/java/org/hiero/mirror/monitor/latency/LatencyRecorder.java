@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.latency;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Records the latency of each stage of a transaction, from publish to being visible in the mirror node APIs, in an
+ * HdrHistogram per scenario and stage. Unlike the Micrometer timers, the histograms retain the full latency
+ * distribution at a fixed precision so the tail percentiles can be trusted. Latencies are recorded in microseconds.
+ * <p>
+ * When publishing in a closed loop, a stall delays the publishing of subsequent transactions, so their latency is never
+ * measured. For the stages where the expected interval between transactions is known, the recorder back-fills the
+ * omitted samples using that interval. Since the back-fill assumes a single serial client, callers publishing
+ * concurrently must pass the interval of each in-flight request rather than of the whole scenario. In an open loop,
+ * latencies are measured from the scheduled publish time and don't need correcting.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class LatencyRecorder {
+
+    public static final String STAGE_HANDLE = "handle";
+    public static final String STAGE_SUBMIT = "submit";
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LatencyProperties latencyProperties;
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void onHandle(String scenario, Instant start, Instant end, Duration expectedInterval) {
+        record(scenario, STAGE_HANDLE, start, end, expectedInterval);
+    }
+
+    public void onReceive(String scenario, String protocol, Instant start, Instant end) {
+        record(scenario, protocol, start, end, Duration.ZERO);
+    }
+
+    public void onSubmit(String scenario, Instant start, Instant end, Duration expectedInterval) {
+        record(scenario, STAGE_SUBMIT, start, end, expectedInterval);
+    }
+
+    /**
+     * Gets the cumulative latency histogram of a scenario stage, including the samples recorded since the last report.
+     *
+     * @param scenario the scenario name
+     * @param stage    the stage name
+     * @return a copy of the histogram or null if nothing was recorded
+     */
+    public Histogram getHistogram(String scenario, String stage) {
+        var histogram = histograms.get(new Key(scenario, stage));
+        if (histogram == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            histogram.collect();
+            return histogram.total.copy();
+        }
+    }
+
+    /**
+     * Logs the latency percentiles of each scenario stage and, if a report directory is configured, writes each
+     * cumulative percentile distribution to a file in the HdrHistogram percentile format.
+     */
+    @Scheduled(fixedDelayString = "${hiero.mirror.monitor.latency.reportFrequency:60000}")
+    public synchronized void report() {
+        if (!latencyProperties.isEnabled()) {
+            return;
+        }
+
+        histograms.forEach((key, histogram) -> {
+            histogram.collect();
+            var total = histogram.total;
+
+            if (total.getTotalCount() > 0) {
+                log.info(
+                        "Scenario {} {} latency in ms: p50={} p90={} p99={} p99.9={} max={} count={}",
+                        key.scenario(),
+                        key.stage(),
+                        toMillis(total.getValueAtPercentile(50.0)),
+                        toMillis(total.getValueAtPercentile(90.0)),
+                        toMillis(total.getValueAtPercentile(99.0)),
+                        toMillis(total.getValueAtPercentile(99.9)),
+                        toMillis(total.getMaxValue()),
+                        total.getTotalCount());
+                export(key, total);
+            }
+        });
+    }
+
+    @PreDestroy
+    void close() {
+        report();
+    }
+
+    private void record(String scenario, String stage, Instant start, Instant end, Duration expectedInterval) {
+        if (!latencyProperties.isEnabled() || start == null || end == null) {
+            return;
+        }
+
+        try {
+            var histogram = histograms.computeIfAbsent(new Key(scenario, stage), k -> new LatencyHistogram());
+            long highest = histogram.total.getHighestTrackableValue();
+            long latency = Math.clamp(Duration.between(start, end).toNanos() / 1000L, 0L, highest);
+            long interval = expectedInterval.toNanos() / 1000L;
+            histogram.recorder.recordValueWithExpectedInterval(latency, interval);
+        } catch (Exception e) {
+            log.warn("Unable to record {} latency for scenario {}: {}", stage, scenario, e.getMessage());
+        }
+    }
+
+    private void export(Key key, Histogram histogram) {
+        var directory = latencyProperties.getReportDirectory();
+        if (directory == null) {
+            return;
+        }
+
+        var file = directory.resolve(key.scenario() + "-" + key.stage() + ".hgrm");
+
+        try {
+            Files.createDirectories(directory);
+
+            try (var printStream = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(printStream, MICROS_PER_MILLI);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write latency report {}: {}", file, e.getMessage());
+        }
+    }
+
+    private double toMillis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private record Key(String scenario, String stage) {}
+
+    private class LatencyHistogram {
+
+        private final Recorder recorder;
+        private final Histogram total;
+        private Histogram interval;
+
+        private LatencyHistogram() {
+            long highest = latencyProperties.getHighestTrackable().toNanos() / 1000L;
+            int significantDigits = latencyProperties.getSignificantDigits();
+            this.recorder = new Recorder(highest, significantDigits);
+            this.total = new Histogram(highest, significantDigits);
+        }
+
+        // Must be called while synchronized since interval histograms can only be taken by one thread at a time
+        private void collect() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.publish;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.monitor.NodeProperties;
+import org.hiero.mirror.monitor.NodeSelectionProperties;
+
+/**
+ * Tracks the moving averages of the submit latency and error rate of a node, the number of its in-flight submissions,
+ * and whether it's currently ejected from selection. An ejected node is re-admitted once a single probe submitted after
+ * its ejection expires succeeds.
+ */
+@RequiredArgsConstructor
+final class NodeStats {
+
+    private static final double MIN_SUCCESS_RATE = 0.01;
+
+    @Getter
+    private final NodeProperties node;
+
+    private final NodeSelectionProperties properties;
+
+    private int consecutiveErrors;
+    private long ejectedUntil;
+
+    @Getter
+    private volatile boolean ejected;
+
+    @Getter
+    private volatile long ejections;
+
+    @Getter
+    private volatile double errorRate;
+
+    @Getter
+    private volatile int inFlight;
+
+    @Getter
+    private volatile double latency;
+
+    private boolean probing;
+
+    /**
+     * The expected cost of sending the next submission to this node. Nodes without any samples yet cost nothing so
+     * they're tried first.
+     */
+    synchronized double getCost() {
+        double successRate = Math.max(1.0 - errorRate, MIN_SUCCESS_RATE);
+        return latency * (inFlight + 1) / successRate;
+    }
+
+    /**
+     * Claims the single probe of an ejected node once its ejection has expired.
+     */
+    synchronized boolean tryProbe(long now) {
+        if (!ejected || probing || now - ejectedUntil < 0) {
+            return false;
+        }
+
+        probing = true;
+        return true;
+    }
+
+    synchronized void onSubmit() {
+        inFlight++;
+    }
+
+    synchronized void onSuccess(Duration elapsed) {
+        double decay = properties.getDecay();
+        long millis = elapsed.toMillis();
+        latency = latency == 0.0 ? millis : decay * millis + (1.0 - decay) * latency;
+        errorRate = (1.0 - decay) * errorRate;
+        consecutiveErrors = 0;
+        inFlight = Math.max(inFlight - 1, 0);
+
+        if (ejected && probing) {
+            ejected = false;
+            probing = false;
+        }
+    }
+
+    synchronized boolean onError(long now) {
+        double decay = properties.getDecay();
+        errorRate = decay + (1.0 - decay) * errorRate;
+        inFlight = Math.max(inFlight - 1, 0);
+
+        if (ejected) {
+            if (probing) {
+                probing = false;
+                ejectedUntil = now + properties.getEjectionDuration().toNanos();
+            }
+            return false;
+        }
+
+        if (++consecutiveErrors >= properties.getEjectionErrors()) {
+            consecutiveErrors = 0;
+            ejected = true;
+            ejectedUntil = now + properties.getEjectionDuration().toNanos();
+            ejections++;
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -12,12 +12,20 @@ import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransferTransaction;
 import com.hedera.hashgraph.sdk.proto.NodeAddressBook;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -41,11 +49,19 @@ import reactor.util.retry.Retry;
 @RequiredArgsConstructor
 public class NodeSupplier {
 
+    static final String METRIC_EJECTED = "hiero.mirror.monitor.node.ejected";
+    static final String METRIC_EJECTIONS = "hiero.mirror.monitor.node.ejections";
+    static final String METRIC_ERROR_RATE = "hiero.mirror.monitor.node.errors";
+    static final String METRIC_IN_FLIGHT = "hiero.mirror.monitor.node.inflight";
+    static final String METRIC_LATENCY = "hiero.mirror.monitor.node.latency";
+
+    private final MeterRegistry meterRegistry;
     private final MonitorProperties monitorProperties;
     private final RestApiClient restApiClient;
 
     private final AtomicLong counter = new AtomicLong(0L);
     private final CopyOnWriteArrayList<NodeProperties> nodes = new CopyOnWriteArrayList<>();
+    private final Map<NodeProperties, NodeStats> stats = new ConcurrentHashMap<>();
 
     @PostConstruct
     public void init() {
@@ -75,13 +91,113 @@ public class NodeSupplier {
                 .subscribe();
     }
 
+    /**
+     * Gets the node to submit the next transaction to. With adaptive selection, two distinct nodes are picked at random
+     * and the one with the lower expected cost is chosen, where the cost grows with its average latency, in-flight
+     * submissions and error rate. Ejected nodes are skipped unless their ejection expired and they're due a probe.
+     */
     public NodeProperties get() {
-        if (nodes.isEmpty()) {
+        var candidates = nodes.toArray(new NodeProperties[0]);
+        if (candidates.length == 0) {
             throw new IllegalArgumentException("No valid nodes available");
         }
 
-        long nodeIndex = counter.getAndIncrement() % nodes.size();
-        return nodes.get((int) nodeIndex);
+        if (candidates.length == 1 || !monitorProperties.getNodeSelection().isAdaptive()) {
+            return next(candidates);
+        }
+
+        var random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(candidates.length);
+        int secondIndex = random.nextInt(candidates.length - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+
+        long now = System.nanoTime();
+        var first = getStats(candidates[firstIndex]);
+        var second = getStats(candidates[secondIndex]);
+
+        if (first.tryProbe(now)) {
+            return first.getNode();
+        } else if (second.tryProbe(now)) {
+            return second.getNode();
+        } else if (!first.isEjected() && !second.isEjected()) {
+            return first.getCost() <= second.getCost() ? first.getNode() : second.getNode();
+        } else if (!first.isEjected()) {
+            return first.getNode();
+        } else if (!second.isEjected()) {
+            return second.getNode();
+        }
+
+        // Both picks are ejected so fall back to the next node that isn't, or to all nodes if every node is ejected
+        int offset = random.nextInt(candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            var candidate = getStats(candidates[(offset + i) % candidates.length]);
+            if (!candidate.isEjected()) {
+                return candidate.getNode();
+            }
+        }
+
+        return next(candidates);
+    }
+
+    public void onSubmit(NodeProperties node) {
+        getStats(node).onSubmit();
+    }
+
+    public void onSuccess(NodeProperties node, Duration elapsed) {
+        getStats(node).onSuccess(elapsed);
+    }
+
+    public void onError(NodeProperties node) {
+        var nodeStats = getStats(node);
+        if (nodeStats.onError(System.nanoTime())) {
+            log.warn(
+                    "Ejecting node {} for {} after {} consecutive errors",
+                    node.getAccountId(),
+                    monitorProperties.getNodeSelection().getEjectionDuration(),
+                    monitorProperties.getNodeSelection().getEjectionErrors());
+        }
+    }
+
+    private NodeProperties next(NodeProperties[] candidates) {
+        long nodeIndex = counter.getAndIncrement() % candidates.length;
+        return candidates[(int) nodeIndex];
+    }
+
+    @VisibleForTesting
+    NodeStats getStats(NodeProperties node) {
+        return stats.computeIfAbsent(node, this::newStats);
+    }
+
+    private NodeStats newStats(NodeProperties node) {
+        var nodeStats = new NodeStats(node, monitorProperties.getNodeSelection());
+        var tags = List.<Tag>of(
+                new ImmutableTag(PublishMetrics.Tags.TAG_HOST, String.valueOf(node.getHost())),
+                new ImmutableTag(PublishMetrics.Tags.TAG_NODE, String.valueOf(node.getNodeId())),
+                new ImmutableTag(PublishMetrics.Tags.TAG_PORT, String.valueOf(node.getPort())));
+
+        Gauge.builder(METRIC_EJECTED, nodeStats, s -> s.isEjected() ? 1.0 : 0.0)
+                .description("Whether the node is currently ejected from selection")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_EJECTIONS, nodeStats, NodeStats::getEjections)
+                .description("The number of times the node was ejected from selection")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_ERROR_RATE, nodeStats, NodeStats::getErrorRate)
+                .description("The moving average of the node's submit error rate")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_IN_FLIGHT, nodeStats, NodeStats::getInFlight)
+                .description("The number of submissions to the node awaiting a response")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder(METRIC_LATENCY, nodeStats, TimeUnit.MILLISECONDS, NodeStats::getLatency)
+                .description("The moving average of the node's submit latency")
+                .tags(tags)
+                .register(meterRegistry);
+        return nodeStats;
     }
 
     public synchronized Flux<NodeProperties> refresh() {
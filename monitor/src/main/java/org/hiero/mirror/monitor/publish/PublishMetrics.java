@@ -8,6 +8,8 @@ import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +21,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.hiero.mirror.monitor.NodeProperties;
 import org.hiero.mirror.monitor.converter.DurationToStringSerializer;
+import org.hiero.mirror.monitor.latency.LatencyRecorder;
 import org.springframework.scheduling.annotation.Scheduled;
+import reactor.util.concurrent.Queues;
 
 @CustomLog
 @Named
@@ -31,9 +35,12 @@ public class PublishMetrics {
     static final String METRIC_SUBMIT = "hiero.mirror.monitor.publish.submit";
     static final String SUCCESS = "SUCCESS";
 
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
     private final Map<Tags, TimeGauge> durationGauges = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> handleTimers = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> submitTimers = new ConcurrentHashMap<>();
+    private final LatencyRecorder latencyRecorder;
     private final MeterRegistry meterRegistry;
     private final PublishProperties publishProperties;
 
@@ -59,16 +66,40 @@ public class PublishMetrics {
 
             durationGauges.computeIfAbsent(tags, this::newDurationMetric);
 
+            var scenario = request.getScenario();
+            double tps = scenario.getProperties().getTps();
+            var submitInterval = expectedInterval(tps);
+            var submitEnd = Instant.ofEpochMilli(endTime);
+            latencyRecorder.onSubmit(scenario.getName(), request.getTimestamp(), submitEnd, submitInterval);
+
             if (response != null && response.getReceipt() != null) {
                 long elapsed = System.currentTimeMillis() - startTime;
                 Timer handleTimer = handleTimers.computeIfAbsent(tags, this::newHandleMetric);
                 handleTimer.record(elapsed, TimeUnit.MILLISECONDS);
+                var handleInterval = expectedInterval(tps * scenario.getProperties().getReceiptPercent());
+                latencyRecorder.onHandle(scenario.getName(), request.getTimestamp(), Instant.now(), handleInterval);
             }
         } catch (Exception ex) {
             log.error("Unexpected error when recording metric for {}", request, ex);
         }
     }
 
+    /**
+     * Gets the expected interval between the transactions of each in-flight request slot, used to correct for the
+     * samples omitted while publishing stalls in a closed loop. Transactions are published concurrently, so a slow
+     * transaction only delays the one slot it occupies and the scenario's rate is spread across all slots. In an open
+     * loop, the request timestamp is the scheduled time so there are no omitted samples to correct.
+     */
+    private Duration expectedInterval(double tps) {
+        if (publishProperties.isOpenLoop() || tps <= 0.0) {
+            return Duration.ZERO;
+        }
+
+        int perThread = publishProperties.isAsync() ? Queues.SMALL_BUFFER_SIZE : 1;
+        long concurrency = (long) publishProperties.getResponseThreads() * perThread;
+        return Duration.ofNanos((long) (concurrency * NANOS_PER_SECOND / tps));
+    }
+
     private TimeGauge newDurationMetric(Tags tags) {
         TimeUnit unit = TimeUnit.NANOSECONDS;
         return TimeGauge.builder(METRIC_DURATION, tags.getScenario(), unit, s -> s.getElapsed()
@@ -33,6 +33,8 @@ public class PublishProperties {
     @NotNull
     private Duration nodeMaxBackoff = Duration.ofMinutes(1L);
 
+    private boolean openLoop = false;
+
     @NotNull
     private Map<String, @Valid PublishScenarioProperties> scenarios = new LinkedHashMap<>();
 
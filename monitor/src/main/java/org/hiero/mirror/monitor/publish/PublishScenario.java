@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.monitor.publish;
 
+import java.time.Instant;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.monitor.AbstractScenario;
@@ -19,7 +20,11 @@ public class PublishScenario extends AbstractScenario<PublishScenarioProperties,
     }
 
     public String getMemo() {
-        var memoMessage = System.currentTimeMillis() + " " + this.memo;
+        return getMemo(Instant.now());
+    }
+
+    public String getMemo(Instant timestamp) {
+        var memoMessage = timestamp.toEpochMilli() + " " + this.memo;
         return StringUtils.truncate(memoMessage, properties.getMaxMemoLength());
     }
 
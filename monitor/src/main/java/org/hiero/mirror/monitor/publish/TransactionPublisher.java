@@ -15,6 +15,7 @@ import com.hedera.hashgraph.sdk.TransactionResponse;
 import com.hedera.hashgraph.sdk.proto.NodeAddressBook;
 import jakarta.inject.Named;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import org.hiero.mirror.monitor.MonitorProperties;
 import org.hiero.mirror.monitor.NodeProperties;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 @CustomLog
 @Named
@@ -87,7 +89,15 @@ public class TransactionPublisher implements AutoCloseable {
             request.setNode(node);
         }
 
-        return execute(client, transaction);
+        // Feed the submit latency and outcome back so slow or failing nodes are selected less
+        var node = request.getNode();
+        return execute(client, transaction)
+                .elapsed()
+                .doOnSubscribe(s -> nodeSupplier.onSubmit(node))
+                .doOnNext(t -> nodeSupplier.onSuccess(node, Duration.ofMillis(t.getT1())))
+                .doOnError(t -> nodeSupplier.onError(node))
+                .doOnCancel(() -> nodeSupplier.onError(node))
+                .map(Tuple2::getT2);
     }
 
     private Mono<PublishResponse.PublishResponseBuilder> processTransactionResponse(
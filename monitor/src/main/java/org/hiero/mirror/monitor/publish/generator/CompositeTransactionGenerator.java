@@ -38,6 +38,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     private final PublishProperties properties;
     final AtomicReference<EnumeratedDistribution<TransactionGenerator>> distribution = new AtomicReference<>();
     final AtomicReference<RateLimiter> rateLimiter = new AtomicReference<>();
+    final AtomicReference<OpenLoopScheduler> scheduler = new AtomicReference<>();
     final List<ConfigurableTransactionGenerator> transactionGenerators;
     final AtomicInteger batchSize = new AtomicInteger(1);
 
@@ -58,14 +59,22 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     @Override
     public List<PublishRequest> next(int count) {
         int permits = count > 0 ? count : batchSize.get();
-        rateLimiter.get().acquire(permits);
+        var openLoopScheduler = scheduler.get();
+
+        if (openLoopScheduler == null) {
+            rateLimiter.get().acquire(permits);
+        }
 
         List<PublishRequest> publishRequests = new ArrayList<>();
         int i = 0;
         while (i < permits) {
             try {
                 TransactionGenerator transactionGenerator = distribution.get().sample();
-                publishRequests.addAll(transactionGenerator.next());
+                if (openLoopScheduler != null) {
+                    publishRequests.addAll(transactionGenerator.next(openLoopScheduler.acquire()));
+                } else {
+                    publishRequests.addAll(transactionGenerator.next());
+                }
                 i++;
             } catch (ScenarioException e) {
                 log.warn(e.getMessage());
@@ -75,6 +84,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
                 if (rateLimiter.get().equals(INACTIVE_RATE_LIMITER)) {
                     break;
                 }
+                openLoopScheduler = scheduler.get();
             } catch (Exception e) {
                 log.error("Unable to generate a transaction", e);
                 throw e;
@@ -107,6 +117,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
             batchSize.set(1);
             distribution.set(null);
             rateLimiter.set(INACTIVE_RATE_LIMITER);
+            scheduler.set(null);
             log.info("Publishing is disabled");
             return;
         }
@@ -124,6 +135,15 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         } else {
             rateLimiter.set(getRateLimiter(total, properties.getWarmupPeriod()));
         }
+
+        if (properties.isOpenLoop()) {
+            OpenLoopScheduler currentScheduler = scheduler.get();
+            if (currentScheduler != null) {
+                currentScheduler.setRate(total);
+            } else {
+                scheduler.set(new OpenLoopScheduler(total));
+            }
+        }
     }
 
     private RateLimiter getRateLimiter(double tps, Duration warmupPeriod) {
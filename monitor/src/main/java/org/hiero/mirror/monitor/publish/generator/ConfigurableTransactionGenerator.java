@@ -76,6 +76,22 @@ public class ConfigurableTransactionGenerator implements TransactionGenerator {
             count = 1;
         }
 
+        long actual = acquire(count);
+        List<PublishRequest> publishRequests = new ArrayList<>();
+        for (long i = 0; i < actual; i++) {
+            publishRequests.add(newPublishRequest(Instant.now()));
+        }
+
+        return publishRequests;
+    }
+
+    @Override
+    public List<PublishRequest> next(Instant timestamp) {
+        acquire(1);
+        return List.of(newPublishRequest(timestamp));
+    }
+
+    private long acquire(int count) {
         long left = remaining.getAndAdd(-count);
         long actual = Math.min(left, count);
         if (actual <= 0) {
@@ -86,23 +102,21 @@ public class ConfigurableTransactionGenerator implements TransactionGenerator {
             throw new ScenarioException(scenario, "Reached publish duration");
         }
 
-        List<PublishRequest> publishRequests = new ArrayList<>();
-        for (long i = 0; i < actual; i++) {
-            var transaction = transactionSupplier
-                    .get()
-                    .get()
-                    .setMaxAttempts((int) properties.getRetry().getMaxAttempts())
-                    .setTransactionMemo(scenario.getMemo());
-
-            PublishRequest publishRequest = builder.receipt(shouldGenerate(properties.getReceiptPercent()))
-                    .sendRecord(shouldGenerate(properties.getRecordPercent()))
-                    .timestamp(Instant.now())
-                    .transaction(transaction)
-                    .build();
-            publishRequests.add(publishRequest);
-        }
+        return actual;
+    }
 
-        return publishRequests;
+    private PublishRequest newPublishRequest(Instant timestamp) {
+        var transaction = transactionSupplier
+                .get()
+                .get(timestamp)
+                .setMaxAttempts((int) properties.getRetry().getMaxAttempts())
+                .setTransactionMemo(scenario.getMemo(timestamp));
+
+        return builder.receipt(shouldGenerate(properties.getReceiptPercent()))
+                .sendRecord(shouldGenerate(properties.getRecordPercent()))
+                .timestamp(timestamp)
+                .transaction(transaction)
+                .build();
     }
 
     @Override
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.publish.generator;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Schedules publish requests at a fixed rate regardless of how long previous requests took to publish. Each request is
+ * assigned the time it was supposed to be sent by the schedule, and the caller is parked until then. If the caller
+ * falls behind, it's not parked and the requests keep their original scheduled time so the delay is accounted for in
+ * their latency instead of being silently omitted.
+ */
+final class OpenLoopScheduler {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final long originNanos;
+    private final Instant origin;
+
+    private long count;
+    private double intervalNanos;
+    private long startNanos;
+
+    OpenLoopScheduler(double tps) {
+        this.originNanos = System.nanoTime();
+        this.origin = Instant.now();
+        this.startNanos = originNanos;
+        this.intervalNanos = NANOS_PER_SECOND / tps;
+    }
+
+    /**
+     * Parks the caller until the next scheduled time.
+     *
+     * @return the scheduled time of the request
+     */
+    synchronized Instant acquire() {
+        long scheduled = scheduled(count++);
+        long delay;
+
+        while ((delay = scheduled - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(delay);
+        }
+
+        return origin.plusNanos(scheduled - originNanos);
+    }
+
+    /**
+     * Changes the rate, starting from the next scheduled time of the current rate.
+     *
+     * @param tps the new rate in transactions per second
+     */
+    synchronized void setRate(double tps) {
+        startNanos = scheduled(count);
+        count = 0;
+        intervalNanos = NANOS_PER_SECOND / tps;
+    }
+
+    private long scheduled(long index) {
+        return startNanos + Math.round(index * intervalNanos);
+    }
+}
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.monitor.publish.generator;
 
+import java.time.Instant;
 import java.util.List;
 import org.hiero.mirror.monitor.publish.PublishRequest;
 import org.hiero.mirror.monitor.publish.PublishScenario;
@@ -22,5 +23,16 @@ public interface TransactionGenerator {
         return next(1);
     }
 
+    /**
+     * Gets the next publish request scheduled to be published at the given timestamp. The scheduled timestamp is used
+     * as the start of the request's latency measurements instead of the time it was generated.
+     *
+     * @param timestamp the scheduled publish timestamp
+     * @return the publish requests
+     */
+    default List<PublishRequest> next(Instant timestamp) {
+        return next(1);
+    }
+
     Flux<PublishScenario> scenarios();
 }
@@ -3,6 +3,19 @@
 package org.hiero.mirror.monitor.publish.transaction;
 
 import com.hedera.hashgraph.sdk.Transaction;
+import java.time.Instant;
 import java.util.function.Supplier;
 
-public interface TransactionSupplier<T extends Transaction<T>> extends Supplier<Transaction<T>> {}
+public interface TransactionSupplier<T extends Transaction<T>> extends Supplier<Transaction<T>> {
+
+    /**
+     * Gets a transaction scheduled to be published at the given timestamp. Suppliers that embed the publish timestamp
+     * in the transaction should override this to use the scheduled timestamp instead of the current time.
+     *
+     * @param timestamp the scheduled publish timestamp
+     * @return the transaction
+     */
+    default Transaction<T> get(Instant timestamp) {
+        return get();
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import lombok.Data;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -38,12 +39,17 @@ public class ConsensusSubmitMessageTransactionSupplier implements TransactionSup
 
     @Override
     public TopicMessageSubmitTransaction get() {
+        return get(Instant.now());
+    }
+
+    @Override
+    public TopicMessageSubmitTransaction get(Instant timestamp) {
         return new TopicMessageSubmitTransaction()
                 .setMaxTransactionFee(Hbar.fromTinybars(maxTransactionFee))
                 .setMessage(
                         !message.isEmpty()
                                 ? message.getBytes(StandardCharsets.UTF_8)
-                                : Utility.generateMessage(messageSize))
+                                : Utility.generateMessage(timestamp.toEpochMilli(), messageSize))
                 .setTopicId(getConsensusTopicId());
     }
 }
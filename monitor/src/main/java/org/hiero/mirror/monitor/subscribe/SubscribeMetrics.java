@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.monitor.converter.DurationToStringSerializer;
+import org.hiero.mirror.monitor.latency.LatencyRecorder;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @CustomLog
@@ -30,6 +31,7 @@ public class SubscribeMetrics {
 
     private final Map<Scenario<?, ?>, TimeGauge> durationMetrics = new ConcurrentHashMap<>();
     private final Map<Scenario<?, ?>, Timer> latencyMetrics = new ConcurrentHashMap<>();
+    private final LatencyRecorder latencyRecorder;
     private final MeterRegistry meterRegistry;
     private final SubscribeProperties subscribeProperties;
 
@@ -42,6 +44,11 @@ public class SubscribeMetrics {
         if (publishedTimestamp != null) {
             Duration latency = Duration.between(publishedTimestamp, response.getReceivedTimestamp());
             latencyMetrics.computeIfAbsent(scenario, this::newLatencyTimer).record(latency);
+            latencyRecorder.onReceive(
+                    scenario.getName(),
+                    scenario.getProtocol().name().toLowerCase(),
+                    publishedTimestamp,
+                    response.getReceivedTimestamp());
         }
     }
 
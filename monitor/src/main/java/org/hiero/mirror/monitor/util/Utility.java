@@ -52,7 +52,18 @@ public class Utility {
     }
 
     public static byte[] generateMessage(int requestedMessageSize) {
-        String message = System.currentTimeMillis() + " ";
+        return generateMessage(System.currentTimeMillis(), requestedMessageSize);
+    }
+
+    /**
+     * Generates a message in the format expected by {@link #getTimestamp(byte[])} with the given published timestamp.
+     *
+     * @param timestamp            the published timestamp in milliseconds from epoch
+     * @param requestedMessageSize the minimum size of the message
+     * @return the message bytes
+     */
+    public static byte[] generateMessage(long timestamp, int requestedMessageSize) {
+        String message = timestamp + " ";
         final var random = ThreadLocalRandom.current();
 
         if (message.length() < requestedMessageSize) {
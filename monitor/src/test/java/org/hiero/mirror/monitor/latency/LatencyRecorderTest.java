@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.monitor.latency.LatencyRecorder.STAGE_HANDLE;
+import static org.hiero.mirror.monitor.latency.LatencyRecorder.STAGE_SUBMIT;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LatencyRecorderTest {
+
+    private static final String SCENARIO = "test";
+
+    @TempDir
+    private Path reportDirectory;
+
+    private LatencyProperties latencyProperties;
+    private LatencyRecorder latencyRecorder;
+
+    @BeforeEach
+    void setup() {
+        latencyProperties = new LatencyProperties();
+        latencyProperties.setEnabled(true);
+        latencyRecorder = new LatencyRecorder(latencyProperties);
+    }
+
+    @Test
+    void disabled() {
+        // given
+        latencyProperties.setEnabled(false);
+        var start = Instant.now();
+
+        // when
+        latencyRecorder.onSubmit(SCENARIO, start, start.plusMillis(10L), Duration.ZERO);
+
+        // then
+        assertThat(latencyRecorder.getHistogram(SCENARIO, STAGE_SUBMIT)).isNull();
+    }
+
+    @Test
+    void onSubmit() {
+        // given
+        var start = Instant.now();
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            latencyRecorder.onSubmit(SCENARIO, start, start.plusMillis(i), Duration.ZERO);
+        }
+
+        // then
+        var histogram = latencyRecorder.getHistogram(SCENARIO, STAGE_SUBMIT);
+        assertThat(histogram.getTotalCount()).isEqualTo(100L);
+        assertThat(histogram.getValueAtPercentile(50.0) / 1000.0).isBetween(49.9, 50.1);
+        assertThat(histogram.getMaxValue() / 1000.0).isBetween(99.9, 100.1);
+        assertThat(latencyRecorder.getHistogram(SCENARIO, STAGE_HANDLE)).isNull();
+    }
+
+    @Test
+    void correctsOmittedSamples() {
+        // given a request slot expected every 10ms that stalled for one second
+        var start = Instant.now();
+
+        // when
+        latencyRecorder.onHandle(SCENARIO, start, start.plusSeconds(1L), Duration.ofMillis(10L));
+
+        // then the samples that would have been published during the stall are back-filled
+        var histogram = latencyRecorder.getHistogram(SCENARIO, STAGE_HANDLE);
+        assertThat(histogram.getTotalCount()).isEqualTo(100L);
+        assertThat(histogram.getValueAtPercentile(50.0) / 1000.0).isBetween(490.0, 510.0);
+    }
+
+    @Test
+    void clampsToHighestTrackable() {
+        // given
+        latencyProperties.setHighestTrackable(Duration.ofSeconds(1L));
+        var start = Instant.now();
+
+        // when
+        latencyRecorder.onReceive(SCENARIO, "grpc", start, start.plusSeconds(10L));
+        latencyRecorder.onReceive(SCENARIO, "grpc", start, start.minusSeconds(1L));
+
+        // then
+        var histogram = latencyRecorder.getHistogram(SCENARIO, "grpc");
+        assertThat(histogram.getTotalCount()).isEqualTo(2L);
+        assertThat(histogram.getMinValue()).isZero();
+        assertThat(histogram.getMaxValue() / 1000.0).isBetween(999.0, 1001.0);
+    }
+
+    @Test
+    void report() {
+        // given
+        latencyProperties.setReportDirectory(reportDirectory);
+        var start = Instant.now();
+        latencyRecorder.onSubmit(SCENARIO, start, start.plusMillis(5L), Duration.ZERO);
+
+        // when
+        latencyRecorder.report();
+
+        // then
+        var report = reportDirectory.resolve(SCENARIO + "-" + STAGE_SUBMIT + ".hgrm");
+        assertThat(report).exists().content().contains("Percentile").contains("#[Max");
+        assertThat(latencyRecorder.getHistogram(SCENARIO, STAGE_SUBMIT).getTotalCount())
+                .isOne();
+        assertThat(Files.exists(reportDirectory.resolve(SCENARIO + "-" + STAGE_HANDLE + ".hgrm")))
+                .isFalse();
+    }
+}
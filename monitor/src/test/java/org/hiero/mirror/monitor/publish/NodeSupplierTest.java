@@ -23,9 +23,12 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.Server;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -60,6 +63,7 @@ class NodeSupplierTest {
     private static final Duration WAIT = Duration.ofSeconds(10L);
 
     private CryptoServiceStub cryptoServiceStub;
+    private MeterRegistry meterRegistry;
     private MonitorProperties monitorProperties;
     private NetworkNode networkNode;
     private NodeProperties node;
@@ -90,7 +94,8 @@ class NodeSupplierTest {
         operatorProperties.setAccountId("0.0.100");
         operatorProperties.setPrivateKey(PrivateKey.generateED25519().toString());
 
-        nodeSupplier = new NodeSupplier(monitorProperties, restApiClient);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSupplier = new NodeSupplier(meterRegistry, monitorProperties, restApiClient);
         cryptoServiceStub = new CryptoServiceStub();
         server = InProcessServerBuilder.forName(SERVER)
                 .addService(cryptoServiceStub)
@@ -115,6 +120,105 @@ class NodeSupplierTest {
         assertThat(nodeSupplier.get()).isEqualTo(node);
     }
 
+    @Test
+    void getPrefersFasterNode() {
+        // given
+        monitorProperties.getNodeValidation().setEnabled(false);
+        var node2 = node2();
+        nodeSupplier.validateNode(node);
+        nodeSupplier.validateNode(node2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            nodeSupplier.onSubmit(node);
+            nodeSupplier.onSuccess(node, Duration.ofMillis(500L));
+            nodeSupplier.onSubmit(node2);
+            nodeSupplier.onSuccess(node2, Duration.ofMillis(10L));
+        }
+
+        // then
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodeSupplier.get()).isEqualTo(node2);
+        }
+        assertThat(meterRegistry.find(NodeSupplier.METRIC_LATENCY).timeGauges())
+                .hasSize(2)
+                .extracting(g -> g.value(TimeUnit.MILLISECONDS))
+                .containsExactlyInAnyOrder(500.0, 10.0);
+    }
+
+    @Test
+    void getRoundRobin() {
+        // given
+        monitorProperties.getNodeSelection().setAdaptive(false);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        var node2 = node2();
+        nodeSupplier.validateNode(node);
+        nodeSupplier.validateNode(node2);
+        nodeSupplier.onSubmit(node2);
+        nodeSupplier.onSuccess(node2, Duration.ofMillis(10L));
+
+        // when, then
+        assertThat(List.of(nodeSupplier.get(), nodeSupplier.get(), nodeSupplier.get(), nodeSupplier.get()))
+                .containsExactly(node, node2, node, node2);
+    }
+
+    @Test
+    void ejectAndReadmit() {
+        // given
+        var nodeSelection = monitorProperties.getNodeSelection();
+        nodeSelection.setEjectionDuration(Duration.ofMillis(200L));
+        nodeSelection.setEjectionErrors(2);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        var node2 = node2();
+        nodeSupplier.validateNode(node);
+        nodeSupplier.validateNode(node2);
+
+        // when
+        nodeSupplier.onSubmit(node2);
+        nodeSupplier.onError(node2);
+        nodeSupplier.onSubmit(node2);
+        nodeSupplier.onError(node2);
+
+        // then
+        assertThat(nodeSupplier.getStats(node2)).returns(true, NodeStats::isEjected);
+        assertThat(meterRegistry.get(NodeSupplier.METRIC_EJECTIONS).tag("node", "1").gauge().value())
+                .isOne();
+        for (int i = 0; i < 10; i++) {
+            assertThat(nodeSupplier.get()).isEqualTo(node);
+        }
+
+        // when the ejection expires, a single probe is sent
+        Uninterruptibles.sleepUninterruptibly(300, TimeUnit.MILLISECONDS);
+        assertThat(nodeSupplier.get()).isEqualTo(node2);
+        assertThat(nodeSupplier.get()).isEqualTo(node);
+
+        // then a successful probe re-admits it
+        nodeSupplier.onSubmit(node2);
+        nodeSupplier.onSuccess(node2, Duration.ofMillis(10L));
+        assertThat(nodeSupplier.getStats(node2)).returns(false, NodeStats::isEjected);
+        assertThat(meterRegistry.get(NodeSupplier.METRIC_EJECTED).tag("node", "1").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void ejectAllNodes() {
+        // given
+        monitorProperties.getNodeSelection().setEjectionErrors(1);
+        monitorProperties.getNodeValidation().setEnabled(false);
+        var node2 = node2();
+        nodeSupplier.validateNode(node);
+        nodeSupplier.validateNode(node2);
+
+        // when
+        nodeSupplier.onSubmit(node);
+        nodeSupplier.onError(node);
+        nodeSupplier.onSubmit(node2);
+        nodeSupplier.onError(node2);
+
+        // then
+        assertThat(List.of(nodeSupplier.get(), nodeSupplier.get())).containsExactlyInAnyOrder(node, node2);
+    }
+
     @Test
     void getNoValidNodes() {
         assertThatThrownBy(() -> nodeSupplier.get())
@@ -340,6 +444,12 @@ class NodeSupplierTest {
         assertThat(nodeSupplier.validateNode(node)).isTrue();
     }
 
+    private NodeProperties node2() {
+        var node2 = new NodeProperties("0.0.4", "in-process:server3");
+        node2.setNodeId(1L);
+        return node2;
+    }
+
     private Response receipt(ResponseCodeEnum responseCode) {
         ResponseHeader responseHeader =
                 ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(OK).build();
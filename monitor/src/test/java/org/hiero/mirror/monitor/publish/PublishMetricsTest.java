@@ -23,9 +23,12 @@ import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import lombok.SneakyThrows;
+import org.HdrHistogram.Histogram;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.api.ObjectAssert;
 import org.hiero.mirror.monitor.NodeProperties;
+import org.hiero.mirror.monitor.latency.LatencyProperties;
+import org.hiero.mirror.monitor.latency.LatencyRecorder;
 import org.hiero.mirror.monitor.publish.PublishMetrics.Tags;
 import org.hiero.mirror.monitor.publish.transaction.TransactionType;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +43,8 @@ class PublishMetricsTest {
 
     private static final String SCENARIO_NAME = "test";
 
+    private LatencyProperties latencyProperties;
+    private LatencyRecorder latencyRecorder;
     private MeterRegistry meterRegistry;
     private PublishMetrics publishMetrics;
     private PublishProperties publishProperties;
@@ -50,7 +55,9 @@ class PublishMetricsTest {
     void setup() {
         meterRegistry = new SimpleMeterRegistry();
         publishProperties = new PublishProperties();
-        publishMetrics = new PublishMetrics(meterRegistry, publishProperties);
+        latencyProperties = new LatencyProperties();
+        latencyRecorder = new LatencyRecorder(latencyProperties);
+        publishMetrics = new PublishMetrics(latencyRecorder, meterRegistry, publishProperties);
 
         PublishScenarioProperties publishScenarioProperties = new PublishScenarioProperties();
         publishScenarioProperties.setName(SCENARIO_NAME);
@@ -187,6 +194,46 @@ class PublishMetricsTest {
                 .contains("Errors: {" + status + "=1}");
     }
 
+    @Test
+    void closedLoopLatencyAsync() {
+        // given 100 tps with a 5s handle latency, far less than the 10240 requests that can be in flight at once
+        var histogram = recordClosedLoopLatency(true);
+
+        // then no samples are made up
+        assertThat(histogram.getTotalCount()).isEqualTo(100L);
+        assertThat(histogram.getValueAtPercentile(50.0) / 1000.0).isBetween(4990.0, 5500.0);
+        assertThat(histogram.getValueAtPercentile(99.0) / 1000.0).isBetween(4990.0, 5500.0);
+    }
+
+    @Test
+    void closedLoopLatencySync() {
+        // given 100 tps with a 5s handle latency, more than the 40 requests that can be in flight at once
+        var histogram = recordClosedLoopLatency(false);
+
+        // then each stalled slot back-fills 11 samples omitted every 400ms rather than 499 every 10ms
+        assertThat(histogram.getTotalCount()).isEqualTo(1200L);
+        assertThat(histogram.getValueAtPercentile(50.0) / 1000.0).isBetween(2500.0, 3000.0);
+        assertThat(histogram.getValueAtPercentile(99.0) / 1000.0).isBetween(4990.0, 5500.0);
+    }
+
+    @Test
+    void openLoopLatency() {
+        // given
+        latencyProperties.setEnabled(true);
+        publishProperties.setOpenLoop(true);
+        publishScenario.getProperties().setReceiptPercent(1.0);
+        publishScenario.getProperties().setTps(100.0);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            publishMetrics.onSuccess(response());
+        }
+
+        // then
+        var histogram = latencyRecorder.getHistogram(SCENARIO_NAME, LatencyRecorder.STAGE_HANDLE);
+        assertThat(histogram.getTotalCount()).isEqualTo(100L);
+    }
+
     @Test
     void statusSuccess(CapturedOutput logOutput) {
         PublishResponse response = response();
@@ -211,6 +258,19 @@ class PublishMetricsTest {
         assertThat(logOutput).asString().isEmpty();
     }
 
+    private Histogram recordClosedLoopLatency(boolean async) {
+        latencyProperties.setEnabled(true);
+        publishProperties.setAsync(async);
+        publishScenario.getProperties().setReceiptPercent(1.0);
+        publishScenario.getProperties().setTps(100.0);
+
+        for (int i = 0; i < 100; i++) {
+            publishMetrics.onSuccess(response());
+        }
+
+        return latencyRecorder.getHistogram(SCENARIO_NAME, LatencyRecorder.STAGE_HANDLE);
+    }
+
     private <T extends Meter> ObjectAssert<T> assertMetric(Iterable<T> meters) {
         var iterableAssert = assertThat(meters)
                 .hasSize(1)
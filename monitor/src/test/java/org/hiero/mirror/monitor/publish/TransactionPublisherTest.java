@@ -5,6 +5,10 @@ package org.hiero.mirror.monitor.publish;
 import static com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.OK;
 import static com.hedera.hashgraph.sdk.proto.ResponseCodeEnum.SUCCESS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hashgraph.sdk.PrivateKey;
@@ -126,6 +130,10 @@ class TransactionPublisherTest {
                 })
                 .expectComplete()
                 .verify(Duration.ofSeconds(1L));
+
+        verify(nodeSupplier).onSubmit(request.getNode());
+        verify(nodeSupplier).onSuccess(eq(request.getNode()), any(Duration.class));
+        verify(nodeSupplier, never()).onError(any());
     }
 
     @Test
@@ -229,6 +237,9 @@ class TransactionPublisherTest {
                         .rootCause()
                         .hasMessageContaining(errorResponseCode.toString()))
                 .verify(Duration.ofSeconds(2L));
+
+        verify(nodeSupplier).onError(any());
+        verify(nodeSupplier, never()).onSuccess(any(), any());
     }
 
     @Test
@@ -273,6 +284,8 @@ class TransactionPublisherTest {
                         .hasMessageContaining("Did not observe any item or terminal signal within 100ms")
                         .hasCauseInstanceOf(TimeoutException.class))
                 .verify(Duration.ofSeconds(1L));
+
+        verify(nodeSupplier).onError(any());
     }
 
     @Test
@@ -11,12 +11,15 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.math3.util.Pair;
+import org.assertj.core.data.Offset;
 import org.hiero.mirror.monitor.MonitorProperties;
 import org.hiero.mirror.monitor.ScenarioStatus;
 import org.hiero.mirror.monitor.publish.PublishProperties;
@@ -149,6 +152,31 @@ class CompositeTransactionGeneratorTest {
         assertThat(stopwatch.elapsed().toMillis() * 1.0 / 1000).isCloseTo(seconds, withinPercentage(5));
     }
 
+    @Test
+    @Timeout(10)
+    void openLoop() throws InterruptedException {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1L) / totalTps);
+        List<Instant> timestamps = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            generator.next(1).stream().map(PublishRequest::getTimestamp).forEach(timestamps::add);
+
+            // Simulate a stalled publisher
+            if (i == 100) {
+                Thread.sleep(500L);
+            }
+        }
+
+        // The stall delays the requests but not their scheduled timestamps
+        assertThat(timestamps).hasSize(200).isSorted();
+        for (int i = 1; i < timestamps.size(); i++) {
+            long elapsed = Duration.between(timestamps.get(i - 1), timestamps.get(i)).toNanos();
+            assertThat(elapsed).isCloseTo(interval, Offset.offset(1L));
+        }
+    }
+
     @Test
     void publishDisabled() {
         properties.setEnabled(false);
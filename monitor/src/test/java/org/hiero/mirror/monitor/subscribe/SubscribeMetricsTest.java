@@ -15,6 +15,8 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import org.hiero.mirror.monitor.ScenarioStatus;
+import org.hiero.mirror.monitor.latency.LatencyProperties;
+import org.hiero.mirror.monitor.latency.LatencyRecorder;
 import org.hiero.mirror.monitor.subscribe.grpc.GrpcSubscriberProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,7 +38,8 @@ class SubscribeMetricsTest {
         properties.setName("Test");
         meterRegistry = new SimpleMeterRegistry();
         subscribeProperties = new SubscribeProperties();
-        subscribeMetrics = new SubscribeMetrics(meterRegistry, subscribeProperties);
+        var latencyRecorder = new LatencyRecorder(new LatencyProperties());
+        subscribeMetrics = new SubscribeMetrics(latencyRecorder, meterRegistry, subscribeProperties);
     }
 
     @Test
@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.restjava.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import org.hiero.mirror.restjava.service.QueryProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheConfiguration {
+
+    public static final String HOOK_STORAGE_CACHE = "hookStorageCache";
+    public static final String NETWORK_FEES_CACHE = "networkFeesCache";
+    public static final String SYSTEM_FILE_CACHE = "systemFileCache";
+    public static final String CACHE_NAME = "default";
+
+    // The historical hook storage pages keyed by the request, since reconstructing a page scans the storage changes
+    @Bean(HOOK_STORAGE_CACHE)
+    CacheManager hookStorageCache(QueryProperties queryProperties) {
+        final var caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(queryProperties.getHookStorageCacheExpiry())
+                .maximumSize(queryProperties.getMaxHookStorageCacheSize())
+                .recordStats());
+        return caffeineCacheManager;
+    }
+
+    // The mapped latest network fees keyed by the versions of the fee schedule and exchange rate files and the order
+    @Bean(NETWORK_FEES_CACHE)
+    CacheManager networkFeesCache() {
+        final var caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME)); // We have to eagerly set cache name to register metrics
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(16L).recordStats());
+        return caffeineCacheManager;
+    }
+
+    // The parsed system files keyed by the file ID and the timestamp of the last file_data row of that version
+    @Bean(SYSTEM_FILE_CACHE)
+    CacheManager systemFileCache(QueryProperties queryProperties) {
+        final var caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(queryProperties.getMaxFileCacheSize())
+                .recordStats());
+        return caffeineCacheManager;
+    }
+}
@@ -7,6 +7,8 @@ import static org.hiero.mirror.restjava.common.Constants.APPLICATION_JSON;
 import static org.hiero.mirror.restjava.common.Constants.HIGH_VOLUME_THROTTLE;
 import static org.hiero.mirror.restjava.common.Constants.REGISTERED_NODE_ID;
 import static org.hiero.mirror.restjava.common.Constants.TIMESTAMP;
+import static org.hiero.mirror.restjava.config.CacheConfiguration.CACHE_NAME;
+import static org.hiero.mirror.restjava.config.CacheConfiguration.NETWORK_FEES_CACHE;
 
 import com.google.common.collect.ImmutableSortedMap;
 import com.hedera.hapi.node.base.Transaction;
@@ -55,6 +57,8 @@ import org.hiero.mirror.restjava.service.Bound;
 import org.hiero.mirror.restjava.service.FileService;
 import org.hiero.mirror.restjava.service.NetworkService;
 import org.hiero.mirror.restjava.service.fee.FeeEstimationService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
@@ -89,6 +93,9 @@ final class NetworkController {
     private final NetworkNodeMapper networkNodeMapper;
     private final RegisteredNodeMapper registeredNodeMapper;
 
+    @Qualifier(NETWORK_FEES_CACHE)
+    private final CacheManager networkFeesCacheManager;
+
     @GetMapping("/exchangerate")
     NetworkExchangeRateSetResponse getExchangeRate(
             @RequestParam(required = false) @Size(max = 2) TimestampParameter[] timestamp) {
@@ -104,7 +111,18 @@ final class NetworkController {
         final var bound = Bound.of(timestamp, TIMESTAMP, FileData.FILE_DATA.CONSENSUS_TIMESTAMP);
         final var feeSchedule = fileService.getFeeSchedule(bound);
         final var exchangeRate = fileService.getExchangeRate(bound);
-        return feeScheduleMapper.map(feeSchedule, exchangeRate, bound, order);
+
+        if (bound.adjustUpperBound() != Long.MAX_VALUE) {
+            return feeScheduleMapper.map(feeSchedule, exchangeRate, bound, order);
+        }
+
+        // Without an upper bound the fees only depend on the file versions, so the polled latest fees are cached
+        final var key = new FeesKey(
+                feeSchedule.fileData().getConsensusTimestamp(),
+                exchangeRate.fileData().getConsensusTimestamp(),
+                order);
+        final var cache = networkFeesCacheManager.getCache(CACHE_NAME);
+        return cache.get(key, () -> feeScheduleMapper.map(feeSchedule, exchangeRate, bound, order));
     }
 
     @PostMapping(
@@ -222,4 +240,6 @@ final class NetworkController {
                 .name(detail.name())
                 .subtotal(detail.perUnit() * detail.charged());
     }
+
+    private record FeesKey(long feeScheduleTimestamp, long exchangeRateTimestamp, Sort.Direction order) {}
 }
@@ -33,6 +33,28 @@ public interface FileDataRepository extends CrudRepository<FileData, Long> {
             """)
     Optional<FileData> getFileAtTimestamp(long fileId, long lowerTimestamp, long upperTimestamp);
 
+    /**
+     * Gets the timestamp of the last file_data row that getFileAtTimestamp would aggregate for the same bounds. The file
+     * contents at this timestamp are immutable, so it can be used to identify a version of the file without loading it.
+     */
+    @Query(nativeQuery = true, value = """
+            select max(consensus_timestamp)
+            from file_data
+            where entity_id = ?1
+              and consensus_timestamp >= (
+                select consensus_timestamp
+                from file_data
+                where entity_id = ?1
+                  and consensus_timestamp >= ?2
+                  and consensus_timestamp <= ?3
+                  and (transaction_type = 17 or (transaction_type = 19 and length(file_data) <> 0))
+              order by consensus_timestamp desc
+              limit 1
+            ) and consensus_timestamp <= ?3
+              and (transaction_type <> 19 or length(file_data) <> 0)
+            """)
+    Optional<Long> getFileTimestampAtTimestamp(long fileId, long lowerTimestamp, long upperTimestamp);
+
     @Query(nativeQuery = true, value = """
             select max(consensus_timestamp)
             from file_data
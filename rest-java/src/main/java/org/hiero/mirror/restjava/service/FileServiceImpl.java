@@ -2,6 +2,9 @@
 
 package org.hiero.mirror.restjava.service;
 
+import static org.hiero.mirror.restjava.config.CacheConfiguration.CACHE_NAME;
+import static org.hiero.mirror.restjava.config.CacheConfiguration.SYSTEM_FILE_CACHE;
+
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -21,6 +24,9 @@ import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.restjava.dto.SystemFile;
 import org.hiero.mirror.restjava.repository.FileDataRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.retry.RetryException;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.retry.RetryTemplate;
@@ -35,6 +41,12 @@ final class FileServiceImpl implements FileService {
     private final QueryProperties queryProperties;
     private final SystemEntity systemEntity;
 
+    @Qualifier(SYSTEM_FILE_CACHE)
+    private final CacheManager systemFileCacheManager;
+
+    @Getter(lazy = true, value = AccessLevel.PRIVATE)
+    private final Cache fileCache = systemFileCacheManager.getCache(CACHE_NAME);
+
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
     private final RetryTemplate retryTemplate = new RetryTemplate(RetryPolicy.builder()
             .delay(Duration.ofMillis(10L))
@@ -66,7 +78,8 @@ final class FileServiceImpl implements FileService {
 
     /*
      * Attempts to load and parse the system file at the given consensus timestamp. If it fails to parse, it might be an
-     * incomplete or bad file. In that case, it will try earlier files until it finds one that is valid.
+     * incomplete or bad file. In that case, it will try earlier files until it finds one that is valid. Only the
+     * timestamp of the file version is queried if that version was already parsed.
      */
     private <T> SystemFile<T> getSystemFile(EntityId entityId, Bound timestamp, ThrowingFunction<byte[], T> parser) {
         final var lowerBound = timestamp.getAdjustedLowerRangeValue();
@@ -76,24 +89,48 @@ final class FileServiceImpl implements FileService {
         try {
             return getRetryTemplate()
                     .execute(() -> fileDataRepository
-                            .getFileAtTimestamp(entityId.getId(), lowerBound, upperBound.get())
-                            .map(fileData -> {
-                                try {
-                                    return new SystemFile<>(fileData, parser.apply(fileData.getFileData()));
-                                } catch (Exception e) {
-                                    log.warn(
-                                            "Attempt {} failed to load file {} at {}, falling back to previous file: {}",
-                                            attempt.incrementAndGet(),
-                                            entityId,
-                                            fileData.getConsensusTimestamp(),
-                                            e.getMessage());
-                                    upperBound.set(fileData.getConsensusTimestamp() - 1);
-                                    throw e;
-                                }
-                            }))
+                            .getFileTimestampAtTimestamp(entityId.getId(), lowerBound, upperBound.get())
+                            .map(version -> getSystemFile(entityId, lowerBound, version, parser, upperBound, attempt)))
                     .orElseThrow(() -> new EntityNotFoundException("File %s not found".formatted(entityId)));
         } catch (RetryException e) {
             throw new EntityNotFoundException("File %s not found".formatted(entityId), e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private <T> SystemFile<T> getSystemFile(
+            EntityId entityId,
+            long lowerBound,
+            long version,
+            ThrowingFunction<byte[], T> parser,
+            AtomicLong upperBound,
+            AtomicInteger attempt) {
+        final var key = new FileVersion(entityId.getId(), version);
+        final var cached = getFileCache().get(key, SystemFile.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Load with the version as the upper bound so a file change since the version was queried is not picked up
+        final var fileData = fileDataRepository
+                .getFileAtTimestamp(entityId.getId(), lowerBound, version)
+                .orElseThrow(() -> new EntityNotFoundException("File %s not found".formatted(entityId)));
+
+        try {
+            final var systemFile = new SystemFile<>(fileData, parser.apply(fileData.getFileData()));
+            getFileCache().put(key, systemFile);
+            return systemFile;
+        } catch (Exception e) {
+            log.warn(
+                    "Attempt {} failed to load file {} at {}, falling back to previous file: {}",
+                    attempt.incrementAndGet(),
+                    entityId,
+                    fileData.getConsensusTimestamp(),
+                    e.getMessage());
+            upperBound.set(fileData.getConsensusTimestamp() - 1);
+            throw e;
+        }
+    }
+
+    private record FileVersion(long fileId, long timestamp) {}
 }
@@ -2,9 +2,15 @@
 
 package org.hiero.mirror.restjava.service;
 
+import static org.hiero.mirror.restjava.config.CacheConfiguration.CACHE_NAME;
+import static org.hiero.mirror.restjava.config.CacheConfiguration.HOOK_STORAGE_CACHE;
+
 import jakarta.inject.Named;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.hook.Hook;
 import org.hiero.mirror.common.domain.hook.HookStorage;
@@ -14,8 +20,12 @@ import org.hiero.mirror.restjava.dto.HooksRequest;
 import org.hiero.mirror.restjava.repository.HookRepository;
 import org.hiero.mirror.restjava.repository.HookStorageChangeRepository;
 import org.hiero.mirror.restjava.repository.HookStorageRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 @Named
 @RequiredArgsConstructor
@@ -28,6 +38,12 @@ final class HookServiceImpl implements HookService {
     private final HookStorageChangeRepository hookStorageChangeRepository;
     private final EntityService entityService;
 
+    @Qualifier(HOOK_STORAGE_CACHE)
+    private final CacheManager hookStorageCacheManager;
+
+    @Getter(lazy = true, value = AccessLevel.PRIVATE)
+    private final Cache hookStorageCache = hookStorageCacheManager.getCache(CACHE_NAME);
+
     @Override
     public Collection<Hook> getHooks(HooksRequest request) {
         final var sort = Sort.by(request.getOrder(), HOOK_ID);
@@ -82,7 +98,6 @@ final class HookServiceImpl implements HookService {
     }
 
     private HookStorageResult getHookStorageChange(HookStorageRequest request) {
-        final var page = request.getPageRequest();
         final var ownerId = entityService.lookup(request.getOwnerId());
         final long hookId = request.getHookId();
 
@@ -98,22 +113,56 @@ final class HookServiceImpl implements HookService {
         final long timestampLowerBound = timestamp.getAdjustedLowerRangeValue();
         final long timestampUpperBound = timestamp.adjustUpperBound();
 
-        List<HookStorage> changes;
+        // Each page reconstructs the storage from the changes, so it's briefly cached for clients paging or polling
+        final var key = new HookStorageKey(
+                ownerId.getId(),
+                hookId,
+                wrap(request.getKeyLowerBound()),
+                wrap(request.getKeyUpperBound()),
+                keys.stream().map(ByteBuffer::wrap).toList(),
+                timestampLowerBound,
+                timestampUpperBound,
+                request.getLimit(),
+                request.getOrder());
+        final List<HookStorage> changes = getHookStorageCache()
+                .get(key, () -> findChanges(request, ownerId.getId(), timestampLowerBound, timestampUpperBound));
 
-        if (requestHasKeys) {
-            changes = hookStorageChangeRepository.findByKeyInAndTimestampBetween(
-                    ownerId.getId(), hookId, keys, timestampLowerBound, timestampUpperBound, page);
-        } else {
-            changes = hookStorageChangeRepository.findByKeyBetweenAndTimestampBetween(
-                    ownerId.getId(),
-                    hookId,
-                    request.getKeyLowerBound(),
-                    request.getKeyUpperBound(),
-                    timestampLowerBound,
-                    timestampUpperBound,
-                    page);
+        return new HookStorageResult(ownerId, changes);
+    }
+
+    private List<HookStorage> findChanges(
+            HookStorageRequest request, long ownerId, long timestampLowerBound, long timestampUpperBound) {
+        final var page = request.getPageRequest();
+        final long hookId = request.getHookId();
+        final var keys = request.getKeys();
+
+        if (!keys.isEmpty()) {
+            return hookStorageChangeRepository.findByKeyInAndTimestampBetween(
+                    ownerId, hookId, keys, timestampLowerBound, timestampUpperBound, page);
         }
 
-        return new HookStorageResult(ownerId, changes);
+        return hookStorageChangeRepository.findByKeyBetweenAndTimestampBetween(
+                ownerId,
+                hookId,
+                request.getKeyLowerBound(),
+                request.getKeyUpperBound(),
+                timestampLowerBound,
+                timestampUpperBound,
+                page);
+    }
+
+    private static ByteBuffer wrap(byte[] bytes) {
+        return bytes != null ? ByteBuffer.wrap(bytes) : null;
     }
+
+    private record HookStorageKey(
+            long ownerId,
+            long hookId,
+            ByteBuffer keyLowerBound,
+            ByteBuffer keyUpperBound,
+            List<ByteBuffer> keys,
+            long timestampLowerBound,
+            long timestampUpperBound,
+            int limit,
+            Direction order) {}
 }
@@ -3,6 +3,8 @@
 package org.hiero.mirror.restjava.service;
 
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -12,6 +14,15 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hiero.mirror.rest-java.query")
 public final class QueryProperties {
 
+    @NotNull
+    private Duration hookStorageCacheExpiry = Duration.ofSeconds(5L);
+
     @Min(1)
     private int maxFileAttempts = 12;
+
+    @Min(0)
+    private long maxFileCacheSize = 50;
+
+    @Min(0)
+    private long maxHookStorageCacheSize = 1000;
 }
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
 import com.hederahashgraph.api.proto.java.ExchangeRateSet;
 import com.hederahashgraph.api.proto.java.FeeSchedule;
 import jakarta.persistence.EntityNotFoundException;
@@ -41,6 +42,41 @@ final class FileServiceTest extends RestJavaIntegrationTest {
         assertThat(actual).isEqualTo(new SystemFile<>(fileData, exchangeRateSet));
     }
 
+    @Test
+    void getExchangeRateCached() {
+        // given
+        final var exchangeRateSet = ExchangeRateSet.newBuilder().build();
+        final var fileData = domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(systemEntity.exchangeRateFile()).fileData(exchangeRateSet.toByteArray()))
+                .persist();
+        final var bound = bound(RangeOperator.GTE, fileData);
+        final var cached = service.getExchangeRate(bound);
+
+        // when
+        final var actual = service.getExchangeRate(bound);
+
+        // then
+        assertThat(actual).isSameAs(cached);
+
+        // given
+        final var exchangeRateSetUpdated = ExchangeRateSet.newBuilder()
+                .setCurrentRate(ExchangeRate.newBuilder().setHbarEquiv(1))
+                .build();
+        final var fileDataUpdated = domainBuilder
+                .fileData()
+                .customize(
+                        f -> f.entityId(systemEntity.exchangeRateFile()).fileData(exchangeRateSetUpdated.toByteArray()))
+                .persist();
+
+        // when
+        final var updated = service.getExchangeRate(bound);
+
+        // then
+        fileDataUpdated.setTransactionType(null);
+        assertThat(updated).isEqualTo(new SystemFile<>(fileDataUpdated, exchangeRateSetUpdated));
+    }
+
     @Test
     void getExchangeRateNotFound() {
         // given
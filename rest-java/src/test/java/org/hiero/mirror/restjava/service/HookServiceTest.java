@@ -3,6 +3,9 @@
 package org.hiero.mirror.restjava.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.restjava.common.Constants.TIMESTAMP;
+import static org.hiero.mirror.restjava.config.CacheConfiguration.CACHE_NAME;
+import static org.hiero.mirror.restjava.jooq.domain.tables.HookStorageChange.HOOK_STORAGE_CHANGE;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
@@ -10,6 +13,7 @@ import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -25,11 +29,13 @@ import org.hiero.mirror.restjava.RestJavaIntegrationTest;
 import org.hiero.mirror.restjava.dto.HookStorageRequest;
 import org.hiero.mirror.restjava.dto.HooksRequest;
 import org.hiero.mirror.restjava.parameter.EntityIdParameter;
+import org.hiero.mirror.restjava.parameter.TimestampParameter;
 import org.hiero.mirror.restjava.repository.HookRepository;
 import org.hiero.mirror.restjava.repository.HookStorageChangeRepository;
 import org.hiero.mirror.restjava.repository.HookStorageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
@@ -55,8 +61,12 @@ final class HookServiceTest extends RestJavaIntegrationTest {
         hookStorageRepository = mock(HookStorageRepository.class);
         hookStorageChangeRepository = mock(HookStorageChangeRepository.class);
         entityService = mock(EntityService.class);
-        hookService =
-                new HookServiceImpl(hookRepository, hookStorageRepository, hookStorageChangeRepository, entityService);
+        hookService = new HookServiceImpl(
+                hookRepository,
+                hookStorageRepository,
+                hookStorageChangeRepository,
+                entityService,
+                new CaffeineCacheManager(CACHE_NAME));
     }
 
     @Test
@@ -290,4 +300,44 @@ final class HookServiceTest extends RestJavaIntegrationTest {
         assertThat(result).isEmpty();
         verifyNoInteractions(hookStorageChangeRepository);
     }
+
+    @Test
+    void getHookStorageChangeCached() {
+        // given
+        final var ownerId = EntityId.of(OWNER_ID);
+        final var hookStorage = new HookStorage();
+        when(entityService.lookup(any())).thenReturn(ownerId);
+        when(hookStorageChangeRepository.findByKeyBetweenAndTimestampBetween(
+                        eq(OWNER_ID), eq(1L), any(byte[].class), any(byte[].class), anyLong(), anyLong(), any()))
+                .thenReturn(List.of(hookStorage));
+
+        final var request = historicalRequest(KEY_MIN_BYTES, "lte:100");
+
+        // when
+        final var result = hookService.getHookStorage(request).storage();
+        final var cached = hookService.getHookStorage(historicalRequest(KEY_MIN_BYTES.clone(), "lte:100"))
+                .storage();
+        hookService.getHookStorage(historicalRequest(KEY_MIN_BYTES, "lte:101"));
+        hookService.getHookStorage(historicalRequest(KEY_MAX_BYTES, "lte:100"));
+
+        // then
+        assertThat(result).containsExactly(hookStorage);
+        assertThat(cached).containsExactly(hookStorage);
+        verify(hookStorageChangeRepository, times(3))
+                .findByKeyBetweenAndTimestampBetween(
+                        eq(OWNER_ID), eq(1L), any(byte[].class), any(byte[].class), anyLong(), anyLong(), any());
+    }
+
+    private HookStorageRequest historicalRequest(byte[] keyLowerBound, String timestamp) {
+        final var timestamps = new TimestampParameter[] {TimestampParameter.valueOf(timestamp)};
+        return HookStorageRequest.builder()
+                .ownerId(EntityIdParameter.valueOf(String.valueOf(OWNER_ID)))
+                .hookId(1L)
+                .keyLowerBound(keyLowerBound)
+                .keyUpperBound(KEY_MAX_BYTES)
+                .limit(DEFAULT_LIMIT)
+                .order(Sort.Direction.ASC)
+                .timestamp(Bound.of(timestamps, TIMESTAMP, HOOK_STORAGE_CHANGE.CONSENSUS_TIMESTAMP))
+                .build();
+    }
 }
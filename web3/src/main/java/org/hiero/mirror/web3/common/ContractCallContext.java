@@ -4,9 +4,12 @@ package org.hiero.mirror.web3.common;
 
 import com.hedera.hapi.node.state.common.EntityNumber;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.AccessLevel;
@@ -29,6 +32,9 @@ public class ContractCallContext {
     @Getter(AccessLevel.NONE)
     private final Map<Integer, Map<Object, Object>> readCache = new HashMap<>();
 
+    @Getter(AccessLevel.NONE)
+    private final List<Future<?>> tasks = new ArrayList<>();
+
     @Getter
     private final long startTime = System.currentTimeMillis();
 
@@ -84,8 +90,34 @@ public class ContractCallContext {
 
     @SneakyThrows
     public static <T> T run(Function<ContractCallContext, T> function) {
-        return ScopedValue.where(SCOPED_VALUE, new ContractCallContext())
-                .call(() -> function.apply(SCOPED_VALUE.get()));
+        final var context = new ContractCallContext();
+        return ScopedValue.where(SCOPED_VALUE, context).call(() -> {
+            try {
+                return function.apply(context);
+            } finally {
+                context.cancelTasks();
+            }
+        });
+    }
+
+    /**
+     * Runs the supplier with the context of a call bound, so work offloaded to another thread is still subject to the
+     * request timeout. The context isn't thread safe, so the supplier must not modify it.
+     */
+    @SneakyThrows
+    public static <T> T runWith(ContractCallContext context, Supplier<T> supplier) {
+        if (context == null) {
+            return supplier.get();
+        }
+
+        return ScopedValue.where(SCOPED_VALUE, context).call(supplier::get);
+    }
+
+    /**
+     * Tracks a task started on behalf of the call so it's cancelled if it's still pending when the call ends.
+     */
+    public void addTask(Future<?> task) {
+        tasks.add(task);
     }
 
     /**
@@ -104,6 +136,11 @@ public class ContractCallContext {
         return callServiceParameters.getGasPrice() > 0 || callServiceParameters.getValue() > 0;
     }
 
+    private void cancelTasks() {
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+    }
+
     public void reset() {
         writeCache.clear();
     }
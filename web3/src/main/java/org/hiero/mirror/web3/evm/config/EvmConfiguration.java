@@ -4,10 +4,14 @@ package org.hiero.mirror.web3.evm.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.node.app.service.contract.impl.exec.gas.CustomGasCalculator;
 import com.hedera.node.app.service.entityid.EntityIdFactory;
 import com.hedera.node.app.service.entityid.impl.AppEntityIdFactory;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
@@ -25,7 +29,9 @@ import org.springframework.context.annotation.Primary;
 @RequiredArgsConstructor
 public class EvmConfiguration {
 
+    public static final String ACCOUNT_HYDRATION_EXECUTOR = "accountHydrationExecutor";
     public static final String CACHE_MANAGER_CONTRACT = "contract";
+    public static final String CACHE_MANAGER_CONTRACT_BYTECODE = "contractBytecode";
     public static final String CACHE_MANAGER_CONTRACT_SLOTS = "contractSlots";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
@@ -41,6 +47,7 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_TOKEN_TYPE = "tokenType";
     public static final String CACHE_NAME = "default";
     public static final String CACHE_NAME_CONTRACT = "contract";
+    public static final String CACHE_NAME_CONTRACT_BYTECODE = "contractBytecode";
     public static final String CACHE_NAME_EVM_ADDRESS = "evmAddress";
     public static final String CACHE_NAME_ALIAS = "alias";
     public static final String CACHE_NAME_NFT = "nft";
@@ -64,6 +71,21 @@ public class EvmConfiguration {
     private final CacheProperties cacheProperties;
     private final EvmProperties evmProperties;
 
+    @Bean(ACCOUNT_HYDRATION_EXECUTOR)
+    ExecutorService accountHydrationExecutor() {
+        // Virtual threads in a fixed size pool so the parallel account queries can't exhaust the connection pool
+        final int concurrency = evmProperties.getAccountHydrationConcurrency();
+        final var executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                1L,
+                TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                Thread.ofVirtual().name("account-hydration-", 0).factory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Bean(CACHE_MANAGER_CONTRACT)
     CacheManager cacheManagerContract() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -72,6 +94,18 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_CONTRACT_BYTECODE)
+    CacheManager cacheManagerContractBytecode() {
+        // Weighed by size since runtime bytecode ranges from a few bytes to the 24KB contract size limit
+        final var caffeine = Caffeine.from(cacheProperties.getContractBytecode())
+                .weigher((Object key, Object value) ->
+                        value instanceof Bytecode bytecode ? (int) bytecode.code().length() : 1);
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME_CONTRACT_BYTECODE));
+        caffeineCacheManager.setCaffeine(caffeine);
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_CONTRACT_SLOTS)
     CacheManager cacheManagerContractSlots() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
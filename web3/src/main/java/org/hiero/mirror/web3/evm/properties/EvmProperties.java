@@ -49,6 +49,13 @@ public class EvmProperties {
     private static final NavigableMap<Long, SemanticVersion> DEFAULT_EVM_VERSION_MAP =
             ImmutableSortedMap.of(0L, EVM_VERSION);
 
+    // Whether to query all the balance, allowance and token association details of an account in parallel when loaded
+    private boolean accountHydration = false;
+
+    // The maximum number of account detail queries run in parallel across all calls. Keep it below the connection pool
+    @Positive
+    private int accountHydrationConcurrency = 16;
+
     @Positive
     private long entityNumBuffer = 1000L;
 
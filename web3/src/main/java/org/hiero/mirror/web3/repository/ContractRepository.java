@@ -2,18 +2,13 @@
 
 package org.hiero.mirror.web3.repository;
 
-import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT;
-import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
-
 import java.util.Optional;
 import org.hiero.mirror.common.domain.contract.Contract;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface ContractRepository extends CrudRepository<Contract, Long> {
 
-    @Cacheable(cacheNames = CACHE_NAME_CONTRACT, cacheManager = CACHE_MANAGER_CONTRACT, unless = "#result == null")
     @Query(value = "select runtime_bytecode from contract where id = :contractId", nativeQuery = true)
     Optional<byte[]> findRuntimeBytecode(final Long contractId);
 }
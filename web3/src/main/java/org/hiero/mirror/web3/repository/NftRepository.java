@@ -67,6 +67,15 @@ public interface NftRepository extends CrudRepository<Nft, AbstractNft.Id> {
             """, nativeQuery = true)
     Optional<Nft> findActiveByIdAndTimestamp(long tokenId, long serialNumber, long blockTimestamp);
 
+    /**
+     * Retrieves the current number of nfts owned by accountId from the counts maintained by the importer.
+     *
+     * @param accountId the ID of the account
+     * @return the number of owned nfts, or empty if the importer has no counts for the account
+     */
+    @Query(value = "select nft_count from account_token_count where account_id = ?1", nativeQuery = true)
+    Optional<Long> findNftCountByAccountId(long accountId);
+
     @Query(
             value = "select count(*) from Nft n "
                     + "join Entity e on e.id = n.token_id "
@@ -38,6 +38,36 @@ public interface TokenAccountRepository extends CrudRepository<TokenAccount, Abs
                     """, nativeQuery = true)
     Optional<TokenAccount> findById(@Param("id") AbstractTokenAccount.Id id);
 
+    /**
+     * Retrieves the current number of associated tokens (and if their balance is positive) by accountId from the counts
+     * maintained by the importer.
+     *
+     * @param accountId the ID of the account
+     * @return List of {@link TokenAccountAssociationsCount}, or empty if the importer has no counts for the account
+     */
+    @Query(value = """
+                    select positive_balance_count as tokenCount, true as isPositiveBalance
+                    from account_token_count
+                    where account_id = ?1
+                    union all
+                    select associated_count - positive_balance_count as tokenCount, false as isPositiveBalance
+                    from account_token_count
+                    where account_id = ?1
+                    """, nativeQuery = true)
+    List<TokenAccountAssociationsCount> findAccountTokenCountByAccountId(long accountId);
+
+    /**
+     * Checks whether the importer has completed the asynchronous backfill of account_token_count. Until then, the
+     * counts of the accounts not yet backfilled only include the changes ingested since the table was created.
+     *
+     * @return true if the backfill is complete
+     */
+    @Query(value = """
+                    select exists(select 1 from flyway_schema_history
+                      where description = 'Backfill account_token_count from token_account and nft' and checksum > 0)
+                    """, nativeQuery = true)
+    boolean isAccountTokenCountBackfilled();
+
     @Cacheable(cacheNames = CACHE_NAME_TOKEN_ACCOUNT_COUNT, cacheManager = CACHE_MANAGER_TOKEN)
     @Query(
             value = "select count(*) as tokenCount, balance>0 as isPositiveBalance from token_account "
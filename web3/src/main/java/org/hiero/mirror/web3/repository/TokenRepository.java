@@ -97,4 +97,22 @@ public interface TokenRepository extends CrudRepository<Token, Long> {
                     select coalesce((select sum(balance) from snapshot), 0) + coalesce((select sum(amount) from change), 0)
                     """, nativeQuery = true)
     long findFungibleTotalSupplyByTokenIdAndTimestamp(long tokenId, long blockTimestamp, long treasuryAccountId);
+
+    /**
+     * Finds the token total supply recorded by the importer at or before a specific block timestamp. The supply history
+     * is only recorded going forward, so an empty result means the supply has to be derived from the balance snapshot
+     * and the token transfers instead.
+     *
+     * @param tokenId         the ID of the token to be retrieved.
+     * @param blockTimestamp  the block timestamp used to filter the results.
+     * @return an Optional containing the token's total supply at the specified timestamp.
+     */
+    @Query(value = """
+                    select total_supply
+                    from token_supply_history
+                    where token_id = ?1 and consensus_timestamp <= ?2
+                    order by consensus_timestamp desc
+                    limit 1
+                    """, nativeQuery = true)
+    Optional<Long> findTotalSupplyByTokenIdAndTimestamp(long tokenId, long blockTimestamp);
 }
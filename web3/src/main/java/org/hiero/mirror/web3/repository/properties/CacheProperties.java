@@ -19,7 +19,10 @@ public class CacheProperties {
     private static final String ENTITY_CACHE_CONFIG = "expireAfterWrite=1s,maximumSize=10000,recordStats";
 
     @NotBlank
-    private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
+    private String contract = "expireAfterAccess=1h,maximumSize=50000,recordStats";
+
+    @NotBlank
+    private String contractBytecode = "expireAfterAccess=1h,maximumWeight=50000000,recordStats";
 
     @NotBlank
     private String contractSlots = "expireAfterAccess=5m,maximumSize=3000,recordStats";
@@ -22,6 +22,9 @@ import com.hedera.services.utils.EntityIdUtils;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.hiero.mirror.common.domain.SystemEntity;
@@ -43,8 +46,11 @@ import org.jspecify.annotations.NonNull;
 
 public abstract class AbstractAliasedAccountReadableKVState<K, V> extends AbstractReadableKVState<K, V> {
 
+    private static final long BACKFILL_CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(1L);
+
     protected final SystemEntity systemEntity;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final ExecutorService accountHydrationExecutor;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
     private final NftRepository nftRepository;
@@ -52,6 +58,9 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
     private final TokenAllowanceRepository tokenAllowanceRepository;
     private final EvmProperties evmProperties;
 
+    private volatile boolean accountTokenCountBackfilled;
+    private volatile long accountTokenCountCheckedAt;
+
     protected AbstractAliasedAccountReadableKVState(
             int stateId,
             @NonNull AccountBalanceRepository accountBalanceRepository,
@@ -61,9 +70,11 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
             @NonNull SystemEntity systemEntity,
             @NonNull TokenAccountRepository tokenAccountRepository,
             @NonNull TokenAllowanceRepository tokenAllowanceRepository,
-            @NonNull EvmProperties evmProperties) {
+            @NonNull EvmProperties evmProperties,
+            @NonNull ExecutorService accountHydrationExecutor) {
         super(TokenService.NAME, stateId);
         this.accountBalanceRepository = accountBalanceRepository;
+        this.accountHydrationExecutor = accountHydrationExecutor;
         this.cryptoAllowanceRepository = cryptoAllowanceRepository;
         this.nftAllowanceRepository = nftAllowanceRepository;
         this.nftRepository = nftRepository;
@@ -137,10 +148,52 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
         return key;
     }
 
+    /**
+     * Wraps a query for an account detail in a memoized supplier. When account hydration is enabled, the query is
+     * submitted to the bounded hydration executor immediately so the details of an account are fetched in parallel
+     * instead of in sequence as the EVM reads them. The query runs with the caller's {@link ContractCallContext} bound
+     * so it's subject to the request timeout, must not modify it, and is cancelled if still pending when the call ends.
+     */
+    private <T> Supplier<T> hydrate(final Supplier<T> query) {
+        if (!evmProperties.isAccountHydration()) {
+            return Suppliers.memoize(query);
+        }
+
+        final var context = ContractCallContext.isInitialized() ? ContractCallContext.get() : null;
+        final var future = CompletableFuture.supplyAsync(
+                () -> ContractCallContext.runWith(context, query), accountHydrationExecutor);
+        if (context != null) {
+            context.addTask(future);
+        }
+
+        return Suppliers.memoize(() -> {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        });
+    }
+
     private Supplier<Long> getOwnedNfts(Long accountId, final Optional<Long> timestamp) {
-        return Suppliers.memoize(() -> timestamp
+        return hydrate(() -> timestamp
                 .map(t -> nftRepository.countByAccountIdAndTimestampNotDeleted(accountId, t))
-                .orElseGet(() -> nftRepository.countByAccountIdNotDeleted(accountId)));
+                .orElseGet(() -> getNftCount(accountId)));
+    }
+
+    // Prefer the counts maintained by the importer over counting the account's nft rows once they're backfilled
+    private long getNftCount(long accountId) {
+        if (isAccountTokenCountBackfilled()) {
+            final var count = nftRepository.findNftCountByAccountId(accountId);
+            if (count.isPresent()) {
+                return count.get();
+            }
+        }
+
+        return nftRepository.countByAccountIdNotDeleted(accountId);
     }
 
     /**
@@ -151,23 +204,25 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
      * `findHistoricalAccountBalanceUpToTimestamp`
      */
     private Supplier<Long> getAccountBalance(final Entity entity, final Optional<Long> timestamp) {
-        return Suppliers.memoize(() -> timestamp
-                .map(t -> {
-                    Long createdTimestamp = entity.getCreatedTimestamp();
-                    if (createdTimestamp == null || t >= createdTimestamp) {
-                        long treasuryAccountId = systemEntity.treasuryAccount().getId();
-                        final var historicalBalance = accountBalanceRepository
-                                .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), t, treasuryAccountId)
-                                .orElse(0L);
-                        return getBalanceOrDefaultToMinimum(entity, historicalBalance);
-                    } else {
-                        return getBalanceOrDefaultToMinimum(entity, 0L);
-                    }
-                })
-                .orElseGet(() -> {
-                    final var currentBalance = entity.getBalance();
-                    return getBalanceOrDefaultToMinimum(entity, currentBalance);
-                }));
+        if (timestamp.isEmpty()) {
+            return Suppliers.memoize(() -> getBalanceOrDefaultToMinimum(entity, entity.getBalance()));
+        }
+
+        final long t = timestamp.get();
+        final var balance = hydrate(() -> {
+            Long createdTimestamp = entity.getCreatedTimestamp();
+            if (createdTimestamp == null || t >= createdTimestamp) {
+                long treasuryAccountId = systemEntity.treasuryAccount().getId();
+                return accountBalanceRepository
+                        .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), t, treasuryAccountId)
+                        .orElse(0L);
+            }
+
+            return 0L;
+        });
+
+        // The minimum balance depends on the thread bound ContractCallContext so it's applied on the calling thread
+        return Suppliers.memoize(() -> getBalanceOrDefaultToMinimum(entity, balance.get()));
     }
 
     private Long getBalanceOrDefaultToMinimum(final Entity entity, final Long balance) {
@@ -194,7 +249,7 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
 
     private Supplier<List<AccountCryptoAllowance>> getCryptoAllowances(
             final Long ownerId, final Optional<Long> timestamp) {
-        return Suppliers.memoize(() -> timestamp
+        return hydrate(() -> timestamp
                 .map(t -> cryptoAllowanceRepository.findByOwnerAndTimestamp(
                         ownerId, t, systemEntity.hederaTokenServiceContract().getId()))
                 .orElseGet(() -> cryptoAllowanceRepository.findByOwner(ownerId))
@@ -205,7 +260,7 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
 
     private Supplier<List<AccountFungibleTokenAllowance>> getFungibleTokenAllowances(
             final Long ownerId, final Optional<Long> timestamp) {
-        return Suppliers.memoize(() -> timestamp
+        return hydrate(() -> timestamp
                 .map(t -> tokenAllowanceRepository.findByOwnerAndTimestamp(ownerId, t))
                 .orElseGet(() -> tokenAllowanceRepository.findByOwner(ownerId))
                 .stream()
@@ -215,7 +270,7 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
 
     private Supplier<List<AccountApprovalForAllAllowance>> getApproveForAllNfts(
             final Long ownerId, final Optional<Long> timestamp) {
-        return Suppliers.memoize(() -> timestamp
+        return hydrate(() -> timestamp
                 .map(t -> nftAllowanceRepository.findByOwnerAndTimestampAndApprovedForAllIsTrue(ownerId, t))
                 .orElseGet(() -> nftAllowanceRepository.findByOwnerAndApprovedForAllIsTrue(ownerId))
                 .stream()
@@ -258,15 +313,46 @@ public abstract class AbstractAliasedAccountReadableKVState<K, V> extends Abstra
 
     private Supplier<TokenAccountBalances> getNumberOfAllAndPositiveBalanceTokenAssociations(
             long accountId, final Optional<Long> timestamp) {
-        return Suppliers.memoize(() -> getTokenAccountBalances(timestamp
+        return hydrate(() -> getTokenAccountBalances(timestamp
                 .map(t -> tokenAccountRepository.countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(
                         accountId, t))
-                .orElseGet(
-                        () -> tokenAccountRepository.countByAccountIdAndAssociatedGroupedByBalanceIsPositive(accountId))
+                .orElseGet(() -> getTokenAccountCounts(accountId))
                 .stream()
                 .toList()));
     }
 
+    // Prefer the counts maintained by the importer over aggregating the account's token_account rows once backfilled
+    private List<TokenAccountAssociationsCount> getTokenAccountCounts(long accountId) {
+        if (isAccountTokenCountBackfilled()) {
+            final var counts = tokenAccountRepository.findAccountTokenCountByAccountId(accountId);
+            if (!counts.isEmpty()) {
+                return counts;
+            }
+        }
+
+        return tokenAccountRepository.countByAccountIdAndAssociatedGroupedByBalanceIsPositive(accountId);
+    }
+
+    /**
+     * Checks whether the importer has completed backfilling account_token_count, since the counts of accounts not yet
+     * backfilled are partial. Once complete it's never checked again, while until then it's checked at most once per
+     * interval.
+     */
+    private boolean isAccountTokenCountBackfilled() {
+        if (accountTokenCountBackfilled) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - accountTokenCountCheckedAt < BACKFILL_CHECK_INTERVAL) {
+            return false;
+        }
+
+        accountTokenCountCheckedAt = now;
+        accountTokenCountBackfilled = tokenAccountRepository.isAccountTokenCountBackfilled();
+        return accountTokenCountBackfilled;
+    }
+
     private int getStorageKVPairs(final Entity entity) {
         if (!CONTRACT.equals(entity.getType())) {
             return 0;
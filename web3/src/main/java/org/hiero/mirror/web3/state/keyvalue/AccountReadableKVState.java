@@ -6,6 +6,7 @@ import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.AC
 import static org.hiero.mirror.common.domain.entity.EntityType.ACCOUNT;
 import static org.hiero.mirror.common.domain.entity.EntityType.CONTRACT;
 import static org.hiero.mirror.common.util.DomainUtils.toEvmAddress;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.ACCOUNT_HYDRATION_EXECUTOR;
 import static org.hiero.mirror.web3.state.Utils.hexStringToLong;
 
 import com.hedera.hapi.node.base.AccountID;
@@ -17,6 +18,7 @@ import com.hedera.services.utils.EntityIdUtils;
 import jakarta.inject.Named;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
@@ -31,6 +33,7 @@ import org.hiero.mirror.web3.state.CommonEntityAccessor;
 import org.hiero.mirror.web3.utils.AccountDetector;
 import org.hiero.mirror.web3.viewmodel.StateOverride;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 /**
  * This class serves as a repository layer between hedera app services read only state and the Postgres database in
@@ -59,7 +62,8 @@ public class AccountReadableKVState extends AbstractAliasedAccountReadableKVStat
             @NonNull TokenAccountRepository tokenAccountRepository,
             @NonNull AccountBalanceRepository accountBalanceRepository,
             @NonNull EvmProperties evmProperties,
-            @NonNull AliasedAccountCacheManager aliasedAccountCacheManager) {
+            @NonNull AliasedAccountCacheManager aliasedAccountCacheManager,
+            @NonNull @Qualifier(ACCOUNT_HYDRATION_EXECUTOR) ExecutorService accountHydrationExecutor) {
         super(
                 STATE_ID,
                 accountBalanceRepository,
@@ -69,7 +73,8 @@ public class AccountReadableKVState extends AbstractAliasedAccountReadableKVStat
                 systemEntity,
                 tokenAccountRepository,
                 tokenAllowanceRepository,
-                evmProperties);
+                evmProperties,
+                accountHydrationExecutor);
         this.commonEntityAccessor = commonEntityAccessor;
         this.aliasedAccountCacheManager = aliasedAccountCacheManager;
         this.systemAccounts = Set.of(
@@ -3,11 +3,13 @@
 package org.hiero.mirror.web3.state.keyvalue;
 
 import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ALIASES_STATE_ID;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.ACCOUNT_HYDRATION_EXECUTOR;
 
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.service.token.TokenService;
 import jakarta.inject.Named;
+import java.util.concurrent.ExecutorService;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
@@ -20,6 +22,7 @@ import org.hiero.mirror.web3.repository.TokenAllowanceRepository;
 import org.hiero.mirror.web3.state.AliasedAccountCacheManager;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 @Named
 public class AliasesReadableKVState extends AbstractAliasedAccountReadableKVState<ProtoBytes, AccountID> {
@@ -38,7 +41,8 @@ public class AliasesReadableKVState extends AbstractAliasedAccountReadableKVStat
             @NonNull TokenAccountRepository tokenAccountRepository,
             @NonNull AccountBalanceRepository accountBalanceRepository,
             @NonNull EvmProperties evmProperties,
-            @NonNull AliasedAccountCacheManager aliasedAccountCacheManager) {
+            @NonNull AliasedAccountCacheManager aliasedAccountCacheManager,
+            @NonNull @Qualifier(ACCOUNT_HYDRATION_EXECUTOR) ExecutorService accountHydrationExecutor) {
         super(
                 STATE_ID,
                 accountBalanceRepository,
@@ -48,7 +52,8 @@ public class AliasesReadableKVState extends AbstractAliasedAccountReadableKVStat
                 systemEntity,
                 tokenAccountRepository,
                 tokenAllowanceRepository,
-                evmProperties);
+                evmProperties,
+                accountHydrationExecutor);
         this.commonEntityAccessor = commonEntityAccessor;
         this.aliasedAccountCacheManager = aliasedAccountCacheManager;
     }
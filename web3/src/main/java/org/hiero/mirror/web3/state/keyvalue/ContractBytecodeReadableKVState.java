@@ -6,6 +6,10 @@ import static com.hedera.node.app.service.contract.impl.schemas.V0490ContractSch
 import static com.hedera.services.utils.EntityIdUtils.entityIdFromContractId;
 import static org.hiero.mirror.common.util.DomainUtils.isLongZeroAddress;
 import static org.hiero.mirror.web3.convert.BytesDecoder.hexToBytes;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_BYTECODE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_BYTECODE;
 
 import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.state.contract.Bytecode;
@@ -13,6 +17,7 @@ import com.hedera.node.app.service.contract.ContractService;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import jakarta.inject.Named;
 import java.util.Optional;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
@@ -20,17 +25,27 @@ import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.repository.ContractRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 @Named
 final class ContractBytecodeReadableKVState extends AbstractContractReadableKVState<ContractID, Bytecode> {
 
     public static final int STATE_ID = BYTECODE_STATE_ID;
 
+    private final Cache bytecodeCache;
+    private final Cache contractCache;
     private final ContractRepository contractRepository;
 
     ContractBytecodeReadableKVState(
-            final ContractRepository contractRepository, CommonEntityAccessor commonEntityAccessor) {
+            final ContractRepository contractRepository,
+            CommonEntityAccessor commonEntityAccessor,
+            @Qualifier(CACHE_MANAGER_CONTRACT) CacheManager contractCacheManager,
+            @Qualifier(CACHE_MANAGER_CONTRACT_BYTECODE) CacheManager bytecodeCacheManager) {
         super(ContractService.NAME, STATE_ID, commonEntityAccessor);
+        this.bytecodeCache = bytecodeCacheManager.getCache(CACHE_NAME_CONTRACT_BYTECODE);
+        this.contractCache = contractCacheManager.getCache(CACHE_NAME_CONTRACT);
         this.contractRepository = contractRepository;
     }
 
@@ -43,11 +58,29 @@ final class ContractBytecodeReadableKVState extends AbstractContractReadableKVSt
         }
 
         final var entityId = toEntityId(contractID);
+        return findRuntimeBytecode(entityId.getId());
+    }
+
+    /**
+     * Finds the runtime bytecode of a contract, caching the code hash per contract and the bytecode per code hash. The
+     * many proxy and factory deployed contracts sharing the same runtime code then share a single cached instance.
+     */
+    private Bytecode findRuntimeBytecode(final long contractId) {
+        final var codeHash = contractCache.get(contractId, Bytes.class);
+        if (codeHash != null) {
+            final var bytecode = bytecodeCache.get(codeHash, Bytecode.class);
+            if (bytecode != null) {
+                return bytecode;
+            }
+        }
 
         return contractRepository
-                .findRuntimeBytecode(entityId.getId())
-                .map(Bytes::wrap)
-                .map(Bytecode::new)
+                .findRuntimeBytecode(contractId)
+                .map(runtimeBytecode -> {
+                    final var hash = Bytes.wrap(new Keccak.Digest256().digest(runtimeBytecode));
+                    contractCache.put(contractId, hash);
+                    return bytecodeCache.get(hash, () -> new Bytecode(Bytes.wrap(runtimeBytecode)));
+                })
                 .orElse(null);
     }
 
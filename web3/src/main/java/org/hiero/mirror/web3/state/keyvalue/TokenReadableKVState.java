@@ -136,8 +136,11 @@ final class TokenReadableKVState extends AbstractReadableKVState<TokenID, Token>
 
     private Long getTotalSupplyHistorical(boolean isFungible, long tokenId, long timestamp) {
         if (isFungible) {
-            long treasuryAccountId = systemEntity.treasuryAccount().getId();
-            return tokenRepository.findFungibleTotalSupplyByTokenIdAndTimestamp(tokenId, timestamp, treasuryAccountId);
+            return tokenRepository.findTotalSupplyByTokenIdAndTimestamp(tokenId, timestamp).orElseGet(() -> {
+                long treasuryAccountId = systemEntity.treasuryAccount().getId();
+                return tokenRepository.findFungibleTotalSupplyByTokenIdAndTimestamp(
+                        tokenId, timestamp, treasuryAccountId);
+            });
         } else {
             return nftRepository.findNftTotalSupplyByTokenIdAndTimestamp(tokenId, timestamp);
         }
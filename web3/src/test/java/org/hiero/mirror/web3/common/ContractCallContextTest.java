@@ -5,6 +5,7 @@ package org.hiero.mirror.web3.common;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.web3.ContextExtension;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
@@ -21,6 +22,25 @@ class ContractCallContextTest {
         assertThat(ContractCallContext.get()).isEqualTo(context);
     }
 
+    @Test
+    void testRunWith() {
+        var context = ContractCallContext.get();
+        var bound = CompletableFuture.supplyAsync(() -> ContractCallContext.runWith(context, ContractCallContext::get));
+        var unbound = CompletableFuture.supplyAsync(ContractCallContext::isInitialized);
+        assertThat(bound.join()).isSameAs(context);
+        assertThat(unbound.join()).isFalse();
+    }
+
+    @Test
+    void testRunCancelsPendingTasks() {
+        var task = new CompletableFuture<Long>();
+        ContractCallContext.run(context -> {
+            context.addTask(task);
+            return null;
+        });
+        assertThat(task).isCancelled();
+    }
+
     @Test
     void testReset() {
         var context = ContractCallContext.get();
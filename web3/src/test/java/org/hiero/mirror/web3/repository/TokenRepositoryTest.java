@@ -276,6 +276,28 @@ class TokenRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(expectedTotalSupply);
     }
 
+    @Test
+    void findTotalSupplyByTokenIdAndTimestamp() {
+        // given
+        var tokenSupplyHistory = domainBuilder.tokenSupplyHistory().persist();
+        long tokenId = tokenSupplyHistory.getTokenId();
+        long timestamp = tokenSupplyHistory.getConsensusTimestamp();
+        domainBuilder
+                .tokenSupplyHistory()
+                .customize(t -> t.consensusTimestamp(timestamp - 1).tokenId(tokenId))
+                .persist();
+        domainBuilder
+                .tokenSupplyHistory()
+                .customize(t -> t.consensusTimestamp(timestamp + 2).tokenId(tokenId))
+                .persist();
+
+        // when, then
+        assertThat(tokenRepository.findTotalSupplyByTokenIdAndTimestamp(tokenId, timestamp + 1))
+                .contains(tokenSupplyHistory.getTotalSupply());
+        assertThat(tokenRepository.findTotalSupplyByTokenIdAndTimestamp(tokenId, timestamp - 2))
+                .isEmpty();
+    }
+
     @Test
     void findTokenTypeById() {
         final var token = domainBuilder
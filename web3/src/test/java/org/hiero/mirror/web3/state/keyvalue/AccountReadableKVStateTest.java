@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,7 +36,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.entity.AbstractEntity;
@@ -121,6 +125,9 @@ class AccountReadableKVStateTest {
     @AutoClose
     private static final MockedStatic<ContractCallContext> contextMockedStatic = mockStatic(ContractCallContext.class);
 
+    @AutoClose
+    private final ExecutorService accountHydrationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     private Entity entity;
     private Entity token;
     private EntityId treasuryAccountId;
@@ -172,7 +179,8 @@ class AccountReadableKVStateTest {
                 tokenAccountRepository,
                 accountBalanceRepository,
                 evmProperties,
-                aliasedAccountCacheManager);
+                aliasedAccountCacheManager,
+                accountHydrationExecutor);
 
         treasuryAccountId = systemEntity.treasuryAccount();
         entity = new Entity();
@@ -200,6 +208,7 @@ class AccountReadableKVStateTest {
         token.setType(EntityType.TOKEN);
 
         contextMockedStatic.when(ContractCallContext::get).thenReturn(contractCallContext);
+        contextMockedStatic.when(ContractCallContext::isInitialized).thenReturn(false);
     }
 
     @Test
@@ -366,6 +375,77 @@ class AccountReadableKVStateTest {
         verify(nftRepository).countByAccountIdNotDeleted(entity.getId());
     }
 
+    @Test
+    void accountOwnedNftsFromAccountTokenCountWhenBackfilled() {
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
+        when(commonEntityAccessor.get(ACCOUNT_ID, Optional.empty())).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.isAccountTokenCountBackfilled()).thenReturn(true);
+        long ownedNfts = 5;
+        when(nftRepository.findNftCountByAccountId(entity.getId())).thenReturn(Optional.of(ownedNfts));
+
+        assertThat(accountReadableKVState.get(ACCOUNT_ID))
+                .satisfies(account -> assertThat(account).returns(ownedNfts, Account::numberOwnedNfts));
+
+        verify(nftRepository, never()).countByAccountIdNotDeleted(entity.getId());
+    }
+
+    @Test
+    void accountOwnedNftsIgnoresAccountTokenCountUntilBackfilled() {
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
+        when(commonEntityAccessor.get(ACCOUNT_ID, Optional.empty())).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.isAccountTokenCountBackfilled()).thenReturn(false);
+        long ownedNfts = 20;
+        when(nftRepository.countByAccountIdNotDeleted(any())).thenReturn(ownedNfts);
+
+        assertThat(accountReadableKVState.get(ACCOUNT_ID))
+                .satisfies(account -> assertThat(account).returns(ownedNfts, Account::numberOwnedNfts));
+
+        verify(nftRepository, never()).findNftCountByAccountId(anyLong());
+        verify(tokenAccountRepository, never()).findAccountTokenCountByAccountId(anyLong());
+    }
+
+    @Test
+    void accountHydrationHistorical() {
+        // given
+        when(evmProperties.isAccountHydration()).thenReturn(true);
+        when(contractCallContext.getTimestamp()).thenReturn(timestamp);
+        when(commonEntityAccessor.get(ACCOUNT_ID, timestamp)).thenReturn(Optional.ofNullable(entity));
+        contextMockedStatic.when(ContractCallContext::isInitialized).thenReturn(true);
+        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(
+                        entity.getId(), timestamp.get(), treasuryAccountId.getId()))
+                .thenReturn(Optional.of(BALANCE));
+        long ownedNfts = 20;
+        final var boundContext = new AtomicReference<ContractCallContext>();
+        when(nftRepository.countByAccountIdAndTimestampNotDeleted(entity.getId(), timestamp.get()))
+                .thenAnswer(invocation -> {
+                    boundContext.set(ContractCallContext.get());
+                    return ownedNfts;
+                });
+
+        // when
+        final var account = accountReadableKVState.get(ACCOUNT_ID);
+
+        // then all details are queried before they are read with the caller's context bound
+        verify(contractCallContext, times(6)).addTask(any());
+        verify(nftRepository, timeout(1000L)).countByAccountIdAndTimestampNotDeleted(entity.getId(), timestamp.get());
+        verify(accountBalanceRepository, timeout(1000L))
+                .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get(), treasuryAccountId.getId());
+        verify(cryptoAllowanceRepository, timeout(1000L))
+                .findByOwnerAndTimestamp(
+                        entity.getId(), timestamp.get(), systemEntity.hederaTokenServiceContract().getId());
+        verify(tokenAllowanceRepository, timeout(1000L)).findByOwnerAndTimestamp(entity.getId(), timestamp.get());
+        verify(nftAllowanceRepository, timeout(1000L))
+                .findByOwnerAndTimestampAndApprovedForAllIsTrue(entity.getId(), timestamp.get());
+        verify(tokenAccountRepository, timeout(1000L))
+                .countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(entity.getId(), timestamp.get());
+        assertThat(account)
+                .returns(ownedNfts, Account::numberOwnedNfts)
+                .returns(BALANCE, Account::tinybarBalance)
+                .returns(List.of(), Account::cryptoAllowances)
+                .returns(0, Account::numberAssociations);
+        assertThat(boundContext.get()).isSameAs(contractCallContext);
+    }
+
     @Test
     void accountOwnedNftsMatchesValueFromRepositoryHistorical() {
         when(contractCallContext.getTimestamp()).thenReturn(timestamp);
@@ -625,6 +705,21 @@ class AccountReadableKVStateTest {
                 .countByAccountIdAndAssociatedGroupedByBalanceIsPositive(entity.getId());
     }
 
+    @Test
+    void numTokenAssociationsFromAccountTokenCountWhenBackfilled() {
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
+        when(commonEntityAccessor.get(ACCOUNT_ID, Optional.empty())).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.isAccountTokenCountBackfilled()).thenReturn(true);
+        when(tokenAccountRepository.findAccountTokenCountByAccountId(entity.getId()))
+                .thenReturn(associationsCount);
+
+        assertThat(accountReadableKVState.get(ACCOUNT_ID)).satisfies(account -> assertThat(account)
+                .returns(POSITIVE_BALANCES + NEGATIVE_BALANCES, Account::numberAssociations)
+                .returns(POSITIVE_BALANCES, Account::numberPositiveBalances));
+
+        verify(tokenAccountRepository, never()).countByAccountIdAndAssociatedGroupedByBalanceIsPositive(anyLong());
+    }
+
     @Test
     void whenAccountNumIsReadPutAliasInCache() {
         when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
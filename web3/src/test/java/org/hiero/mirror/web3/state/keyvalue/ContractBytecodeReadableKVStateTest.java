@@ -4,11 +4,14 @@ package org.hiero.mirror.web3.state.keyvalue;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hiero.mirror.web3.convert.BytesDecoder.hexToBytes;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_BYTECODE;
 import static org.hiero.mirror.web3.evm.utils.EvmTokenUtils.entityIdNumFromEvmAddress;
 import static org.hiero.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,11 +34,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class ContractBytecodeReadableKVStateTest {
@@ -71,7 +74,6 @@ class ContractBytecodeReadableKVStateTest {
             .id(1L)
             .build();
 
-    @InjectMocks
     private ContractBytecodeReadableKVState contractBytecodeReadableKVState;
 
     private static MockedStatic<ContractCallContext> contextMockedStatic;
@@ -98,6 +100,11 @@ class ContractBytecodeReadableKVStateTest {
     @BeforeEach
     void setup() {
         contextMockedStatic.when(ContractCallContext::get).thenReturn(contractCallContext);
+        contractBytecodeReadableKVState = new ContractBytecodeReadableKVState(
+                contractRepository,
+                commonEntityAccessor,
+                new ConcurrentMapCacheManager(CACHE_NAME_CONTRACT),
+                new ConcurrentMapCacheManager(CACHE_NAME_CONTRACT_BYTECODE));
     }
 
     @Test
@@ -133,6 +140,32 @@ class ContractBytecodeReadableKVStateTest {
                 .satisfies(bytecode -> assertThat(bytecode).isEqualTo(BYTECODE));
     }
 
+    @Test
+    void whenContractNumIsSetTwiceReturnsCachedRuntimeBytecode() {
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID_WITH_NUM.getId()))
+                .thenReturn(Optional.of(BYTES.toByteArray()));
+
+        final var bytecode = contractBytecodeReadableKVState.readFromDataSource(CONTRACT_ID_WITH_NUM);
+
+        assertThat(contractBytecodeReadableKVState.readFromDataSource(CONTRACT_ID_WITH_NUM))
+                .isSameAs(bytecode);
+        verify(contractRepository, times(1)).findRuntimeBytecode(ENTITY_ID_WITH_NUM.getId());
+    }
+
+    @Test
+    void whenContractsShareRuntimeBytecodeReturnSameInstance() {
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID_WITH_NUM.getId()))
+                .thenReturn(Optional.of(BYTES.toByteArray()));
+        when(contractRepository.findRuntimeBytecode(ENTITY_ID_WITH_MIRROR_EVM_ADDRESS.getId()))
+                .thenReturn(Optional.of(BYTES.toByteArray()));
+
+        final var bytecode = contractBytecodeReadableKVState.readFromDataSource(CONTRACT_ID_WITH_NUM);
+
+        assertThat(bytecode).isEqualTo(BYTECODE);
+        assertThat(contractBytecodeReadableKVState.readFromDataSource(CONTRACT_ID_WITH_MIRROR_EVM_ADDRESS))
+                .isSameAs(bytecode);
+    }
+
     @Test
     void whenContractRuntimeBytecodeIsNullReturnNull() {
         when(contractRepository.findRuntimeBytecode(ENTITY_ID_WITH_NUM.getId())).thenReturn(Optional.empty());